@@ -0,0 +1,24 @@
+package mars.rover.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+    private static final String ALL_BENCHMARKS = "mars\\.rover\\.benchmark\\..*";
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] arguments) throws RunnerException {
+        String include = arguments.length > 0 ? arguments[0] : ALL_BENCHMARKS;
+        String resultFile = arguments.length > 1 ? arguments[1] : DEFAULT_RESULT_FILE;
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,40 @@
+package mars.rover.benchmark;
+
+import mars.rover.CardinalCompassPointEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardinalCompassPointBenchmark {
+
+    private final String[] headings = {"N", "E", "S", "W", "X"};
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (String heading : headings) {
+            blackhole.consume(CardinalCompassPointEnum.get(heading));
+        }
+    }
+
+    @Benchmark
+    public void isValidCardinalCompassPoint(Blackhole blackhole) {
+        for (String heading : headings) {
+            blackhole.consume(CardinalCompassPointEnum.isValidCardinalCompassPoint(heading));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandExecutionBenchmark {
+
+    private static final int PLATEAU_SIZE = Integer.MAX_VALUE - 1;
+    private static final int START = PLATEAU_SIZE / 2;
+
+    @Param({"10000", "10000000"})
+    private int tapeLength;
+
+    private FleetState fleetState;
+    private RoboticRoverCommandExecutor commandExecutor;
+
+    @Setup
+    public void setUp() throws ValidationException {
+        String command = MissionGenerator.generatePatternedTape(new Random(42), tapeLength);
+        RoboticRover roboticRover = new RoboticRover(START + " " + START + " N", command);
+        fleetState = FleetState.of(Collections.singletonList(roboticRover));
+        commandExecutor = new RoboticRoverCommandExecutor(PLATEAU_SIZE, PLATEAU_SIZE);
+        roboticRover.getCommandProgram().optimize();
+    }
+
+    @Benchmark
+    public long commandByCommand() throws ValidationException {
+        fleetState.setPose(0, START, START, 0);
+        commandExecutor.executeCommandByCommand(fleetState, 0);
+        return fleetState.getX(0);
+    }
+
+    @Benchmark
+    public long optimized() throws ValidationException {
+        fleetState.setPose(0, START, START, 0);
+        commandExecutor.execute(fleetState, 0);
+        return fleetState.getX(0);
+    }
+}
@@ -0,0 +1,73 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.ParallelMissionExecutor;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FleetExecutionBenchmark {
+
+    private static final int TAPE_LENGTH = 256;
+
+    @Param({"100", "10000"})
+    private int maxPlateauCoordinate;
+
+    @Param({"1000", "100000"})
+    private int fleetSize;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private FleetState initialFleetState;
+    private FleetState fleetState;
+    private RoboticRoverCommandExecutor commandExecutor;
+    private ParallelMissionExecutor missionExecutor;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws ValidationException {
+        List<RoboticRover> fleet = MissionGenerator.generateFleet(new Random(42), maxPlateauCoordinate, fleetSize, TAPE_LENGTH);
+        initialFleetState = FleetState.of(fleet);
+        commandExecutor = new RoboticRoverCommandExecutor(maxPlateauCoordinate, maxPlateauCoordinate);
+        missionExecutor = new ParallelMissionExecutor(parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        fleetState = initialFleetState.copy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        missionExecutor.close();
+    }
+
+    @Benchmark
+    public FleetState executeFleet() throws ValidationException {
+        missionExecutor.execute(commandExecutor, fleetState);
+        return fleetState;
+    }
+}
@@ -0,0 +1,83 @@
+package mars.rover.benchmark;
+
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadingEngineBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int tapeLength;
+
+    private byte[] commands;
+
+    @Setup
+    public void setUp() {
+        CommandProgram commandProgram = CommandProgram.compile(MissionGenerator.generatePatternedTape(new Random(42), tapeLength));
+        commands = new byte[commandProgram.length()];
+        for (int index = 0; index < commands.length; index++) {
+            commands[index] = commandProgram.commandAt(index);
+        }
+    }
+
+    @Benchmark
+    public long virtualDispatch() {
+        VirtualDispatchCardinalCompassPoint cardinalCompassPoint = VirtualDispatchCardinalCompassPoint.NORTH;
+        long x = 0;
+        long y = 0;
+        for (byte command : commands) {
+            switch (command) {
+                case CommandProgram.LEFT:
+                    cardinalCompassPoint = cardinalCompassPoint.turnLeft();
+                    break;
+                case CommandProgram.RIGHT:
+                    cardinalCompassPoint = cardinalCompassPoint.turnRight();
+                    break;
+                default:
+                    x = cardinalCompassPoint.moveX(x);
+                    y = cardinalCompassPoint.moveY(y);
+            }
+        }
+        return x * 31 + y + cardinalCompassPoint.ordinal();
+    }
+
+    @Benchmark
+    public long headingTable() {
+        int heading = HeadingTable.NORTH;
+        long x = 0;
+        long y = 0;
+        for (byte command : commands) {
+            switch (command) {
+                case CommandProgram.LEFT:
+                    heading = HeadingTable.turnLeft(heading);
+                    break;
+                case CommandProgram.RIGHT:
+                    heading = HeadingTable.turnRight(heading);
+                    break;
+                default:
+                    x += HeadingTable.deltaX(heading);
+                    y += HeadingTable.deltaY(heading);
+            }
+        }
+        return x * 31 + y + heading;
+    }
+}
@@ -0,0 +1,71 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.command.CommandProgram;
+import mars.rover.execution.LockStepMissionExecutor;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockStepBenchmark {
+
+    private static final int FLEET_SIDE = 500;
+    private static final int TAPE_LENGTH = 100;
+    private static final int PLATEAU_SIZE = FLEET_SIDE * 2 + TAPE_LENGTH * 4;
+    private static final String COMMAND_LETTERS = "LRMM";
+
+    @Param({"1", "16"})
+    private int parallelism;
+
+    private FleetState initialFleetState;
+    private RoboticRoverCommandExecutor commandExecutor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        CommandProgram[] tapes = new CommandProgram[64];
+        for (int tape = 0; tape < tapes.length; tape++) {
+            StringBuilder command = new StringBuilder();
+            for (int step = 0; step < TAPE_LENGTH; step++) {
+                command.append(COMMAND_LETTERS.charAt(random.nextInt(COMMAND_LETTERS.length())));
+            }
+            tapes[tape] = CommandProgram.compile(command);
+        }
+        initialFleetState = new FleetState(FLEET_SIDE * FLEET_SIDE);
+        for (int index = 0; index < initialFleetState.size(); index++) {
+            long x = TAPE_LENGTH * 2 + (index % FLEET_SIDE) * 2L;
+            long y = TAPE_LENGTH * 2 + (index / FLEET_SIDE) * 2L;
+            initialFleetState.setPose(index, x, y, random.nextInt(4));
+            initialFleetState.setCommandProgram(index, tapes[random.nextInt(tapes.length)]);
+        }
+        commandExecutor = new RoboticRoverCommandExecutor(PLATEAU_SIZE, PLATEAU_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIDE * FLEET_SIDE * TAPE_LENGTH)
+    public long roboticRoverSteps() throws ValidationException {
+        LockStepMissionExecutor lockStepMissionExecutor = new LockStepMissionExecutor(parallelism);
+        lockStepMissionExecutor.execute(commandExecutor, initialFleetState.copy());
+        return lockStepMissionExecutor.getRoboticRoverSteps();
+    }
+}
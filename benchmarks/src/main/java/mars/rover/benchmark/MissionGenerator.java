@@ -0,0 +1,62 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.entity.RoboticRover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class MissionGenerator {
+
+    private static final String[] TAPE_PATTERNS = {"LLLL", "RL", "LLL", "MMMMMMMM", "MMMM", "R", "LM", "MMMMMMMMMMMMMMMM"};
+    private static final CardinalCompassPointEnum[] CARDINAL_COMPASS_POINTS = CardinalCompassPointEnum.values();
+
+    private MissionGenerator() {
+    }
+
+    static String generatePatternedTape(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(TAPE_PATTERNS[random.nextInt(TAPE_PATTERNS.length)]);
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+
+    static List<RoboticRover> generateFleet(Random random, int maxPlateauCoordinate, int fleetSize, int tapeLength) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>(fleetSize);
+        for (int index = 0; index < fleetSize; index++) {
+            int x = random.nextInt(maxPlateauCoordinate + 1);
+            int y = random.nextInt(maxPlateauCoordinate + 1);
+            int heading = random.nextInt(CARDINAL_COMPASS_POINTS.length);
+            String position = x + " " + y + " " + CARDINAL_COMPASS_POINTS[heading].getHeading();
+            fleet.add(new RoboticRover(position, generateTapeWithinThePlateauGrid(random, x, y, heading, maxPlateauCoordinate, tapeLength)));
+        }
+        return fleet;
+    }
+
+    private static String generateTapeWithinThePlateauGrid(Random random, int x, int y, int heading, int maxPlateauCoordinate, int tapeLength) {
+        StringBuilder tape = new StringBuilder(tapeLength);
+        for (int step = 0; step < tapeLength; step++) {
+            int choice = random.nextInt(4);
+            CardinalCompassPointEnum cardinalCompassPoint = CARDINAL_COMPASS_POINTS[heading];
+            int nextX = x + cardinalCompassPoint.getDeltaX();
+            int nextY = y + cardinalCompassPoint.getDeltaY();
+            boolean canMove = nextX >= 0 && nextY >= 0 && nextX <= maxPlateauCoordinate && nextY <= maxPlateauCoordinate;
+            if (choice >= 2 && canMove) {
+                tape.append('M');
+                x = nextX;
+                y = nextY;
+            } else if (choice == 1) {
+                tape.append('R');
+                heading = (heading + 1) & 3;
+            } else {
+                tape.append('L');
+                heading = (heading + 3) & 3;
+            }
+        }
+        return tape.toString();
+    }
+}
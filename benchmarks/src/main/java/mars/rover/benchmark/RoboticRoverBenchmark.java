@@ -0,0 +1,42 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoboticRoverBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int commandLength;
+
+    private String command;
+
+    @Setup
+    public void setUp() {
+        command = MissionGenerator.generatePatternedTape(new Random(42), commandLength);
+    }
+
+    @Benchmark
+    public RoboticRover constructAndValidate() throws ValidationException {
+        return new RoboticRover("12 34 N", command);
+    }
+}
@@ -0,0 +1,84 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.entity.Coordinate;
+import mars.rover.planning.BatchRoutePlanner;
+import mars.rover.planning.RoutePlanner;
+import mars.rover.planning.RouteRequest;
+import mars.rover.plateau.ObstacleMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutePlannerBenchmark {
+
+    private static final int ROUTES = 1000;
+
+    @Param({"99", "499"})
+    private int plateauSize;
+
+    private RoutePlanner routePlanner;
+    private List<RouteRequest> routeRequests;
+    private BatchRoutePlanner batchRoutePlanner;
+    private int nextRoute;
+
+    @Setup
+    public void setUp() {
+        ObstacleMap obstacleMap = ObstacleMap.generate(plateauSize, plateauSize, (plateauSize + 1) * (plateauSize + 1) / 10, 42);
+        routePlanner = new RoutePlanner(plateauSize, plateauSize, obstacleMap);
+        batchRoutePlanner = new BatchRoutePlanner(Runtime.getRuntime().availableProcessors());
+        Random random = new Random(42);
+        routeRequests = new ArrayList<>();
+        while (routeRequests.size() < ROUTES) {
+            RouteRequest routeRequest = new RouteRequest(randomCoordinate(random), CardinalCompassPointEnum.get(random.nextInt(4)),
+                    randomCoordinate(random), CardinalCompassPointEnum.get(random.nextInt(4)));
+            try {
+                routePlanner.plan(routeRequest);
+                routeRequests.add(routeRequest);
+            } catch (ValidationException exception) {
+                continue;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        batchRoutePlanner.close();
+    }
+
+    private Coordinate randomCoordinate(Random random) {
+        return new Coordinate(random.nextInt(plateauSize + 1), random.nextInt(plateauSize + 1));
+    }
+
+    @Benchmark
+    public String singleRoute() throws ValidationException {
+        nextRoute = (nextRoute + 1) % ROUTES;
+        return routePlanner.plan(routeRequests.get(nextRoute));
+    }
+
+    @Benchmark
+    public String[] batchOfRoutes() {
+        return batchRoutePlanner.plan(routePlanner, routeRequests);
+    }
+}
@@ -0,0 +1,73 @@
+package mars.rover.benchmark;
+
+import custom.exception.ValidationException;
+import mars.rover.command.CommandProgram;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.execution.VectorizedMissionExecutor;
+import mars.rover.fleet.FleetState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorizedFleetBenchmark {
+
+    private static final int FLEET_SIZE = 1 << 16;
+    private static final int TAPE_LENGTH = 256;
+    private static final int PLATEAU_SIZE = 1 << 20;
+
+    @Param({"LRMM", "LMMMMMMM"})
+    private String commandLetters;
+
+    @Param({"false", "true"})
+    private boolean vectorized;
+
+    private FleetState initialFleetState;
+    private RoboticRoverCommandExecutor commandExecutor;
+    private VectorizedMissionExecutor vectorizedMissionExecutor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        CommandProgram[] tapes = new CommandProgram[256];
+        for (int tape = 0; tape < tapes.length; tape++) {
+            StringBuilder command = new StringBuilder();
+            for (int step = 0; step < TAPE_LENGTH; step++) {
+                command.append(commandLetters.charAt(random.nextInt(commandLetters.length())));
+            }
+            tapes[tape] = CommandProgram.compile(command);
+        }
+        initialFleetState = new FleetState(FLEET_SIZE);
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            initialFleetState.setPose(index, PLATEAU_SIZE / 2 + random.nextInt(1 << 16), PLATEAU_SIZE / 2 + random.nextInt(1 << 16), random.nextInt(4));
+            initialFleetState.setCommandProgram(index, tapes[random.nextInt(tapes.length)]);
+        }
+        commandExecutor = new RoboticRoverCommandExecutor(PLATEAU_SIZE, PLATEAU_SIZE);
+        vectorizedMissionExecutor = new VectorizedMissionExecutor(vectorized);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE * TAPE_LENGTH)
+    public FleetState roboticRoverSteps() throws ValidationException {
+        FleetState fleetState = initialFleetState.copy();
+        vectorizedMissionExecutor.execute(commandExecutor, fleetState);
+        return fleetState;
+    }
+}
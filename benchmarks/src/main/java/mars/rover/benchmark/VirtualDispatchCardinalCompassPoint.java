@@ -0,0 +1,97 @@
+package mars.rover.benchmark;
+
+enum VirtualDispatchCardinalCompassPoint {
+
+    NORTH {
+        @Override
+        VirtualDispatchCardinalCompassPoint turnLeft() {
+            return WEST;
+        }
+
+        @Override
+        VirtualDispatchCardinalCompassPoint turnRight() {
+            return EAST;
+        }
+
+        @Override
+        long moveX(long x) {
+            return x;
+        }
+
+        @Override
+        long moveY(long y) {
+            return y + 1;
+        }
+    },
+    EAST {
+        @Override
+        VirtualDispatchCardinalCompassPoint turnLeft() {
+            return NORTH;
+        }
+
+        @Override
+        VirtualDispatchCardinalCompassPoint turnRight() {
+            return SOUTH;
+        }
+
+        @Override
+        long moveX(long x) {
+            return x + 1;
+        }
+
+        @Override
+        long moveY(long y) {
+            return y;
+        }
+    },
+    SOUTH {
+        @Override
+        VirtualDispatchCardinalCompassPoint turnLeft() {
+            return EAST;
+        }
+
+        @Override
+        VirtualDispatchCardinalCompassPoint turnRight() {
+            return WEST;
+        }
+
+        @Override
+        long moveX(long x) {
+            return x;
+        }
+
+        @Override
+        long moveY(long y) {
+            return y - 1;
+        }
+    },
+    WEST {
+        @Override
+        VirtualDispatchCardinalCompassPoint turnLeft() {
+            return SOUTH;
+        }
+
+        @Override
+        VirtualDispatchCardinalCompassPoint turnRight() {
+            return NORTH;
+        }
+
+        @Override
+        long moveX(long x) {
+            return x - 1;
+        }
+
+        @Override
+        long moveY(long y) {
+            return y;
+        }
+    };
+
+    abstract VirtualDispatchCardinalCompassPoint turnLeft();
+
+    abstract VirtualDispatchCardinalCompassPoint turnRight();
+
+    abstract long moveX(long x);
+
+    abstract long moveY(long y);
+}
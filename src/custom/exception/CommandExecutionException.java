@@ -0,0 +1,57 @@
+package custom.exception;
+
+public class CommandExecutionException extends ValidationException {
+
+    public static final long UNKNOWN_ROBOTIC_ROVER_INDEX = -1;
+    public static final char UNKNOWN_HEADING = '?';
+
+    private final int commandIndex;
+    private final long roboticRoverIndex;
+    private final long x;
+    private final long y;
+    private final char heading;
+
+    public CommandExecutionException(String message, int commandIndex) {
+        this(message, commandIndex, UNKNOWN_ROBOTIC_ROVER_INDEX, 0, 0, UNKNOWN_HEADING);
+    }
+
+    public CommandExecutionException(String message, int commandIndex, long roboticRoverIndex, long x, long y, char heading) {
+        super(message);
+        this.commandIndex = commandIndex;
+        this.roboticRoverIndex = roboticRoverIndex;
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+    }
+
+    public CommandExecutionException withRoboticRoverIndex(long roboticRoverIndex) {
+        return new CommandExecutionException(getMessage(), commandIndex, roboticRoverIndex, x, y, heading);
+    }
+
+    public int getCommandIndex() {
+        return commandIndex;
+    }
+
+    public long getRoboticRoverIndex() {
+        return roboticRoverIndex;
+    }
+
+    public long getX() {
+        return x;
+    }
+
+    public long getY() {
+        return y;
+    }
+
+    public char getHeading() {
+        return heading;
+    }
+
+    public String getDetailedMessage() {
+        if (roboticRoverIndex == UNKNOWN_ROBOTIC_ROVER_INDEX)
+            return getMessage() + " Failing command: " + commandIndex + ".";
+        return getMessage() + " Robotic rover: " + roboticRoverIndex + ", failing command: " + commandIndex
+                + ", pose: " + x + " " + y + " " + heading + ".";
+    }
+}
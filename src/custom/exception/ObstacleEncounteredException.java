@@ -0,0 +1,17 @@
+package custom.exception;
+
+public class ObstacleEncounteredException extends CommandExecutionException {
+
+    public ObstacleEncounteredException(String message, int commandIndex) {
+        super(message, commandIndex);
+    }
+
+    public ObstacleEncounteredException(String message, int commandIndex, long roboticRoverIndex, long x, long y, char heading) {
+        super(message, commandIndex, roboticRoverIndex, x, y, heading);
+    }
+
+    @Override
+    public ObstacleEncounteredException withRoboticRoverIndex(long roboticRoverIndex) {
+        return new ObstacleEncounteredException(getMessage(), getCommandIndex(), roboticRoverIndex, getX(), getY(), getHeading());
+    }
+}
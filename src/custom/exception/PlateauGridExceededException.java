@@ -0,0 +1,17 @@
+package custom.exception;
+
+public class PlateauGridExceededException extends CommandExecutionException {
+
+    public PlateauGridExceededException(String message, int commandIndex) {
+        super(message, commandIndex);
+    }
+
+    public PlateauGridExceededException(String message, int commandIndex, long roboticRoverIndex, long x, long y, char heading) {
+        super(message, commandIndex, roboticRoverIndex, x, y, heading);
+    }
+
+    @Override
+    public PlateauGridExceededException withRoboticRoverIndex(long roboticRoverIndex) {
+        return new PlateauGridExceededException(getMessage(), getCommandIndex(), roboticRoverIndex, getX(), getY(), getHeading());
+    }
+}
@@ -0,0 +1,17 @@
+package custom.exception;
+
+public class RoboticRoverCollisionException extends CommandExecutionException {
+
+    public RoboticRoverCollisionException(String message, int commandIndex) {
+        super(message, commandIndex);
+    }
+
+    public RoboticRoverCollisionException(String message, int commandIndex, long roboticRoverIndex, long x, long y, char heading) {
+        super(message, commandIndex, roboticRoverIndex, x, y, heading);
+    }
+
+    @Override
+    public RoboticRoverCollisionException withRoboticRoverIndex(long roboticRoverIndex) {
+        return new RoboticRoverCollisionException(getMessage(), getCommandIndex(), roboticRoverIndex, getX(), getY(), getHeading());
+    }
+}
@@ -4,74 +4,12 @@ import mars.rover.entity.Coordinate;
 
 public enum CardinalCompassPointEnum {
 
-    NORTH("N") {
-        @Override
-        public CardinalCompassPointEnum turnLeft() {
-            return WEST;
-        }
-
-        @Override
-        public CardinalCompassPointEnum turnRight() {
-            return EAST;
-        }
-
-        @Override
-        public Coordinate move(Coordinate coordinate) {
-            coordinate.setY(coordinate.getY() + 1);
-            return coordinate;
-        }
-    },
-    EAST("E") {
-        @Override
-        public CardinalCompassPointEnum turnLeft() {
-            return NORTH;
-        }
-
-        @Override
-        public CardinalCompassPointEnum turnRight() {
-            return SOUTH;
-        }
-
-        @Override
-        public Coordinate move(Coordinate coordinate) {
-            coordinate.setX(coordinate.getX() + 1);
-            return coordinate;
-        }
-    },
-    SOUTH("S") {
-        @Override
-        public CardinalCompassPointEnum turnLeft() {
-            return EAST;
-        }
-
-        @Override
-        public CardinalCompassPointEnum turnRight() {
-            return WEST;
-        }
-
-        @Override
-        public Coordinate move(Coordinate coordinate) {
-            coordinate.setY(coordinate.getY() - 1);
-            return coordinate;
-        }
-    },
-    WEST("W") {
-        @Override
-        public CardinalCompassPointEnum turnLeft() {
-            return SOUTH;
-        }
-
-        @Override
-        public CardinalCompassPointEnum turnRight() {
-            return NORTH;
-        }
-
-        @Override
-        public Coordinate move(Coordinate coordinate) {
-            coordinate.setX(coordinate.getX() - 1);
-            return coordinate;
-        }
-    };
+    NORTH("N"),
+    EAST("E"),
+    SOUTH("S"),
+    WEST("W");
+
+    private static final CardinalCompassPointEnum[] CARDINAL_COMPASS_POINTS = values();
 
     private String heading;
 
@@ -80,30 +18,45 @@ public enum CardinalCompassPointEnum {
     }
 
     public static boolean isValidCardinalCompassPoint(String cardinalCompassPoint) {
-        for (CardinalCompassPointEnum point : CardinalCompassPointEnum.values()) {
-            if (point.getHeading().equals(cardinalCompassPoint)) {
-                return true;
-            }
-        }
-        return false;
+        return headingOf(cardinalCompassPoint) != HeadingTable.INVALID;
     }
 
     public static CardinalCompassPointEnum get(String cardinalCompassPoint) {
-        for (CardinalCompassPointEnum point : CardinalCompassPointEnum.values()) {
-            if (point.getHeading().equals(cardinalCompassPoint)) {
-                return point;
-            }
-        }
-        return null;
+        int heading = headingOf(cardinalCompassPoint);
+        return heading == HeadingTable.INVALID ? null : CARDINAL_COMPASS_POINTS[heading];
+    }
+
+    public static CardinalCompassPointEnum get(int heading) {
+        return CARDINAL_COMPASS_POINTS[heading];
+    }
+
+    private static int headingOf(String cardinalCompassPoint) {
+        if (cardinalCompassPoint == null || cardinalCompassPoint.length() != 1)
+            return HeadingTable.INVALID;
+        return HeadingTable.headingOf(cardinalCompassPoint.charAt(0));
     }
 
     public String getHeading() {
         return heading;
     }
 
-    public abstract CardinalCompassPointEnum turnLeft();
+    public int getDeltaX() {
+        return HeadingTable.deltaX(ordinal());
+    }
+
+    public int getDeltaY() {
+        return HeadingTable.deltaY(ordinal());
+    }
+
+    public CardinalCompassPointEnum turnLeft() {
+        return CARDINAL_COMPASS_POINTS[HeadingTable.turnLeft(ordinal())];
+    }
 
-    public abstract CardinalCompassPointEnum turnRight();
+    public CardinalCompassPointEnum turnRight() {
+        return CARDINAL_COMPASS_POINTS[HeadingTable.turnRight(ordinal())];
+    }
 
-    public abstract Coordinate move(Coordinate coordinate);
+    public Coordinate move(Coordinate coordinate) {
+        return new Coordinate(coordinate.getX() + getDeltaX(), coordinate.getY() + getDeltaY());
+    }
 }
@@ -0,0 +1,8 @@
+package mars.rover;
+
+public enum CollisionPolicyEnum {
+
+    FAIL,
+    SKIP_MOVE,
+    STOP_ROBOTIC_ROVER
+}
@@ -0,0 +1,59 @@
+package mars.rover;
+
+import java.util.Arrays;
+
+public final class HeadingTable {
+
+    public static final int NORTH = 0;
+    public static final int EAST = 1;
+    public static final int SOUTH = 2;
+    public static final int WEST = 3;
+    public static final int INVALID = -1;
+
+    private static final int HEADING_COUNT = 4;
+    private static final int ASCII_SIZE = 128;
+    private static final char[] LETTERS = {'N', 'E', 'S', 'W'};
+    private static final int[] DELTA_X = {0, 1, 0, -1};
+    private static final int[] DELTA_Y = {1, 0, -1, 0};
+    private static final byte[] TURN_LEFT = {WEST, NORTH, EAST, SOUTH};
+    private static final byte[] TURN_RIGHT = {EAST, SOUTH, WEST, NORTH};
+    private static final byte[] HEADINGS_BY_LETTER = new byte[ASCII_SIZE];
+
+    static {
+        Arrays.fill(HEADINGS_BY_LETTER, (byte) INVALID);
+        for (int heading = 0; heading < HEADING_COUNT; heading++) {
+            HEADINGS_BY_LETTER[LETTERS[heading]] = (byte) heading;
+        }
+    }
+
+    private HeadingTable() {
+    }
+
+    public static int headingOf(char letter) {
+        return letter < ASCII_SIZE ? HEADINGS_BY_LETTER[letter] : INVALID;
+    }
+
+    public static int headingOf(byte letter) {
+        return letter >= 0 ? HEADINGS_BY_LETTER[letter] : INVALID;
+    }
+
+    public static char letterOf(int heading) {
+        return LETTERS[heading];
+    }
+
+    public static int deltaX(int heading) {
+        return DELTA_X[heading];
+    }
+
+    public static int deltaY(int heading) {
+        return DELTA_Y[heading];
+    }
+
+    public static int turnLeft(int heading) {
+        return TURN_LEFT[heading];
+    }
+
+    public static int turnRight(int heading) {
+        return TURN_RIGHT[heading];
+    }
+}
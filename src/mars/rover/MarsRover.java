@@ -1,30 +1,45 @@
 package mars.rover;
 
 import custom.exception.ValidationException;
-import mars.rover.entity.Coordinate;
+import mars.rover.checkpoint.CheckpointingMissionExecutor;
+import mars.rover.checkpoint.FleetCheckpoint;
 import mars.rover.entity.RoboticRover;
-
+import mars.rover.fleet.FleetState;
+import mars.rover.fleet.OffHeapFleetStore;
+import mars.rover.execution.CommandExecutionOptions;
+import mars.rover.execution.MissionExecutor;
+import mars.rover.execution.OffHeapMissionExecutor;
+import mars.rover.execution.ParallelMissionExecutor;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.execution.TapeSummaryCache;
+import mars.rover.metrics.MissionMetrics;
+import mars.rover.metrics.MissionPhaseEnum;
+import mars.rover.plateau.ObstacleMap;
+import mars.rover.plateau.OccupancyIndex;
+import mars.rover.trace.PathTracer;
+import mars.rover.validation.MissionValidationRules;
+import mars.rover.validation.ValidationErrorEnum;
+
+import java.io.IOException;
 import java.util.List;
 
 public class MarsRover {
 
-    private int maxPlateauXCoordinate;
-    private int maxPlateauYCoordinate;
+    private long maxPlateauXCoordinate;
+    private long maxPlateauYCoordinate;
     private List<RoboticRover> roboticRoverList;
+    private CollisionPolicyEnum collisionPolicy;
+    private ObstacleMap obstacleMap = ObstacleMap.empty();
+    private MissionMetrics metrics = MissionMetrics.noOp();
+    private PathTracer pathTracer;
+    private TapeSummaryCache tapeSummaryCache;
 
     private static final int ZERO = 0;
     private static final int ONE = 1;
-    private static final int TWO = 2;
     private static final String ONE_SPACE = " ";
-    private static final String LEFT = "L";
-    private static final String RIGHT = "R";
-    private static final String DIGIT = "\\d+";
-    private static final String PROVIDE_PLATEAU_GRID_EXCEPTION = "Please provide a plateau grid.";
-    private static final String PLATEAU_GRID_DOES_NOT_CONTAIN_TWO_CHARACTERS_SEPARATED_BY_ONE_SPACE_EXCEPTION = "Please make sure the plateau grid contains 2 characters separated by one space.";
-    private static final String FIRST_CHARACTER_IS_NOT_A_DIGIT_EXCEPTION = "Please make sure the first character in the plateau grid is a digit.";
-    private static final String SECOND_CHARACTER_IS_NOT_A_DIGIT_EXCEPTION = "Please make sure the second character in the plateau grid is a digit.";
     private static final String NO_ROBOTIC_ROVERS_EXCEPTION = "Please provide some robotic rovers.";
-    private static final String ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION = "Please note that the robotic rover cannot leave the plateau grid.";
+    private static final String ROBOTIC_ROVER_STARTS_ON_AN_OBSTACLE_EXCEPTION = "Please make sure no robotic rover starts on an obstacle.";
+    private static final String ROBOTIC_ROVERS_SHARE_A_STARTING_CELL_EXCEPTION = "Please make sure no two robotic rovers start on the same cell.";
 
     public MarsRover(String plateauGrid, List<RoboticRover> roboticRoverList) throws ValidationException {
         validatePlateauGrid(plateauGrid);
@@ -40,86 +55,162 @@ public class MarsRover {
 
     private void setUpPlateauGrid(String plateauGrid) {
         String[] grids = splitPositionOnOneSpace(plateauGrid);
-        this.maxPlateauXCoordinate = Integer.parseInt(grids[ZERO]);
-        this.maxPlateauYCoordinate = Integer.parseInt(grids[ONE]);
+        this.maxPlateauXCoordinate = Long.parseLong(grids[ZERO]);
+        this.maxPlateauYCoordinate = Long.parseLong(grids[ONE]);
     }
 
     private void validatePlateauGrid(String plateauGrid) throws ValidationException {
-        checkIfPlateauGridIsEmpty(plateauGrid);
-
-        String[] grids = splitPositionOnOneSpace(plateauGrid);
-        checkIfPlateauGridsSizeIsTwo(grids);
-        checkIfTheProvidedCharacterInThePlateauGridIsADigit(grids[ZERO], FIRST_CHARACTER_IS_NOT_A_DIGIT_EXCEPTION);
-        checkIfTheProvidedCharacterInThePlateauGridIsADigit(grids[ONE], SECOND_CHARACTER_IS_NOT_A_DIGIT_EXCEPTION);
+        throwIfInvalid(MissionValidationRules.validatePlateauGrid(plateauGrid));
     }
 
-    private void checkIfTheProvidedCharacterInThePlateauGridIsADigit(String position, String message) throws ValidationException {
-        if (!position.matches(DIGIT))
-            throw new ValidationException(message);
+    private void throwIfInvalid(ValidationErrorEnum error) throws ValidationException {
+        if (error != null)
+            throw new ValidationException(error.getMessage());
     }
 
     private String[] splitPositionOnOneSpace(String position) {
         return position.split(ONE_SPACE);
     }
 
-    private void checkIfPlateauGridsSizeIsTwo(String[] plateauGrid) throws ValidationException {
-        if (plateauGrid.length != TWO)
-            throw new ValidationException(PLATEAU_GRID_DOES_NOT_CONTAIN_TWO_CHARACTERS_SEPARATED_BY_ONE_SPACE_EXCEPTION);
+    public void executeReceivedCommandsForEachRoboticRover() throws ValidationException {
+        executeReceivedCommandsForEachRoboticRover(ONE);
     }
 
-    private void checkIfPlateauGridIsEmpty(String plateauGrid) throws ValidationException {
-        if (isEmpty(plateauGrid))
-            throw new ValidationException(PROVIDE_PLATEAU_GRID_EXCEPTION);
+    public void executeReceivedCommandsForEachRoboticRover(int parallelism) throws ValidationException {
+        try (ParallelMissionExecutor parallelMissionExecutor = new ParallelMissionExecutor(parallelism)) {
+            executeReceivedCommandsForEachRoboticRover(parallelMissionExecutor);
+        }
     }
 
-    private boolean isEmpty(String value) {
-        return value == null || value.trim().length() == ZERO;
+    public <E extends Exception> void executeReceivedCommandsForEachRoboticRover(MissionExecutor<E> missionExecutor) throws ValidationException, E {
+        execute(FleetState.of(roboticRoverList), missionExecutor);
     }
 
-    public void executeReceivedCommandsForEachRoboticRover() throws ValidationException {
-        for (RoboticRover roboticRover : roboticRoverList) {
-            for (String command : roboticRover.getCommands()) {
-                if (command.equals(LEFT) || command.equals(RIGHT)) {
-                    roboticRover.setCardinalCompassPoint(determineNewCardinalCompassPoint(roboticRover.getCardinalCompassPoint(), command));
-                } else {
-                    updateCoordinates(roboticRover);
+    public void executeReceivedCommandsForEachRoboticRover(OffHeapMissionExecutor offHeapMissionExecutor) throws ValidationException, IOException {
+        long startNanos = System.nanoTime();
+        boolean successful = false;
+        try (OffHeapFleetStore offHeapFleetStore = OffHeapFleetStore.of(roboticRoverList)) {
+            try {
+                offHeapMissionExecutor.execute(createCommandExecutor(offHeapFleetStore), offHeapFleetStore);
+                successful = true;
+            } finally {
+                for (int index = ZERO; index < roboticRoverList.size(); index++) {
+                    offHeapFleetStore.writeTo(index, roboticRoverList.get(index));
                 }
+                metrics.phaseCompleted(MissionPhaseEnum.EXECUTE, System.nanoTime() - startNanos);
+                metrics.missionCompleted(roboticRoverList.size(), successful);
             }
         }
     }
 
-    private void updateCoordinates(RoboticRover roboticRover) throws ValidationException {
-        Coordinate newCoordinates = determineNewCoordinates(roboticRover);
-        doesRoboticRoverExceedTheCoordinatesOfThePlateauGrid(newCoordinates);
-        roboticRover.setCoordinate(newCoordinates);
+    public void resumeReceivedCommandsForEachRoboticRover(CheckpointingMissionExecutor checkpointingMissionExecutor) throws ValidationException, IOException {
+        FleetState fleetState = FleetState.of(roboticRoverList);
+        FleetCheckpoint checkpoint = checkpointingMissionExecutor.restore(fleetState);
+        execute(fleetState, (commandExecutor, restoredFleetState) -> checkpointingMissionExecutor.resume(commandExecutor, restoredFleetState, checkpoint));
+    }
+
+    private <E extends Exception> void execute(FleetState fleetState, MissionExecutor<E> missionExecutor) throws ValidationException, E {
+        long startNanos = System.nanoTime();
+        boolean successful = false;
+        try {
+            missionExecutor.execute(createCommandExecutor(fleetState), fleetState);
+            successful = true;
+        } finally {
+            fleetState.writeTo(roboticRoverList);
+            metrics.phaseCompleted(MissionPhaseEnum.EXECUTE, System.nanoTime() - startNanos);
+            metrics.missionCompleted(fleetState.size(), successful);
+        }
+    }
+
+    public RoboticRoverCommandExecutor createCommandExecutor(FleetState fleetState) throws ValidationException {
+        checkIfAnyRoboticRoverStartsOnAnObstacle(fleetState);
+        return createCommandExecutor(collisionPolicy == null ? null : createOccupancyIndex(fleetState));
     }
 
-    private void doesRoboticRoverExceedTheCoordinatesOfThePlateauGrid(Coordinate newCoordinates) throws ValidationException {
-        if (newCoordinates.getY() > maxPlateauYCoordinate || newCoordinates.getX() > maxPlateauXCoordinate)
-            throw new ValidationException(ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION);
+    private RoboticRoverCommandExecutor createCommandExecutor(OffHeapFleetStore offHeapFleetStore) throws ValidationException {
+        for (long index = ZERO; index < offHeapFleetStore.size() && obstacleMap.size() > ZERO; index++) {
+            if (obstacleMap.isObstacle(offHeapFleetStore.getX(index), offHeapFleetStore.getY(index)))
+                throw new ValidationException(ROBOTIC_ROVER_STARTS_ON_AN_OBSTACLE_EXCEPTION);
+        }
+        return createCommandExecutor(collisionPolicy == null ? null : OccupancyIndex.create(maxPlateauXCoordinate, maxPlateauYCoordinate, ZERO));
     }
 
-    private Coordinate determineNewCoordinates(RoboticRover roboticRover) {
-        return roboticRover.getCardinalCompassPoint().move(roboticRover.getCoordinate());
+    private RoboticRoverCommandExecutor createCommandExecutor(OccupancyIndex occupancyIndex) {
+        return new RoboticRoverCommandExecutor(maxPlateauXCoordinate, maxPlateauYCoordinate, new CommandExecutionOptions()
+                .withObstacleMap(obstacleMap)
+                .withCollisionDetection(occupancyIndex, collisionPolicy)
+                .withMetrics(metrics)
+                .withPathTracer(pathTracer)
+                .withTapeSummaryCache(tapeSummaryCache));
     }
 
-    private CardinalCompassPointEnum determineNewCardinalCompassPoint(CardinalCompassPointEnum currentCardinalCompassPoint, String turn) {
-        if (turn.equals(LEFT)) {
-            return currentCardinalCompassPoint.turnLeft();
-        } else {
-            return currentCardinalCompassPoint.turnRight();
+    private void checkIfAnyRoboticRoverStartsOnAnObstacle(FleetState fleetState) throws ValidationException {
+        if (obstacleMap.size() == ZERO)
+            return;
+        for (int index = ZERO; index < fleetState.size(); index++) {
+            if (obstacleMap.isObstacle(fleetState.getX(index), fleetState.getY(index)))
+                throw new ValidationException(ROBOTIC_ROVER_STARTS_ON_AN_OBSTACLE_EXCEPTION);
         }
     }
 
-    public int getMaxPlateauXCoordinate() {
+    private OccupancyIndex createOccupancyIndex(FleetState fleetState) throws ValidationException {
+        OccupancyIndex occupancyIndex = OccupancyIndex.create(maxPlateauXCoordinate, maxPlateauYCoordinate, fleetState.size());
+        for (int index = ZERO; index < fleetState.size(); index++) {
+            if (!occupancyIndex.occupy(fleetState.getX(index), fleetState.getY(index)))
+                throw new ValidationException(ROBOTIC_ROVERS_SHARE_A_STARTING_CELL_EXCEPTION);
+        }
+        return occupancyIndex;
+    }
+
+    public long getMaxPlateauXCoordinate() {
         return maxPlateauXCoordinate;
     }
 
-    public int getMaxPlateauYCoordinate() {
+    public long getMaxPlateauYCoordinate() {
         return maxPlateauYCoordinate;
     }
 
+    public CollisionPolicyEnum getCollisionPolicy() {
+        return collisionPolicy;
+    }
+
+    public void setCollisionPolicy(CollisionPolicyEnum collisionPolicy) {
+        this.collisionPolicy = collisionPolicy;
+    }
+
+    public ObstacleMap getObstacleMap() {
+        return obstacleMap;
+    }
+
+    public void setObstacleMap(ObstacleMap obstacleMap) {
+        this.obstacleMap = obstacleMap == null ? ObstacleMap.empty() : obstacleMap;
+    }
+
     public List<RoboticRover> getRoboticRoverList() {
         return roboticRoverList;
     }
-}
\ No newline at end of file
+
+    public MissionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(MissionMetrics metrics) {
+        this.metrics = metrics == null ? MissionMetrics.noOp() : metrics;
+    }
+
+    public PathTracer getPathTracer() {
+        return pathTracer;
+    }
+
+    public void setPathTracer(PathTracer pathTracer) {
+        this.pathTracer = pathTracer;
+    }
+
+    public TapeSummaryCache getTapeSummaryCache() {
+        return tapeSummaryCache;
+    }
+
+    public void setTapeSummaryCache(TapeSummaryCache tapeSummaryCache) {
+        this.tapeSummaryCache = tapeSummaryCache;
+    }
+}
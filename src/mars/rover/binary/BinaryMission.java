@@ -0,0 +1,125 @@
+package mars.rover.binary;
+
+import mars.rover.command.CommandProgram;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BinaryMission {
+
+    private final MappedByteBuffer buffer;
+    private final long maxPlateauXCoordinate;
+    private final long maxPlateauYCoordinate;
+    private final int roboticRoverCount;
+    private final int recordsOffset;
+
+    private static final int X_OFFSET = 0;
+    private static final int Y_OFFSET = 8;
+    private static final int COMMAND_OFFSET_OFFSET = 16;
+    private static final int COMMAND_LENGTH_OFFSET = 24;
+    private static final int HEADING_OFFSET = 28;
+    private static final int HEADING_COUNT = 4;
+
+    private BinaryMission(MappedByteBuffer buffer, long maxPlateauXCoordinate, long maxPlateauYCoordinate, int roboticRoverCount, int recordsOffset) {
+        this.buffer = buffer;
+        this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        this.maxPlateauYCoordinate = maxPlateauYCoordinate;
+        this.roboticRoverCount = roboticRoverCount;
+        this.recordsOffset = recordsOffset;
+    }
+
+    public static BinaryMission open(Path missionFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(missionFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("Binary mission file is larger than " + Integer.MAX_VALUE + " bytes: " + missionFile);
+            if (size < BinaryMissionFormat.MISSION_HEADER_BYTES)
+                throw new IOException("Not a binary mission file: " + missionFile);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != BinaryMissionFormat.MISSION_MAGIC)
+                throw new IOException("Not a binary mission file: " + missionFile);
+            if (buffer.getShort(4) != BinaryMissionFormat.VERSION)
+                throw new IOException("Unsupported binary mission version " + buffer.getShort(4) + ": " + missionFile);
+            int roboticRoverCount = buffer.getInt(BinaryMissionFormat.ROVER_COUNT_OFFSET);
+            long recordsOffset = buffer.getLong(BinaryMissionFormat.RECORDS_OFFSET_OFFSET);
+            if (roboticRoverCount < 0 || recordsOffset < BinaryMissionFormat.MISSION_HEADER_BYTES
+                    || recordsOffset + (long) roboticRoverCount * BinaryMissionFormat.ROVER_RECORD_BYTES != size)
+                throw new IOException("Corrupt binary mission file: " + missionFile);
+            BinaryMission mission = new BinaryMission(buffer, buffer.getLong(BinaryMissionFormat.MAX_PLATEAU_X_OFFSET),
+                    buffer.getLong(BinaryMissionFormat.MAX_PLATEAU_Y_OFFSET), roboticRoverCount, (int) recordsOffset);
+            mission.checkRecords(missionFile);
+            return mission;
+        }
+    }
+
+    private void checkRecords(Path missionFile) throws IOException {
+        for (int index = 0; index < roboticRoverCount; index++) {
+            long commandOffset = commandOffset(index);
+            int heading = getHeading(index);
+            if (heading < 0 || heading >= HEADING_COUNT || commandLength(index) < 0 || commandOffset < BinaryMissionFormat.MISSION_HEADER_BYTES
+                    || commandOffset + BinaryMissionFormat.packedBytes(commandLength(index)) > recordsOffset)
+                throw new IOException("Corrupt binary mission record " + index + ": " + missionFile);
+        }
+    }
+
+    public long getMaxPlateauXCoordinate() {
+        return maxPlateauXCoordinate;
+    }
+
+    public long getMaxPlateauYCoordinate() {
+        return maxPlateauYCoordinate;
+    }
+
+    public int size() {
+        return roboticRoverCount;
+    }
+
+    public long getX(int index) {
+        return buffer.getLong(recordOffset(index) + X_OFFSET);
+    }
+
+    public long getY(int index) {
+        return buffer.getLong(recordOffset(index) + Y_OFFSET);
+    }
+
+    public int getHeading(int index) {
+        return buffer.get(recordOffset(index) + HEADING_OFFSET);
+    }
+
+    public int commandLength(int index) {
+        return buffer.getInt(recordOffset(index) + COMMAND_LENGTH_OFFSET);
+    }
+
+    public byte commandAt(int index, int commandIndex) {
+        int packed = buffer.get((int) commandOffset(index) + commandIndex / BinaryMissionFormat.COMMANDS_PER_BYTE);
+        return (byte) ((packed >>> (commandIndex % BinaryMissionFormat.COMMANDS_PER_BYTE * BinaryMissionFormat.BITS_PER_COMMAND))
+                & BinaryMissionFormat.COMMAND_MASK);
+    }
+
+    public CommandProgram getCommandProgram(int index) {
+        byte[] commands = new byte[commandLength(index)];
+        for (int commandIndex = 0; commandIndex < commands.length; commandIndex++) {
+            commands[commandIndex] = commandAt(index, commandIndex);
+        }
+        return CommandProgram.of(commands);
+    }
+
+    long commandOffset(int index) {
+        return buffer.getLong(recordOffset(index) + COMMAND_OFFSET_OFFSET);
+    }
+
+    byte packedCommandsAt(int offset) {
+        return buffer.get(offset);
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= roboticRoverCount)
+            throw new IndexOutOfBoundsException("Robotic rover " + index + " of " + roboticRoverCount);
+        return recordsOffset + index * BinaryMissionFormat.ROVER_RECORD_BYTES;
+    }
+}
@@ -0,0 +1,81 @@
+package mars.rover.binary;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+import mars.rover.io.MissionFileReader;
+import mars.rover.io.MissionHandler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+public final class BinaryMissionConverter {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private BinaryMissionConverter() {
+    }
+
+    public static long convert(Path textMissionFile, Path binaryMissionFile) throws IOException, ValidationException {
+        Path temporaryMissionFile = Files.createTempFile(binaryMissionFile.toAbsolutePath().getParent(),
+                binaryMissionFile.getFileName().toString(), TEMPORARY_SUFFIX);
+        ConvertingMissionHandler missionHandler = new ConvertingMissionHandler(temporaryMissionFile);
+        boolean converted = false;
+        try {
+            long roboticRovers = new MissionFileReader().read(textMissionFile, missionHandler);
+            missionHandler.close();
+            Files.move(temporaryMissionFile, binaryMissionFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            converted = true;
+            return roboticRovers;
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        } finally {
+            if (!converted) {
+                try {
+                    missionHandler.close();
+                } finally {
+                    Files.deleteIfExists(temporaryMissionFile);
+                }
+            }
+        }
+    }
+
+    private static final class ConvertingMissionHandler implements MissionHandler {
+
+        private final Path binaryMissionFile;
+        private BinaryMissionWriter missionWriter;
+
+        ConvertingMissionHandler(Path binaryMissionFile) {
+            this.binaryMissionFile = binaryMissionFile;
+        }
+
+        @Override
+        public void plateauGrid(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+            try {
+                missionWriter = BinaryMissionWriter.create(binaryMissionFile, maxPlateauXCoordinate, maxPlateauYCoordinate);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        @Override
+        public void roboticRover(long roboticRoverIndex, RoboticRover roboticRover) {
+            try {
+                missionWriter.append(roboticRover.getCoordinate().getX(), roboticRover.getCoordinate().getY(),
+                        roboticRover.getCardinalCompassPoint().ordinal(), roboticRover.getCommandProgram());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        void close() throws IOException {
+            if (missionWriter == null)
+                return;
+            BinaryMissionWriter closing = missionWriter;
+            missionWriter = null;
+            closing.close();
+        }
+    }
+}
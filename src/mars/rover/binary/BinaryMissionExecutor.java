@@ -0,0 +1,86 @@
+package mars.rover.binary;
+
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BinaryMissionExecutor {
+
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int NO_FAILING_COMMAND = -1;
+
+    private long x;
+    private long y;
+    private int heading;
+    private int failingCommandIndex;
+
+    public int execute(BinaryMission mission, Path resultFile) throws IOException {
+        int failures = 0;
+        try (FileChannel channel = FileChannel.open(resultFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer results = ByteBuffer.allocate(BUFFER_BYTES - BUFFER_BYTES % BinaryMissionFormat.RESULT_RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            results.putInt(BinaryMissionFormat.RESULT_MAGIC).putShort(BinaryMissionFormat.VERSION).putShort((short) 0)
+                    .putInt(mission.size()).putInt(0);
+            for (int index = 0; index < mission.size(); index++) {
+                byte status = execute(mission, index);
+                if (status != BinaryMissionResults.COMPLETED)
+                    failures++;
+                if (results.remaining() < BinaryMissionFormat.RESULT_RECORD_BYTES)
+                    writeFully(channel, results);
+                results.putLong(x).putLong(y).putInt(failingCommandIndex).put((byte) heading).put(status).putShort((short) 0);
+            }
+            writeFully(channel, results);
+        }
+        return failures;
+    }
+
+    private byte execute(BinaryMission mission, int index) {
+        long maxX = mission.getMaxPlateauXCoordinate();
+        long maxY = mission.getMaxPlateauYCoordinate();
+        x = mission.getX(index);
+        y = mission.getY(index);
+        heading = mission.getHeading(index);
+        failingCommandIndex = NO_FAILING_COMMAND;
+
+        int length = mission.commandLength(index);
+        int offset = (int) mission.commandOffset(index);
+        for (int commandIndex = 0; commandIndex < length; ) {
+            int packed = mission.packedCommandsAt(offset + commandIndex / BinaryMissionFormat.COMMANDS_PER_BYTE);
+            int end = Math.min(length, commandIndex + BinaryMissionFormat.COMMANDS_PER_BYTE);
+            for (; commandIndex < end; commandIndex++, packed >>>= BinaryMissionFormat.BITS_PER_COMMAND) {
+                int command = packed & BinaryMissionFormat.COMMAND_MASK;
+                if (command == CommandProgram.LEFT) {
+                    heading = HeadingTable.turnLeft(heading);
+                } else if (command == CommandProgram.RIGHT) {
+                    heading = HeadingTable.turnRight(heading);
+                } else if (command == CommandProgram.MOVE) {
+                    long nextX = x + HeadingTable.deltaX(heading);
+                    long nextY = y + HeadingTable.deltaY(heading);
+                    if (nextX < 0 || nextY < 0 || nextX > maxX || nextY > maxY) {
+                        failingCommandIndex = commandIndex;
+                        return BinaryMissionResults.PLATEAU_GRID_EXCEEDED;
+                    }
+                    x = nextX;
+                    y = nextY;
+                } else {
+                    failingCommandIndex = commandIndex;
+                    return BinaryMissionResults.INVALID_COMMAND;
+                }
+            }
+        }
+        return BinaryMissionResults.COMPLETED;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
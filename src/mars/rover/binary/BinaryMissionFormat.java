@@ -0,0 +1,26 @@
+package mars.rover.binary;
+
+final class BinaryMissionFormat {
+
+    static final int MISSION_MAGIC = 0x4D524D53;
+    static final int RESULT_MAGIC = 0x4D525253;
+    static final short VERSION = 1;
+    static final int MISSION_HEADER_BYTES = 4 + 2 + 2 + 8 + 8 + 4 + 4 + 8;
+    static final int ROVER_RECORD_BYTES = 8 + 8 + 8 + 4 + 1 + 3;
+    static final int RESULT_HEADER_BYTES = 4 + 2 + 2 + 4 + 4;
+    static final int RESULT_RECORD_BYTES = 8 + 8 + 4 + 1 + 1 + 2;
+    static final int MAX_PLATEAU_X_OFFSET = 8;
+    static final int MAX_PLATEAU_Y_OFFSET = 16;
+    static final int ROVER_COUNT_OFFSET = 24;
+    static final int RECORDS_OFFSET_OFFSET = 32;
+    static final int COMMANDS_PER_BYTE = 4;
+    static final int BITS_PER_COMMAND = 2;
+    static final int COMMAND_MASK = 3;
+
+    private BinaryMissionFormat() {
+    }
+
+    static long packedBytes(long commands) {
+        return (commands + COMMANDS_PER_BYTE - 1) / COMMANDS_PER_BYTE;
+    }
+}
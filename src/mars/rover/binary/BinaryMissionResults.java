@@ -0,0 +1,75 @@
+package mars.rover.binary;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BinaryMissionResults {
+
+    public static final byte COMPLETED = 0;
+    public static final byte PLATEAU_GRID_EXCEEDED = 1;
+    public static final byte INVALID_COMMAND = 2;
+
+    private final MappedByteBuffer buffer;
+    private final int roboticRoverCount;
+
+    private static final int X_OFFSET = 0;
+    private static final int Y_OFFSET = 8;
+    private static final int FAILING_COMMAND_INDEX_OFFSET = 16;
+    private static final int HEADING_OFFSET = 20;
+    private static final int STATUS_OFFSET = 21;
+
+    private BinaryMissionResults(MappedByteBuffer buffer, int roboticRoverCount) {
+        this.buffer = buffer;
+        this.roboticRoverCount = roboticRoverCount;
+    }
+
+    public static BinaryMissionResults open(Path resultFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(resultFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < BinaryMissionFormat.RESULT_HEADER_BYTES || size > Integer.MAX_VALUE)
+                throw new IOException("Not a binary mission result file: " + resultFile);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != BinaryMissionFormat.RESULT_MAGIC || buffer.getShort(4) != BinaryMissionFormat.VERSION)
+                throw new IOException("Not a binary mission result file: " + resultFile);
+            int roboticRoverCount = buffer.getInt(8);
+            if (roboticRoverCount < 0 || BinaryMissionFormat.RESULT_HEADER_BYTES + (long) roboticRoverCount * BinaryMissionFormat.RESULT_RECORD_BYTES != size)
+                throw new IOException("Corrupt binary mission result file: " + resultFile);
+            return new BinaryMissionResults(buffer, roboticRoverCount);
+        }
+    }
+
+    public int size() {
+        return roboticRoverCount;
+    }
+
+    public long getX(int index) {
+        return buffer.getLong(recordOffset(index) + X_OFFSET);
+    }
+
+    public long getY(int index) {
+        return buffer.getLong(recordOffset(index) + Y_OFFSET);
+    }
+
+    public int getHeading(int index) {
+        return buffer.get(recordOffset(index) + HEADING_OFFSET);
+    }
+
+    public byte getStatus(int index) {
+        return buffer.get(recordOffset(index) + STATUS_OFFSET);
+    }
+
+    public int getFailingCommandIndex(int index) {
+        return buffer.getInt(recordOffset(index) + FAILING_COMMAND_INDEX_OFFSET);
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= roboticRoverCount)
+            throw new IndexOutOfBoundsException("Robotic rover " + index + " of " + roboticRoverCount);
+        return BinaryMissionFormat.RESULT_HEADER_BYTES + index * BinaryMissionFormat.RESULT_RECORD_BYTES;
+    }
+}
@@ -0,0 +1,128 @@
+package mars.rover.binary;
+
+import mars.rover.command.CommandProgram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class BinaryMissionWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer commandBuffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private long position = BinaryMissionFormat.MISSION_HEADER_BYTES;
+    private long[] xs = new long[INITIAL_CAPACITY];
+    private long[] ys = new long[INITIAL_CAPACITY];
+    private byte[] headings = new byte[INITIAL_CAPACITY];
+    private long[] commandOffsets = new long[INITIAL_CAPACITY];
+    private int[] commandLengths = new int[INITIAL_CAPACITY];
+    private int roboticRoverCount;
+    private final long maxPlateauXCoordinate;
+    private final long maxPlateauYCoordinate;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private BinaryMissionWriter(FileChannel channel, long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+        this.channel = channel;
+        this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        this.maxPlateauYCoordinate = maxPlateauYCoordinate;
+    }
+
+    public static BinaryMissionWriter create(Path missionFile, long maxPlateauXCoordinate, long maxPlateauYCoordinate) throws IOException {
+        FileChannel channel = FileChannel.open(missionFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(BinaryMissionFormat.MISSION_HEADER_BYTES);
+        return new BinaryMissionWriter(channel, maxPlateauXCoordinate, maxPlateauYCoordinate);
+    }
+
+    public void append(long x, long y, int heading, CommandProgram commandProgram) throws IOException {
+        ensureCapacity();
+        xs[roboticRoverCount] = x;
+        ys[roboticRoverCount] = y;
+        headings[roboticRoverCount] = (byte) heading;
+        commandOffsets[roboticRoverCount] = position;
+        commandLengths[roboticRoverCount] = commandProgram.length();
+        roboticRoverCount++;
+
+        int packed = 0;
+        int length = commandProgram.length();
+        for (int index = 0; index < length; index++) {
+            int slot = index & (BinaryMissionFormat.COMMANDS_PER_BYTE - 1);
+            packed |= commandProgram.commandAt(index) << (slot * BinaryMissionFormat.BITS_PER_COMMAND);
+            if (slot == BinaryMissionFormat.COMMANDS_PER_BYTE - 1 || index == length - 1) {
+                putCommandByte((byte) packed);
+                packed = 0;
+            }
+        }
+    }
+
+    private void putCommandByte(byte packed) throws IOException {
+        if (!commandBuffer.hasRemaining())
+            flushCommands();
+        commandBuffer.put(packed);
+        position++;
+    }
+
+    private void flushCommands() throws IOException {
+        commandBuffer.flip();
+        while (commandBuffer.hasRemaining()) {
+            channel.write(commandBuffer);
+        }
+        commandBuffer.clear();
+    }
+
+    private void ensureCapacity() {
+        if (roboticRoverCount < xs.length)
+            return;
+        int capacity = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        headings = Arrays.copyOf(headings, capacity);
+        commandOffsets = Arrays.copyOf(commandOffsets, capacity);
+        commandLengths = Arrays.copyOf(commandLengths, capacity);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushCommands();
+            long recordsOffset = position;
+            ByteBuffer records = ByteBuffer.allocate(BUFFER_BYTES - BUFFER_BYTES % BinaryMissionFormat.ROVER_RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long recordOffset = recordsOffset;
+            for (int index = 0; index < roboticRoverCount; index++) {
+                if (records.remaining() < BinaryMissionFormat.ROVER_RECORD_BYTES)
+                    recordOffset = writeFully(records, recordOffset);
+                records.putLong(xs[index]).putLong(ys[index]).putLong(commandOffsets[index]).putInt(commandLengths[index])
+                        .put(headings[index]).put((byte) 0).putShort((short) 0);
+            }
+            writeFully(records, recordOffset);
+
+            ByteBuffer header = ByteBuffer.allocate(BinaryMissionFormat.MISSION_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(BinaryMissionFormat.MISSION_MAGIC).putShort(BinaryMissionFormat.VERSION).putShort((short) 0)
+                    .putLong(maxPlateauXCoordinate).putLong(maxPlateauYCoordinate).putInt(roboticRoverCount).putInt(0).putLong(recordsOffset);
+            writeFully(header, 0);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private long writeFully(ByteBuffer buffer, long offset) throws IOException {
+        buffer.flip();
+        long writeOffset = offset;
+        while (buffer.hasRemaining()) {
+            writeOffset += channel.write(buffer, writeOffset);
+        }
+        buffer.clear();
+        return writeOffset;
+    }
+
+    public int getRoboticRoverCount() {
+        return roboticRoverCount;
+    }
+}
@@ -0,0 +1,84 @@
+package mars.rover.checkpoint;
+
+import custom.exception.ValidationException;
+import mars.rover.command.OptimizedCommandProgram;
+import mars.rover.execution.MissionExecutor;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class CheckpointingMissionExecutor implements MissionExecutor<IOException> {
+
+    private final Path checkpointFile;
+    private final long operationsPerCheckpoint;
+
+    public CheckpointingMissionExecutor(Path checkpointFile, long operationsPerCheckpoint) {
+        if (operationsPerCheckpoint < 1)
+            throw new IllegalArgumentException("Operations per checkpoint must be at least 1 but was " + operationsPerCheckpoint);
+        this.checkpointFile = checkpointFile;
+        this.operationsPerCheckpoint = operationsPerCheckpoint;
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws IOException, ValidationException {
+        try (FleetCheckpointWriter checkpointWriter = FleetCheckpointWriter.create(checkpointFile, fleetState.size())) {
+            execute(commandExecutor, fleetState, checkpointWriter, 0, 0);
+        }
+    }
+
+    public FleetCheckpoint restore(FleetState fleetState) throws IOException {
+        return FleetCheckpoint.restore(checkpointFile, fleetState);
+    }
+
+    public void resume(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, FleetCheckpoint checkpoint) throws IOException, ValidationException {
+        try (FleetCheckpointWriter checkpointWriter = FleetCheckpointWriter.append(checkpointFile, checkpoint)) {
+            execute(commandExecutor, fleetState, checkpointWriter, checkpoint.getNextRoboticRoverIndex(), checkpoint.getNextCommandIndex());
+        }
+    }
+
+    private void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, FleetCheckpointWriter checkpointWriter,
+                         int firstRoboticRoverIndex, int firstCommandIndex) throws IOException, ValidationException {
+        long operationsSinceCheckpoint = 0;
+        int firstDirtyIndex = firstRoboticRoverIndex;
+
+        for (int index = firstRoboticRoverIndex; index < fleetState.size(); index++) {
+            OptimizedCommandProgram optimizedCommandProgram = fleetState.getCommandProgram(index).optimize();
+            int size = optimizedCommandProgram.size();
+            int operation = index == firstRoboticRoverIndex && firstCommandIndex > 0 ? optimizedCommandProgram.operationStartingAt(firstCommandIndex) : 0;
+            commandExecutor.roboticRoverStarted(fleetState, index);
+            try {
+                while (operation < size) {
+                    int toOperation = (int) Math.min(size, operation + operationsPerCheckpoint - operationsSinceCheckpoint);
+                    int nextOperation = commandExecutor.executeOperations(fleetState, index, operation, toOperation);
+                    operationsSinceCheckpoint += nextOperation - operation;
+                    operation = nextOperation;
+                    if (operationsSinceCheckpoint >= operationsPerCheckpoint) {
+                        if (operation < size) {
+                            checkpointWriter.checkpoint(fleetState, firstDirtyIndex, index + 1, index, optimizedCommandProgram.firstCommandIndexAt(operation));
+                            firstDirtyIndex = index;
+                        } else {
+                            checkpointWriter.checkpoint(fleetState, firstDirtyIndex, index + 1, index + 1, 0);
+                            firstDirtyIndex = index + 1;
+                        }
+                        operationsSinceCheckpoint = 0;
+                    }
+                }
+            } catch (ValidationException exception) {
+                commandExecutor.roboticRoverFinished(fleetState, index, exception);
+                throw exception;
+            }
+            commandExecutor.roboticRoverFinished(fleetState, index, null);
+        }
+        checkpointWriter.checkpoint(fleetState, firstDirtyIndex, fleetState.size(), fleetState.size(), 0);
+    }
+
+    public Path getCheckpointFile() {
+        return checkpointFile;
+    }
+
+    public long getOperationsPerCheckpoint() {
+        return operationsPerCheckpoint;
+    }
+}
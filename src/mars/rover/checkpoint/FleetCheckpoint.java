@@ -0,0 +1,97 @@
+package mars.rover.checkpoint;
+
+import mars.rover.fleet.FleetState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class FleetCheckpoint {
+
+    private final long sequence;
+    private final int nextRoboticRoverIndex;
+    private final int nextCommandIndex;
+    private final long validLength;
+
+    private static final int CRC_BYTES = 4;
+
+    private FleetCheckpoint(long sequence, int nextRoboticRoverIndex, int nextCommandIndex, long validLength) {
+        this.sequence = sequence;
+        this.nextRoboticRoverIndex = nextRoboticRoverIndex;
+        this.nextCommandIndex = nextCommandIndex;
+        this.validLength = validLength;
+    }
+
+    public static FleetCheckpoint restore(Path checkpointFile, FleetState fleetState) throws IOException {
+        try (FileChannel channel = FileChannel.open(checkpointFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(FleetCheckpointFormat.HEADER_BYTES);
+            if (!readFully(channel, header) || header.getInt() != FleetCheckpointFormat.MAGIC)
+                throw new IOException("Not a fleet checkpoint file: " + checkpointFile);
+            short version = header.getShort();
+            if (version != FleetCheckpointFormat.VERSION)
+                throw new IOException("Unsupported fleet checkpoint version " + version);
+            int fleetSize = header.getInt();
+            if (fleetSize != fleetState.size())
+                throw new IOException("Fleet checkpoint holds " + fleetSize + " robotic rovers but the mission has " + fleetState.size());
+
+            long sequence = 0;
+            int nextRoboticRoverIndex = 0;
+            int nextCommandIndex = 0;
+            long validLength = channel.position();
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            while (readFully(channel, length)) {
+                int recordLength = length.getInt(0);
+                if (recordLength < FleetCheckpointFormat.RECORD_OVERHEAD_BYTES || recordLength > channel.size() - validLength)
+                    break;
+                ByteBuffer record = ByteBuffer.allocate(recordLength);
+                record.putInt(recordLength);
+                if (!readFully(channel, record) || !hasValidCrc(record))
+                    break;
+                record.position(Integer.BYTES);
+                sequence = record.getLong();
+                nextRoboticRoverIndex = record.getInt();
+                nextCommandIndex = record.getInt();
+                for (int poses = record.getInt(); poses > 0; poses--) {
+                    fleetState.setPose(record.getInt(), record.getLong(), record.getLong(), record.get());
+                }
+                validLength += recordLength;
+                length.clear();
+            }
+            return new FleetCheckpoint(sequence, nextRoboticRoverIndex, nextCommandIndex, validLength);
+        }
+    }
+
+    private static boolean hasValidCrc(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, record.capacity() - CRC_BYTES);
+        return (int) crc.getValue() == record.getInt(record.capacity() - CRC_BYTES);
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0)
+                return false;
+        }
+        buffer.flip();
+        return true;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int getNextRoboticRoverIndex() {
+        return nextRoboticRoverIndex;
+    }
+
+    public int getNextCommandIndex() {
+        return nextCommandIndex;
+    }
+
+    public long getValidLength() {
+        return validLength;
+    }
+}
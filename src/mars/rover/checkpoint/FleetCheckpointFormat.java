@@ -0,0 +1,13 @@
+package mars.rover.checkpoint;
+
+final class FleetCheckpointFormat {
+
+    static final int MAGIC = 0x4D52434B;
+    static final short VERSION = 2;
+    static final int HEADER_BYTES = 4 + 2 + 4;
+    static final int RECORD_OVERHEAD_BYTES = 4 + 8 + 4 + 4 + 4 + 4;
+    static final int POSE_BYTES = 4 + 8 + 8 + 1;
+
+    private FleetCheckpointFormat() {
+    }
+}
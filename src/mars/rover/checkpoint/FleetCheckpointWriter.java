@@ -0,0 +1,121 @@
+package mars.rover.checkpoint;
+
+import mars.rover.fleet.FleetState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+
+public class FleetCheckpointWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final BlockingQueue<ByteBuffer> pendingRecords;
+    private final Thread writerThread;
+    private volatile IOException writeFailure;
+    private long sequence;
+
+    private static final int DEFAULT_PENDING_RECORDS = 4;
+    private static final ByteBuffer END_OF_RECORDS = ByteBuffer.allocate(0);
+
+    private FleetCheckpointWriter(FileChannel channel, int pendingRecordCapacity) {
+        this.channel = channel;
+        this.pendingRecords = new ArrayBlockingQueue<>(pendingRecordCapacity);
+        this.writerThread = new Thread(this::writeRecords, "fleet-checkpoint-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public static FleetCheckpointWriter create(Path checkpointFile, int fleetSize) throws IOException {
+        FileChannel channel = FileChannel.open(checkpointFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(FleetCheckpointFormat.HEADER_BYTES);
+        header.putInt(FleetCheckpointFormat.MAGIC).putShort(FleetCheckpointFormat.VERSION).putInt(fleetSize).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        return new FleetCheckpointWriter(channel, DEFAULT_PENDING_RECORDS);
+    }
+
+    public static FleetCheckpointWriter append(Path checkpointFile, FleetCheckpoint checkpoint) throws IOException {
+        FileChannel channel = FileChannel.open(checkpointFile, StandardOpenOption.WRITE);
+        channel.truncate(checkpoint.getValidLength());
+        channel.position(checkpoint.getValidLength());
+        FleetCheckpointWriter writer = new FleetCheckpointWriter(channel, DEFAULT_PENDING_RECORDS);
+        writer.sequence = checkpoint.getSequence();
+        return writer;
+    }
+
+    public void checkpoint(FleetState fleetState, int fromIndex, int toIndex, int nextRoboticRoverIndex, int nextCommandIndex) throws IOException {
+        rethrowWriteFailure();
+        int poses = Math.max(0, toIndex - fromIndex);
+        ByteBuffer record = ByteBuffer.allocate(FleetCheckpointFormat.RECORD_OVERHEAD_BYTES + poses * FleetCheckpointFormat.POSE_BYTES);
+        record.putInt(record.capacity())
+                .putLong(++sequence)
+                .putInt(nextRoboticRoverIndex)
+                .putInt(nextCommandIndex)
+                .putInt(poses);
+        for (int index = fromIndex; index < toIndex; index++) {
+            record.putInt(index).putLong(fleetState.getX(index)).putLong(fleetState.getY(index)).put((byte) fleetState.getHeading(index));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue()).flip();
+        enqueue(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            enqueue(END_OF_RECORDS);
+            writerThread.join();
+        } catch (InterruptedIOException exception) {
+            writerThread.interrupt();
+            throw exception;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the checkpoint writer.");
+        } finally {
+            channel.close();
+        }
+        rethrowWriteFailure();
+    }
+
+    private void enqueue(ByteBuffer record) throws IOException {
+        try {
+            pendingRecords.put(record);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queueing a checkpoint.");
+        }
+    }
+
+    private void writeRecords() {
+        try {
+            for (ByteBuffer record = pendingRecords.take(); record != END_OF_RECORDS; record = pendingRecords.take()) {
+                if (writeFailure != null)
+                    continue;
+                try {
+                    while (record.hasRemaining()) {
+                        channel.write(record);
+                    }
+                    channel.force(false);
+                } catch (IOException exception) {
+                    writeFailure = exception;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rethrowWriteFailure() throws IOException {
+        if (writeFailure != null)
+            throw new IOException("Writing the fleet checkpoint failed.", writeFailure);
+    }
+}
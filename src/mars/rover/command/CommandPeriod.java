@@ -0,0 +1,104 @@
+package mars.rover.command;
+
+import mars.rover.HeadingTable;
+
+public final class CommandPeriod {
+
+    private static final int HEADING_COUNT = 4;
+    private static final int QUARTER_TURN_MASK = 3;
+
+    private final OptimizedCommandProgram operations;
+    private final int length;
+    private final int quarterTurns;
+    private final long[] deltaXs = new long[HEADING_COUNT];
+    private final long[] deltaYs = new long[HEADING_COUNT];
+    private final long[] minimumXs = new long[HEADING_COUNT];
+    private final long[] maximumXs = new long[HEADING_COUNT];
+    private final long[] minimumYs = new long[HEADING_COUNT];
+    private final long[] maximumYs = new long[HEADING_COUNT];
+
+    CommandPeriod(OptimizedCommandProgram operations, int length) {
+        this.operations = operations;
+        this.length = length;
+        int turns = 0;
+        for (int operation = 0; operation < operations.size(); operation++) {
+            if (operations.operationAt(operation) == OptimizedCommandProgram.TURN)
+                turns += operations.operandAt(operation);
+        }
+        this.quarterTurns = turns & QUARTER_TURN_MASK;
+        for (int heading = 0; heading < HEADING_COUNT; heading++) {
+            trace(heading);
+        }
+    }
+
+    private void trace(int startHeading) {
+        int heading = startHeading;
+        long x = 0;
+        long y = 0;
+        long minimumX = 0;
+        long maximumX = 0;
+        long minimumY = 0;
+        long maximumY = 0;
+        for (int operation = 0; operation < operations.size(); operation++) {
+            int operand = operations.operandAt(operation);
+            if (operations.operationAt(operation) == OptimizedCommandProgram.TURN) {
+                heading = (heading + operand) & QUARTER_TURN_MASK;
+                continue;
+            }
+            x += (long) HeadingTable.deltaX(heading) * operand;
+            y += (long) HeadingTable.deltaY(heading) * operand;
+            minimumX = Math.min(minimumX, x);
+            maximumX = Math.max(maximumX, x);
+            minimumY = Math.min(minimumY, y);
+            maximumY = Math.max(maximumY, y);
+        }
+        deltaXs[startHeading] = x;
+        deltaYs[startHeading] = y;
+        minimumXs[startHeading] = minimumX;
+        maximumXs[startHeading] = maximumX;
+        minimumYs[startHeading] = minimumY;
+        maximumYs[startHeading] = maximumY;
+    }
+
+    public OptimizedCommandProgram getOperations() {
+        return operations;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int getQuarterTurns() {
+        return quarterTurns;
+    }
+
+    public int getRepetitionsPerCycle() {
+        if (quarterTurns == 0)
+            return 1;
+        return quarterTurns == 2 ? 2 : HEADING_COUNT;
+    }
+
+    public long getDeltaX(int heading) {
+        return deltaXs[heading];
+    }
+
+    public long getDeltaY(int heading) {
+        return deltaYs[heading];
+    }
+
+    public long getMinimumX(int heading) {
+        return minimumXs[heading];
+    }
+
+    public long getMaximumX(int heading) {
+        return maximumXs[heading];
+    }
+
+    public long getMinimumY(int heading) {
+        return minimumYs[heading];
+    }
+
+    public long getMaximumY(int heading) {
+        return maximumYs[heading];
+    }
+}
@@ -0,0 +1,379 @@
+package mars.rover.command;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class CommandProgram {
+
+    public static final byte LEFT = 0;
+    public static final byte RIGHT = 1;
+    public static final byte MOVE = 2;
+    public static final int INVALID_COMMAND = -1;
+    public static final int COMMAND_TOO_LONG = -2;
+    public static final int NO_DIFFERENCE = -1;
+
+    private static final byte INVALID = -1;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final char REPEAT_START = '(';
+    private static final char REPEAT_END = ')';
+    private static final char REPEAT_TIMES = 'x';
+    private static final String[] COMMAND_LETTERS = {"L", "R", "M"};
+    private static final byte[] COMMAND_BY_LETTER = new byte[128];
+
+    static {
+        Arrays.fill(COMMAND_BY_LETTER, INVALID);
+        COMMAND_BY_LETTER['L'] = LEFT;
+        COMMAND_BY_LETTER['R'] = RIGHT;
+        COMMAND_BY_LETTER['M'] = MOVE;
+    }
+
+    private final byte[] commands;
+    private final int length;
+    private final int[] segmentOffsets;
+    private final int[] segmentPeriodLengths;
+    private final int[] segmentRepetitions;
+    private final int[] segmentFirstCommandIndexes;
+    private OptimizedCommandProgram optimizedCommandProgram;
+    private int moveCount = -1;
+    private long contentHash;
+
+    private CommandProgram(byte[] commands) {
+        this(commands, commands.length, new int[]{0}, new int[]{commands.length}, new int[]{1}, new int[]{0});
+    }
+
+    private CommandProgram(byte[] commands, int length, int[] segmentOffsets, int[] segmentPeriodLengths,
+                           int[] segmentRepetitions, int[] segmentFirstCommandIndexes) {
+        this.commands = commands;
+        this.length = length;
+        this.segmentOffsets = segmentOffsets;
+        this.segmentPeriodLengths = segmentPeriodLengths;
+        this.segmentRepetitions = segmentRepetitions;
+        this.segmentFirstCommandIndexes = segmentFirstCommandIndexes;
+    }
+
+    public static CommandProgram compile(CharSequence command) {
+        if (indexOfRepeat(command) < 0) {
+            byte[] commands = new byte[command.length()];
+            for (int index = 0; index < commands.length; index++) {
+                commands[index] = toCommand(command.charAt(index));
+            }
+            return new CommandProgram(commands);
+        }
+        return compileRepeated(command);
+    }
+
+    public static CommandProgram compile(byte[] letters, int offset, int length) {
+        byte[] commands = new byte[length];
+        for (int index = 0; index < length; index++) {
+            commands[index] = toCommand((char) (letters[offset + index] & 0xFF));
+        }
+        return new CommandProgram(commands);
+    }
+
+    public static CommandProgram of(byte[] commands) {
+        for (byte command : commands) {
+            if (command < LEFT || command > MOVE)
+                throw new IllegalArgumentException("Unknown command byte " + command);
+        }
+        return new CommandProgram(commands.clone());
+    }
+
+    public static CommandProgram repeat(byte[] period, int repetitions) {
+        if (period.length == 0)
+            throw new IllegalArgumentException("Repeated command period must not be empty");
+        if (repetitions < 1)
+            throw new IllegalArgumentException("Repetitions must be at least 1 but was " + repetitions);
+        if ((long) period.length * repetitions > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Repeated command exceeds " + Integer.MAX_VALUE + " commands");
+        CommandProgram commandProgram = of(period);
+        return new CommandProgram(commandProgram.commands, period.length * repetitions, new int[]{0}, new int[]{period.length},
+                new int[]{repetitions}, new int[]{0});
+    }
+
+    public static boolean isCommandLetter(char letter) {
+        return letter < COMMAND_BY_LETTER.length && COMMAND_BY_LETTER[letter] != INVALID;
+    }
+
+    public static byte toCommand(char letter) {
+        if (!isCommandLetter(letter))
+            throw new IllegalArgumentException("Unknown command letter " + letter);
+        return COMMAND_BY_LETTER[letter];
+    }
+
+    public static String toLetter(byte command) {
+        return COMMAND_LETTERS[command];
+    }
+
+    public static int measure(CharSequence command) {
+        long length = 0;
+        int index = 0;
+        while (index < command.length()) {
+            char letter = command.charAt(index);
+            if (isCommandLetter(letter)) {
+                length++;
+                index++;
+            } else if (letter == REPEAT_START) {
+                int periodEnd = indexOfPeriodEnd(command, index + 1);
+                if (periodEnd < 0)
+                    return INVALID_COMMAND;
+                int countEnd = indexOfCountEnd(command, periodEnd + 2);
+                if (countEnd < 0)
+                    return INVALID_COMMAND;
+                long repetitions = parseRepetitions(command, periodEnd + 2, countEnd);
+                if (repetitions == INVALID_COMMAND)
+                    return INVALID_COMMAND;
+                if (repetitions == COMMAND_TOO_LONG)
+                    return COMMAND_TOO_LONG;
+                length += (periodEnd - index - 1) * repetitions;
+                index = countEnd;
+            } else {
+                return INVALID_COMMAND;
+            }
+            if (length > Integer.MAX_VALUE)
+                return COMMAND_TOO_LONG;
+        }
+        return (int) length;
+    }
+
+    private static CommandProgram compileRepeated(CharSequence command) {
+        int length = measure(command);
+        if (length == INVALID_COMMAND)
+            throw new IllegalArgumentException("Invalid robotic rover command " + command);
+        if (length == COMMAND_TOO_LONG)
+            throw new IllegalArgumentException("Robotic rover command exceeds " + Integer.MAX_VALUE + " commands");
+
+        byte[] commands = new byte[command.length()];
+        int[] offsets = new int[command.length()];
+        int[] periodLengths = new int[command.length()];
+        int[] repetitions = new int[command.length()];
+        int[] firstCommandIndexes = new int[command.length()];
+        int bodyLength = 0;
+        int segmentCount = 0;
+        int commandIndex = 0;
+        int index = 0;
+        while (index < command.length()) {
+            int segmentOffset = bodyLength;
+            int segmentRepetitions = 1;
+            if (command.charAt(index) == REPEAT_START) {
+                int periodEnd = indexOfPeriodEnd(command, index + 1);
+                int countEnd = indexOfCountEnd(command, periodEnd + 2);
+                for (int letter = index + 1; letter < periodEnd; letter++) {
+                    commands[bodyLength++] = toCommand(command.charAt(letter));
+                }
+                segmentRepetitions = (int) parseRepetitions(command, periodEnd + 2, countEnd);
+                index = countEnd;
+            } else {
+                while (index < command.length() && command.charAt(index) != REPEAT_START) {
+                    commands[bodyLength++] = toCommand(command.charAt(index++));
+                }
+            }
+            offsets[segmentCount] = segmentOffset;
+            periodLengths[segmentCount] = bodyLength - segmentOffset;
+            repetitions[segmentCount] = segmentRepetitions;
+            firstCommandIndexes[segmentCount] = commandIndex;
+            commandIndex += (bodyLength - segmentOffset) * segmentRepetitions;
+            segmentCount++;
+        }
+        return new CommandProgram(Arrays.copyOf(commands, bodyLength), length, Arrays.copyOf(offsets, segmentCount),
+                Arrays.copyOf(periodLengths, segmentCount), Arrays.copyOf(repetitions, segmentCount),
+                Arrays.copyOf(firstCommandIndexes, segmentCount));
+    }
+
+    private static int indexOfRepeat(CharSequence command) {
+        for (int index = 0; index < command.length(); index++) {
+            if (command.charAt(index) == REPEAT_START)
+                return index;
+        }
+        return -1;
+    }
+
+    private static int indexOfPeriodEnd(CharSequence command, int from) {
+        int index = from;
+        while (index < command.length() && isCommandLetter(command.charAt(index))) {
+            index++;
+        }
+        if (index == from || index + 1 >= command.length() || command.charAt(index) != REPEAT_END || command.charAt(index + 1) != REPEAT_TIMES)
+            return -1;
+        return index;
+    }
+
+    private static int indexOfCountEnd(CharSequence command, int from) {
+        int index = from;
+        while (index < command.length() && command.charAt(index) >= '0' && command.charAt(index) <= '9') {
+            index++;
+        }
+        return index == from ? -1 : index;
+    }
+
+    private static long parseRepetitions(CharSequence command, int from, int to) {
+        long repetitions = 0;
+        for (int index = from; index < to; index++) {
+            repetitions = repetitions * 10 + command.charAt(index) - '0';
+            if (repetitions > Integer.MAX_VALUE)
+                return COMMAND_TOO_LONG;
+        }
+        return repetitions == 0 ? INVALID_COMMAND : repetitions;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public byte commandAt(int index) {
+        if (segmentRepetitions.length == 1 && segmentRepetitions[0] == 1)
+            return commands[index];
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Command " + index + " of " + length);
+        int segment = Arrays.binarySearch(segmentFirstCommandIndexes, index);
+        if (segment < 0)
+            segment = -segment - 2;
+        return commands[segmentOffsets[segment] + (index - segmentFirstCommandIndexes[segment]) % segmentPeriodLengths[segment]];
+    }
+
+    public int countMoves() {
+        int moves = moveCount;
+        if (moves < 0) {
+            moves = countMoves(length);
+            moveCount = moves;
+        }
+        return moves;
+    }
+
+    public int countMoves(int toCommandIndex) {
+        long moves = 0;
+        for (int segment = 0; segment < segmentOffsets.length && segmentFirstCommandIndexes[segment] < toCommandIndex; segment++) {
+            int periodLength = segmentPeriodLengths[segment];
+            long commandsInSegment = Math.min(toCommandIndex - segmentFirstCommandIndexes[segment], (long) periodLength * segmentRepetitions[segment]);
+            long fullPeriods = commandsInSegment / periodLength;
+            int remainder = (int) (commandsInSegment % periodLength);
+            if (fullPeriods > 0)
+                moves += fullPeriods * countMoves(segmentOffsets[segment], periodLength);
+            moves += countMoves(segmentOffsets[segment], remainder);
+        }
+        return (int) moves;
+    }
+
+    private int countMoves(int offset, int count) {
+        int moves = 0;
+        for (int index = offset, end = offset + count; index < end; index++) {
+            if (commands[index] == MOVE)
+                moves++;
+        }
+        return moves;
+    }
+
+    public boolean isRepeated() {
+        for (int repetitions : segmentRepetitions) {
+            if (repetitions > 1)
+                return true;
+        }
+        return false;
+    }
+
+    public long contentHash() {
+        long hash = contentHash;
+        if (hash == 0) {
+            hash = length;
+            for (int segment = 0; segment < segmentOffsets.length; segment++) {
+                hash = (hash ^ segmentPeriodLengths[segment]) * HASH_MULTIPLIER;
+                hash = (hash ^ segmentRepetitions[segment]) * HASH_MULTIPLIER;
+                for (int index = segmentOffsets[segment], end = index + segmentPeriodLengths[segment]; index < end; index++) {
+                    hash = (hash ^ commands[index]) * HASH_MULTIPLIER;
+                }
+            }
+            hash ^= hash >>> 32;
+            hash = hash == 0 ? 1 : hash;
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    public int firstDifferenceFrom(CommandProgram other) {
+        if (this == other)
+            return NO_DIFFERENCE;
+        int segment = 0;
+        int segments = Math.min(segmentOffsets.length, other.segmentOffsets.length);
+        while (segment < segments && isSameSegment(segment, other))
+            segment++;
+        if (segment == segments)
+            return length == other.length ? NO_DIFFERENCE : Math.min(length, other.length);
+        int firstCommandIndex = segmentFirstCommandIndexes[segment];
+        if (segmentRepetitions[segment] != 1 || other.segmentRepetitions[segment] != 1)
+            return firstCommandIndex;
+        int mismatch = Arrays.mismatch(commands, segmentOffsets[segment], segmentOffsets[segment] + segmentPeriodLengths[segment],
+                other.commands, other.segmentOffsets[segment], other.segmentOffsets[segment] + other.segmentPeriodLengths[segment]);
+        return firstCommandIndex + Math.max(mismatch, 0);
+    }
+
+    private boolean isSameSegment(int segment, CommandProgram other) {
+        int periodLength = segmentPeriodLengths[segment];
+        return periodLength == other.segmentPeriodLengths[segment]
+                && segmentRepetitions[segment] == other.segmentRepetitions[segment]
+                && Arrays.equals(commands, segmentOffsets[segment], segmentOffsets[segment] + periodLength,
+                other.commands, other.segmentOffsets[segment], other.segmentOffsets[segment] + periodLength);
+    }
+
+    public OptimizedCommandProgram optimize() {
+        OptimizedCommandProgram optimized = optimizedCommandProgram;
+        if (optimized == null) {
+            optimized = CommandProgramOptimizer.optimize(this);
+            optimizedCommandProgram = optimized;
+        }
+        return optimized;
+    }
+
+    byte[] commands() {
+        return commands;
+    }
+
+    int segmentCount() {
+        return segmentOffsets.length;
+    }
+
+    int segmentOffset(int segment) {
+        return segmentOffsets[segment];
+    }
+
+    int segmentPeriodLength(int segment) {
+        return segmentPeriodLengths[segment];
+    }
+
+    int segmentRepetitions(int segment) {
+        return segmentRepetitions[segment];
+    }
+
+    int segmentFirstCommandIndex(int segment) {
+        return segmentFirstCommandIndexes[segment];
+    }
+
+    public List<String> asCommandList() {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                return COMMAND_LETTERS[commandAt(index)];
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(commands.length);
+        for (int segment = 0; segment < segmentOffsets.length; segment++) {
+            boolean repeated = segmentRepetitions[segment] > 1;
+            if (repeated)
+                builder.append(REPEAT_START);
+            for (int index = segmentOffsets[segment], end = index + segmentPeriodLengths[segment]; index < end; index++) {
+                builder.append(COMMAND_LETTERS[commands[index]]);
+            }
+            if (repeated)
+                builder.append(REPEAT_END).append(REPEAT_TIMES).append(segmentRepetitions[segment]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package mars.rover.command;
+
+import java.util.Arrays;
+
+public final class CommandProgramOptimizer {
+
+    private static final int QUARTER_TURNS = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private CommandProgramOptimizer() {
+    }
+
+    public static OptimizedCommandProgram optimize(CommandProgram commandProgram) {
+        byte[] commands = commandProgram.commands();
+        OperationBuffer operationBuffer = new OperationBuffer(Math.min(commands.length, INITIAL_CAPACITY));
+        for (int segment = 0; segment < commandProgram.segmentCount(); segment++) {
+            int offset = commandProgram.segmentOffset(segment);
+            int periodLength = commandProgram.segmentPeriodLength(segment);
+            int firstCommandIndex = commandProgram.segmentFirstCommandIndex(segment);
+            int repetitions = commandProgram.segmentRepetitions(segment);
+            if (repetitions == 1) {
+                operationBuffer.appendCommands(commands, offset, periodLength, firstCommandIndex);
+                continue;
+            }
+            OperationBuffer periodBuffer = new OperationBuffer(Math.min(periodLength, INITIAL_CAPACITY));
+            periodBuffer.appendCommands(commands, offset, periodLength, 0);
+            CommandPeriod period = new CommandPeriod(periodBuffer.toOptimizedCommandProgram(), periodLength);
+            operationBuffer.appendRepeat(period, repetitions, firstCommandIndex);
+        }
+        return operationBuffer.toOptimizedCommandProgram();
+    }
+
+    private static final class OperationBuffer {
+
+        private byte[] operations;
+        private int[] operands;
+        private int[] firstCommandIndexes;
+        private CommandPeriod[] periods;
+        private int size;
+        private int pendingQuarterTurns;
+        private int pendingTurnFirstIndex = -1;
+
+        OperationBuffer(int capacity) {
+            operations = new byte[capacity];
+            operands = new int[capacity];
+            firstCommandIndexes = new int[capacity];
+        }
+
+        void appendCommands(byte[] commands, int offset, int length, int firstCommandIndex) {
+            for (int index = 0; index < length; index++) {
+                byte command = commands[offset + index];
+                if (command != CommandProgram.MOVE) {
+                    if (pendingTurnFirstIndex < 0)
+                        pendingTurnFirstIndex = firstCommandIndex + index;
+                    pendingQuarterTurns = (pendingQuarterTurns + (command == CommandProgram.RIGHT ? 1 : QUARTER_TURNS - 1)) % QUARTER_TURNS;
+                    continue;
+                }
+                flushPendingTurn();
+                if (!extendTrailingAdvance())
+                    append(OptimizedCommandProgram.ADVANCE, 1, firstCommandIndex + index);
+            }
+        }
+
+        void appendRepeat(CommandPeriod period, int repetitions, int firstCommandIndex) {
+            flushPendingTurn();
+            if (periods == null)
+                periods = new CommandPeriod[operations.length];
+            append(OptimizedCommandProgram.REPEAT, repetitions, firstCommandIndex);
+            periods[size - 1] = period;
+        }
+
+        private void flushPendingTurn() {
+            if (pendingQuarterTurns != 0)
+                append(OptimizedCommandProgram.TURN, pendingQuarterTurns, pendingTurnFirstIndex);
+            pendingQuarterTurns = 0;
+            pendingTurnFirstIndex = -1;
+        }
+
+        private void append(byte operation, int operand, int firstCommandIndex) {
+            if (size == operations.length) {
+                int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+                operations = Arrays.copyOf(operations, capacity);
+                operands = Arrays.copyOf(operands, capacity);
+                firstCommandIndexes = Arrays.copyOf(firstCommandIndexes, capacity);
+                if (periods != null)
+                    periods = Arrays.copyOf(periods, capacity);
+            }
+            operations[size] = operation;
+            operands[size] = operand;
+            firstCommandIndexes[size] = firstCommandIndex;
+            size++;
+        }
+
+        private boolean extendTrailingAdvance() {
+            if (size == 0 || operations[size - 1] != OptimizedCommandProgram.ADVANCE)
+                return false;
+            operands[size - 1]++;
+            return true;
+        }
+
+        OptimizedCommandProgram toOptimizedCommandProgram() {
+            flushPendingTurn();
+            return new OptimizedCommandProgram(operations, operands, firstCommandIndexes, periods, size);
+        }
+    }
+}
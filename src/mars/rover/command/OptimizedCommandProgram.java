@@ -0,0 +1,56 @@
+package mars.rover.command;
+
+import java.util.Arrays;
+
+public final class OptimizedCommandProgram {
+
+    public static final byte TURN = 0;
+    public static final byte ADVANCE = 1;
+    public static final byte REPEAT = 2;
+
+    private final byte[] operations;
+    private final int[] operands;
+    private final int[] firstCommandIndexes;
+    private final CommandPeriod[] periods;
+    private final int size;
+
+    OptimizedCommandProgram(byte[] operations, int[] operands, int[] firstCommandIndexes, CommandPeriod[] periods, int size) {
+        this.operations = operations;
+        this.operands = operands;
+        this.firstCommandIndexes = firstCommandIndexes;
+        this.periods = periods;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte operationAt(int index) {
+        return operations[index];
+    }
+
+    public int operandAt(int index) {
+        return operands[index];
+    }
+
+    public int firstCommandIndexAt(int index) {
+        return firstCommandIndexes[index];
+    }
+
+    public CommandPeriod periodAt(int index) {
+        return periods == null ? null : periods[index];
+    }
+
+    public int operationStartingAt(int commandIndex) {
+        int operation = Arrays.binarySearch(firstCommandIndexes, 0, size, commandIndex);
+        if (operation < 0)
+            throw new IllegalArgumentException("No operation starts at command index " + commandIndex);
+        return operation;
+    }
+
+    public int operationStartingAtOrAfter(int commandIndex) {
+        int operation = Arrays.binarySearch(firstCommandIndexes, 0, size, commandIndex);
+        return operation >= 0 ? operation : -operation - 1;
+    }
+}
@@ -2,27 +2,46 @@ package mars.rover.entity;
 
 public class Coordinate {
 
-    private int x;
-    private int y;
+    public static final long MAX_COORDINATE = 1L << 62;
 
-    public Coordinate(int x, int y) {
+    private static final int RADIX = 10;
+
+    private long x;
+    private long y;
+
+    public Coordinate(long x, long y) {
         this.x = x;
         this.y = y;
     }
 
-    public int getX() {
+    public static boolean isWithinTheMaximumCoordinate(String digits) {
+        return isWithinTheMaximumCoordinate(digits, 0, digits.length());
+    }
+
+    public static boolean isWithinTheMaximumCoordinate(CharSequence digits, int from, int to) {
+        long value = 0;
+        for (int index = from; index < to; index++) {
+            int digit = digits.charAt(index) - '0';
+            if (value > (MAX_COORDINATE - digit) / RADIX)
+                return false;
+            value = value * RADIX + digit;
+        }
+        return true;
+    }
+
+    public long getX() {
         return x;
     }
 
-    public void setX(int x) {
+    public void setX(long x) {
         this.x = x;
     }
 
-    public int getY() {
+    public long getY() {
         return y;
     }
 
-    public void setY(int y) {
+    public void setY(long y) {
         this.y = y;
     }
 }
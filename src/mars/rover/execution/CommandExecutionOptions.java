@@ -0,0 +1,67 @@
+package mars.rover.execution;
+
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.metrics.MissionMetrics;
+import mars.rover.plateau.ObstacleMap;
+import mars.rover.plateau.OccupancyIndex;
+import mars.rover.trace.PathTracer;
+
+public class CommandExecutionOptions {
+
+    private ObstacleMap obstacleMap = ObstacleMap.empty();
+    private OccupancyIndex occupancyIndex;
+    private CollisionPolicyEnum collisionPolicy;
+    private MissionMetrics metrics = MissionMetrics.noOp();
+    private PathTracer pathTracer;
+    private TapeSummaryCache tapeSummaryCache;
+
+    public CommandExecutionOptions withObstacleMap(ObstacleMap obstacleMap) {
+        this.obstacleMap = obstacleMap == null ? ObstacleMap.empty() : obstacleMap;
+        return this;
+    }
+
+    public CommandExecutionOptions withCollisionDetection(OccupancyIndex occupancyIndex, CollisionPolicyEnum collisionPolicy) {
+        this.occupancyIndex = occupancyIndex;
+        this.collisionPolicy = collisionPolicy;
+        return this;
+    }
+
+    public CommandExecutionOptions withMetrics(MissionMetrics metrics) {
+        this.metrics = metrics == null ? MissionMetrics.noOp() : metrics;
+        return this;
+    }
+
+    public CommandExecutionOptions withPathTracer(PathTracer pathTracer) {
+        this.pathTracer = pathTracer;
+        return this;
+    }
+
+    public CommandExecutionOptions withTapeSummaryCache(TapeSummaryCache tapeSummaryCache) {
+        this.tapeSummaryCache = tapeSummaryCache;
+        return this;
+    }
+
+    public ObstacleMap getObstacleMap() {
+        return obstacleMap;
+    }
+
+    public OccupancyIndex getOccupancyIndex() {
+        return occupancyIndex;
+    }
+
+    public CollisionPolicyEnum getCollisionPolicy() {
+        return collisionPolicy;
+    }
+
+    public MissionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public PathTracer getPathTracer() {
+        return pathTracer;
+    }
+
+    public TapeSummaryCache getTapeSummaryCache() {
+        return tapeSummaryCache;
+    }
+}
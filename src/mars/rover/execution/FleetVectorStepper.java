@@ -0,0 +1,107 @@
+package mars.rover.execution;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import mars.rover.command.CommandProgram;
+import mars.rover.fleet.FleetState;
+
+final class FleetVectorStepper {
+
+    static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    static final int LANES = SPECIES.length();
+
+    private static final VectorSpecies<Byte> COMMAND_SPECIES = ByteVector.SPECIES_64;
+
+    private static final int MINIMUM_LANES = 2;
+    private static final int MAXIMUM_LANES = COMMAND_SPECIES.length();
+    private static final int QUARTER_TURN_MASK = 3;
+    private static final int COMMANDS_PER_BLOCK = 256;
+    private static final byte NO_COMMAND = 3;
+
+    private final long maxPlateauXCoordinate;
+    private final long maxPlateauYCoordinate;
+    private final byte[] commandBlock = new byte[COMMANDS_PER_BLOCK * LANES + COMMAND_SPECIES.length()];
+    private final long[] laneXs = new long[LANES];
+    private final long[] laneYs = new long[LANES];
+    private final long[] laneHeadings = new long[LANES];
+
+    FleetVectorStepper(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+        this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        this.maxPlateauYCoordinate = maxPlateauYCoordinate;
+    }
+
+    static boolean hasEnoughLanes() {
+        return LANES >= MINIMUM_LANES && LANES <= MAXIMUM_LANES;
+    }
+
+    long execute(FleetState fleetState, int[] indexes, int count) {
+        int longestCommandProgram = 0;
+        for (int lane = 0; lane < LANES; lane++) {
+            if (lane >= count) {
+                laneXs[lane] = 0;
+                laneYs[lane] = 0;
+                laneHeadings[lane] = 0;
+                continue;
+            }
+            int index = indexes[lane];
+            laneXs[lane] = fleetState.getX(index);
+            laneYs[lane] = fleetState.getY(index);
+            laneHeadings[lane] = fleetState.getHeading(index);
+            longestCommandProgram = Math.max(longestCommandProgram, fleetState.getCommandProgram(index).length());
+        }
+        long failedLanes = 0;
+        for (int firstCommandIndex = 0; firstCommandIndex < longestCommandProgram; firstCommandIndex += COMMANDS_PER_BLOCK) {
+            int commands = Math.min(COMMANDS_PER_BLOCK, longestCommandProgram - firstCommandIndex);
+            fillCommandBlock(fleetState, indexes, count, firstCommandIndex, commands);
+            failedLanes |= executeCommandBlock(commands);
+        }
+        for (int lane = 0; lane < count; lane++) {
+            fleetState.setPose(indexes[lane], laneXs[lane], laneYs[lane], (int) laneHeadings[lane]);
+        }
+        return failedLanes;
+    }
+
+    private long executeCommandBlock(int commands) {
+        LongVector xs = LongVector.fromArray(SPECIES, laneXs, 0);
+        LongVector ys = LongVector.fromArray(SPECIES, laneYs, 0);
+        LongVector headings = LongVector.fromArray(SPECIES, laneHeadings, 0);
+        LongVector ones = LongVector.broadcast(SPECIES, 1);
+        LongVector threes = LongVector.broadcast(SPECIES, QUARTER_TURN_MASK);
+        VectorMask<Long> failed = SPECIES.maskAll(false);
+        for (int slot = 0, end = commands * LANES; slot < end; slot += LANES) {
+            LongVector commandCodes = (LongVector) ByteVector.fromArray(COMMAND_SPECIES, commandBlock, slot)
+                    .convertShape(VectorOperators.B2L, SPECIES, 0);
+            LongVector lowBits = commandCodes.and(1);
+            LongVector highBits = commandCodes.lanewise(VectorOperators.LSHR, 1);
+            headings = headings.add(highBits.sub(1).and(threes.sub(lowBits.lanewise(VectorOperators.LSHL, 1)))).and(QUARTER_TURN_MASK);
+            LongVector moveMasks = highBits.and(lowBits.not()).neg();
+            LongVector horizontal = headings.and(1);
+            LongVector signs = ones.sub(headings.and(2)).and(moveMasks);
+            xs = xs.add(signs.and(horizontal.neg()));
+            ys = ys.add(signs.and(horizontal.sub(1)));
+            failed = failed.or(xs.compare(VectorOperators.UNSIGNED_GT, maxPlateauXCoordinate))
+                    .or(ys.compare(VectorOperators.UNSIGNED_GT, maxPlateauYCoordinate));
+        }
+        xs.intoArray(laneXs, 0);
+        ys.intoArray(laneYs, 0);
+        headings.intoArray(laneHeadings, 0);
+        return failed.toLong();
+    }
+
+    private void fillCommandBlock(FleetState fleetState, int[] indexes, int count, int firstCommandIndex, int commands) {
+        for (int lane = 0; lane < LANES; lane++) {
+            CommandProgram commandProgram = lane < count ? fleetState.getCommandProgram(indexes[lane]) : null;
+            int available = commandProgram == null ? 0 : Math.max(0, Math.min(commands, commandProgram.length() - firstCommandIndex));
+            int slot = lane;
+            for (int command = 0; command < available; command++, slot += LANES) {
+                commandBlock[slot] = commandProgram.commandAt(firstCommandIndex + command);
+            }
+            for (int command = available; command < commands; command++, slot += LANES) {
+                commandBlock[slot] = NO_COMMAND;
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package mars.rover.execution;
+
+import custom.exception.ValidationException;
+import mars.rover.command.CommandProgram;
+import mars.rover.command.OptimizedCommandProgram;
+import mars.rover.fleet.FleetState;
+import mars.rover.plateau.ObstacleMap;
+
+public class IncrementalMissionExecutor implements MissionExecutor<RuntimeException> {
+
+    private final int commandsPerSnapshot;
+
+    private long maxPlateauXCoordinate = -1;
+    private long maxPlateauYCoordinate = -1;
+    private ObstacleMap obstacleMap;
+    private CommandProgram[] commandPrograms = new CommandProgram[0];
+    private long[] initialXs;
+    private long[] initialYs;
+    private byte[] initialHeadings;
+    private long[] finalXs;
+    private long[] finalYs;
+    private byte[] finalHeadings;
+    private ValidationException[] failures;
+    private RoboticRoverSnapshots[] snapshots;
+
+    private int skippedRoboticRovers;
+    private int resimulatedRoboticRovers;
+    private long resimulatedCommands;
+
+    private static final int DEFAULT_COMMANDS_PER_SNAPSHOT = 4096;
+
+    public IncrementalMissionExecutor() {
+        this(DEFAULT_COMMANDS_PER_SNAPSHOT);
+    }
+
+    public IncrementalMissionExecutor(int commandsPerSnapshot) {
+        if (commandsPerSnapshot < 1)
+            throw new IllegalArgumentException("Commands per snapshot must be at least 1 but was " + commandsPerSnapshot);
+        this.commandsPerSnapshot = commandsPerSnapshot;
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException {
+        skippedRoboticRovers = 0;
+        resimulatedRoboticRovers = 0;
+        resimulatedCommands = 0;
+        if (commandExecutor.isCollisionAware() || commandExecutor.isTracing() || commandExecutor.getMetrics().isEnabled()) {
+            clear();
+            for (int index = 0; index < fleetState.size(); index++) {
+                resimulatedRoboticRovers++;
+                resimulatedCommands += fleetState.getCommandProgram(index).length();
+                commandExecutor.execute(fleetState, index);
+            }
+            return;
+        }
+
+        prepare(commandExecutor, fleetState.size());
+        int failingIndex = fleetState.size();
+        for (int index = 0; index < fleetState.size(); index++) {
+            if (resimulate(commandExecutor, fleetState, index) != null && failingIndex == fleetState.size())
+                failingIndex = index;
+        }
+        if (failingIndex == fleetState.size())
+            return;
+        for (int index = failingIndex + 1; index < fleetState.size(); index++) {
+            fleetState.setPose(index, initialXs[index], initialYs[index], initialHeadings[index]);
+        }
+        throw failures[failingIndex];
+    }
+
+    public void clear() {
+        maxPlateauXCoordinate = -1;
+        maxPlateauYCoordinate = -1;
+        obstacleMap = null;
+        commandPrograms = new CommandProgram[0];
+    }
+
+    private void prepare(RoboticRoverCommandExecutor commandExecutor, int size) {
+        if (commandPrograms.length == size && maxPlateauXCoordinate == commandExecutor.getMaxPlateauXCoordinate()
+                && maxPlateauYCoordinate == commandExecutor.getMaxPlateauYCoordinate() && obstacleMap == commandExecutor.getObstacleMap())
+            return;
+        maxPlateauXCoordinate = commandExecutor.getMaxPlateauXCoordinate();
+        maxPlateauYCoordinate = commandExecutor.getMaxPlateauYCoordinate();
+        obstacleMap = commandExecutor.getObstacleMap();
+        commandPrograms = new CommandProgram[size];
+        initialXs = new long[size];
+        initialYs = new long[size];
+        initialHeadings = new byte[size];
+        finalXs = new long[size];
+        finalYs = new long[size];
+        finalHeadings = new byte[size];
+        failures = new ValidationException[size];
+        snapshots = new RoboticRoverSnapshots[size];
+    }
+
+    private ValidationException resimulate(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, int index) {
+        CommandProgram commandProgram = fleetState.getCommandProgram(index);
+        CommandProgram previousCommandProgram = commandPrograms[index];
+        if (previousCommandProgram == null || !startsFromTheSamePose(fleetState, index)) {
+            initialXs[index] = fleetState.getX(index);
+            initialYs[index] = fleetState.getY(index);
+            initialHeadings[index] = (byte) fleetState.getHeading(index);
+            if (snapshots[index] != null)
+                snapshots[index].clear();
+            return execute(commandExecutor, fleetState, index, commandProgram, 0);
+        }
+
+        int firstChangedCommandIndex = commandProgram.firstDifferenceFrom(previousCommandProgram);
+        if (firstChangedCommandIndex == CommandProgram.NO_DIFFERENCE) {
+            skippedRoboticRovers++;
+            commandPrograms[index] = commandProgram;
+            fleetState.setPose(index, finalXs[index], finalYs[index], finalHeadings[index]);
+            return failures[index];
+        }
+
+        RoboticRoverSnapshots roboticRoverSnapshots = snapshots[index];
+        int snapshot = roboticRoverSnapshots == null ? RoboticRoverSnapshots.NO_SNAPSHOT
+                : roboticRoverSnapshots.latestReusableSnapshot(firstChangedCommandIndex, commandProgram.optimize());
+        if (snapshot == RoboticRoverSnapshots.NO_SNAPSHOT) {
+            if (roboticRoverSnapshots != null)
+                roboticRoverSnapshots.clear();
+            return execute(commandExecutor, fleetState, index, commandProgram, 0);
+        }
+        roboticRoverSnapshots.truncate(snapshot + 1);
+        fleetState.setPose(index, roboticRoverSnapshots.xAt(snapshot), roboticRoverSnapshots.yAt(snapshot), roboticRoverSnapshots.headingAt(snapshot));
+        int firstCommandIndex = roboticRoverSnapshots.commandIndexAt(snapshot);
+        return execute(commandExecutor, fleetState, index, commandProgram, commandProgram.optimize().operationStartingAt(firstCommandIndex));
+    }
+
+    private boolean startsFromTheSamePose(FleetState fleetState, int index) {
+        return initialXs[index] == fleetState.getX(index) && initialYs[index] == fleetState.getY(index)
+                && initialHeadings[index] == fleetState.getHeading(index);
+    }
+
+    private ValidationException execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, int index,
+                                        CommandProgram commandProgram, int fromOperation) {
+        OptimizedCommandProgram optimizedCommandProgram = commandProgram.optimize();
+        RoboticRoverSnapshots roboticRoverSnapshots = snapshots[index];
+        if (roboticRoverSnapshots == null && commandProgram.length() > commandsPerSnapshot) {
+            roboticRoverSnapshots = new RoboticRoverSnapshots();
+            snapshots[index] = roboticRoverSnapshots;
+        }
+        resimulatedRoboticRovers++;
+        resimulatedCommands += commandProgram.length() - (fromOperation < optimizedCommandProgram.size()
+                ? optimizedCommandProgram.firstCommandIndexAt(fromOperation) : commandProgram.length());
+
+        ValidationException failure = null;
+        try {
+            if (roboticRoverSnapshots == null) {
+                commandExecutor.execute(fleetState, index);
+            } else {
+                executeTakingSnapshots(commandExecutor, fleetState, index, commandProgram, roboticRoverSnapshots, fromOperation);
+            }
+        } catch (ValidationException exception) {
+            failure = exception;
+        }
+        commandPrograms[index] = commandProgram;
+        finalXs[index] = fleetState.getX(index);
+        finalYs[index] = fleetState.getY(index);
+        finalHeadings[index] = (byte) fleetState.getHeading(index);
+        failures[index] = failure;
+        return failure;
+    }
+
+    private void executeTakingSnapshots(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, int index, CommandProgram commandProgram,
+                                        RoboticRoverSnapshots roboticRoverSnapshots, int fromOperation) throws ValidationException {
+        OptimizedCommandProgram optimizedCommandProgram = commandProgram.optimize();
+        int operation = fromOperation;
+        while (operation < optimizedCommandProgram.size()) {
+            int nextSnapshotCommandIndex = (int) Math.min(commandProgram.length(),
+                    (long) optimizedCommandProgram.firstCommandIndexAt(operation) + commandsPerSnapshot);
+            int toOperation = Math.max(operation + 1, optimizedCommandProgram.operationStartingAtOrAfter(nextSnapshotCommandIndex));
+            operation = commandExecutor.executeOperations(fleetState, index, operation, toOperation);
+            int commandIndex = operation < optimizedCommandProgram.size() ? optimizedCommandProgram.firstCommandIndexAt(operation) : commandProgram.length();
+            roboticRoverSnapshots.add(commandIndex, fleetState.getX(index), fleetState.getY(index), fleetState.getHeading(index));
+        }
+    }
+
+    public int getCommandsPerSnapshot() {
+        return commandsPerSnapshot;
+    }
+
+    public int getSkippedRoboticRovers() {
+        return skippedRoboticRovers;
+    }
+
+    public int getResimulatedRoboticRovers() {
+        return resimulatedRoboticRovers;
+    }
+
+    public long getResimulatedCommands() {
+        return resimulatedCommands;
+    }
+}
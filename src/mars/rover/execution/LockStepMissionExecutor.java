@@ -0,0 +1,395 @@
+package mars.rover.execution;
+
+import custom.exception.ObstacleEncounteredException;
+import custom.exception.PlateauGridExceededException;
+import custom.exception.RoboticRoverCollisionException;
+import custom.exception.ValidationException;
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+import mars.rover.fleet.FleetState;
+import mars.rover.plateau.OccupancyIndex;
+
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+
+public class LockStepMissionExecutor implements MissionExecutor<RuntimeException> {
+
+    private final int parallelism;
+    private long ticks;
+    private long roboticRoverSteps;
+
+    private static final byte IDLE = 0;
+    private static final byte TURN_LEFT = 1;
+    private static final byte TURN_RIGHT = 2;
+    private static final byte MOVE = 3;
+    private static final byte SKIP = 4;
+    private static final byte STOP = 5;
+    private static final byte EXCEED_PLATEAU_GRID = 6;
+    private static final byte ENCOUNTER_OBSTACLE = 7;
+    private static final byte COLLIDE = 8;
+    private static final long DENSE_CELL_LIMIT = 1L << 24;
+    private static final String ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION = "Please note that the robotic rover cannot leave the plateau grid.";
+    private static final String ROBOTIC_ROVER_ENCOUNTERS_AN_OBSTACLE_EXCEPTION = "Please note that the robotic rover cannot move onto an obstacle.";
+    private static final String ROBOTIC_ROVER_COLLISION_EXCEPTION = "Please note that the robotic rover cannot move onto a cell occupied by another robotic rover.";
+    private static final String ROBOTIC_ROVERS_SHARE_A_STARTING_CELL_EXCEPTION = "Please make sure no two robotic rovers start on the same cell.";
+
+    public LockStepMissionExecutor(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException {
+        if (commandExecutor.isTracing() || commandExecutor.getMetrics().isEnabled())
+            throw new IllegalArgumentException("Lock-step missions cannot be executed with path tracing or per robotic rover metrics.");
+        Mission mission = new Mission(commandExecutor, fleetState);
+        int workers = Math.max(1, Math.min(parallelism, fleetState.size()));
+        try {
+            if (workers == 1) {
+                mission.executeSequentially();
+            } else {
+                mission.executeInParallel(workers);
+            }
+        } finally {
+            ticks = mission.ticks;
+            roboticRoverSteps = mission.roboticRoverSteps;
+        }
+        if (mission.failingIndex < fleetState.size())
+            throw mission.createFailure();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getRoboticRoverSteps() {
+        return roboticRoverSteps;
+    }
+
+    private static final class Mission {
+
+        private final FleetState fleetState;
+        private final long maxPlateauXCoordinate;
+        private final long maxPlateauYCoordinate;
+        private final OccupancyIndex obstacleIndex;
+        private final CollisionPolicyEnum collisionPolicy;
+        private final CellOccupants cellOccupants;
+        private final long[] xs;
+        private final long[] ys;
+        private final byte[] headings;
+        private final CommandProgram[] commandPrograms;
+        private final int[] cursors;
+        private final int[] lengths;
+        private final byte[] actions;
+        private int failingIndex;
+        private long ticks;
+        private long roboticRoverSteps;
+
+        Mission(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException {
+            int size = fleetState.size();
+            this.fleetState = fleetState;
+            this.maxPlateauXCoordinate = commandExecutor.getMaxPlateauXCoordinate();
+            this.maxPlateauYCoordinate = commandExecutor.getMaxPlateauYCoordinate();
+            this.obstacleIndex = commandExecutor.getObstacleMap().toOccupancyIndex(maxPlateauXCoordinate, maxPlateauYCoordinate);
+            this.collisionPolicy = commandExecutor.getCollisionPolicy() == null ? CollisionPolicyEnum.SKIP_MOVE : commandExecutor.getCollisionPolicy();
+            this.cellOccupants = isDense(maxPlateauXCoordinate, maxPlateauYCoordinate)
+                    ? new DenseCellOccupants((int) maxPlateauXCoordinate + 1, (int) maxPlateauYCoordinate + 1)
+                    : new SparseCellOccupants(size);
+            this.xs = fleetState.xs();
+            this.ys = fleetState.ys();
+            this.headings = fleetState.headings();
+            this.commandPrograms = new CommandProgram[size];
+            this.cursors = new int[size];
+            this.lengths = new int[size];
+            this.actions = new byte[size];
+            this.failingIndex = size;
+            for (int index = 0; index < size; index++) {
+                commandPrograms[index] = fleetState.getCommandProgram(index);
+                lengths[index] = commandPrograms[index].length();
+                if (!isWithinThePlateauGrid(xs[index], ys[index]))
+                    continue;
+                if (cellOccupants.occupantAt(xs[index], ys[index]) >= 0)
+                    throw new ValidationException(ROBOTIC_ROVERS_SHARE_A_STARTING_CELL_EXCEPTION);
+                cellOccupants.occupy(xs[index], ys[index], index);
+            }
+        }
+
+        void executeSequentially() {
+            int size = fleetState.size();
+            for (long active = countActive(0, size); active > 0 && failingIndex == size; ) {
+                int tickFailingIndex = decide(0, size);
+                apply(0, size);
+                active = completeTick(active, countActive(0, size), tickFailingIndex);
+            }
+        }
+
+        void executeInParallel(int workers) {
+            int size = fleetState.size();
+            long initiallyActive = countActive(0, size);
+            if (initiallyActive == 0)
+                return;
+            long[] activeCounts = new long[workers];
+            int[] failingIndexes = new int[workers];
+            long[] active = {initiallyActive};
+            CyclicBarrier decided = new CyclicBarrier(workers);
+            CyclicBarrier applied = new CyclicBarrier(workers, () -> {
+                long activeAfterTick = 0;
+                int tickFailingIndex = size;
+                for (int worker = 0; worker < workers; worker++) {
+                    activeAfterTick += activeCounts[worker];
+                    tickFailingIndex = Math.min(tickFailingIndex, failingIndexes[worker]);
+                }
+                active[0] = completeTick(active[0], activeAfterTick, tickFailingIndex);
+            });
+            Thread[] threads = new Thread[workers];
+            Throwable[] workerFailures = new Throwable[workers];
+            for (int worker = 0; worker < workers; worker++) {
+                int ownedWorker = worker;
+                int from = (int) ((long) size * worker / workers);
+                int to = (int) ((long) size * (worker + 1) / workers);
+                threads[worker] = new Thread(() -> {
+                    try {
+                        do {
+                            failingIndexes[ownedWorker] = decide(from, to);
+                            decided.await();
+                            apply(from, to);
+                            activeCounts[ownedWorker] = countActive(from, to);
+                            applied.await();
+                        } while (active[0] > 0 && failingIndex == size);
+                    } catch (InterruptedException | BrokenBarrierException | RuntimeException exception) {
+                        workerFailures[ownedWorker] = exception;
+                        decided.reset();
+                        applied.reset();
+                    }
+                }, "lock-step-worker-" + worker);
+                threads[worker].start();
+            }
+            ShardedMissionExecutor.joinUninterruptibly(threads);
+            rethrowWorkerFailure(workerFailures);
+        }
+
+        private static void rethrowWorkerFailure(Throwable[] workerFailures) {
+            for (Throwable workerFailure : workerFailures) {
+                if (workerFailure instanceof RuntimeException)
+                    throw (RuntimeException) workerFailure;
+            }
+            for (Throwable workerFailure : workerFailures) {
+                if (workerFailure != null)
+                    throw new IllegalStateException(workerFailure);
+            }
+        }
+
+        private long completeTick(long activeBeforeTick, long activeAfterTick, int tickFailingIndex) {
+            ticks++;
+            roboticRoverSteps += activeBeforeTick;
+            failingIndex = tickFailingIndex;
+            return activeAfterTick;
+        }
+
+        private int countActive(int from, int to) {
+            int active = 0;
+            for (int index = from; index < to; index++) {
+                if (cursors[index] < lengths[index])
+                    active++;
+            }
+            return active;
+        }
+
+        private int decide(int from, int to) {
+            int tickFailingIndex = fleetState.size();
+            for (int index = from; index < to; index++) {
+                actions[index] = decide(index);
+                if (actions[index] >= EXCEED_PLATEAU_GRID && tickFailingIndex == fleetState.size())
+                    tickFailingIndex = index;
+            }
+            return tickFailingIndex;
+        }
+
+        private byte decide(int index) {
+            if (cursors[index] >= lengths[index])
+                return IDLE;
+            byte command = commandPrograms[index].commandAt(cursors[index]);
+            if (command == CommandProgram.LEFT)
+                return TURN_LEFT;
+            if (command == CommandProgram.RIGHT)
+                return TURN_RIGHT;
+            int heading = headings[index];
+            long targetX = xs[index] + HeadingTable.deltaX(heading);
+            long targetY = ys[index] + HeadingTable.deltaY(heading);
+            if (!isWithinThePlateauGrid(xs[index], ys[index]) || !isWithinThePlateauGrid(targetX, targetY))
+                return EXCEED_PLATEAU_GRID;
+            if (obstacleIndex.isOccupied(targetX, targetY))
+                return ENCOUNTER_OBSTACLE;
+            if (cellOccupants.occupantAt(targetX, targetY) >= 0 || hasLowerClaimant(index, targetX, targetY, heading))
+                return blocked();
+            return MOVE;
+        }
+
+        private boolean hasLowerClaimant(int index, long targetX, long targetY, int heading) {
+            for (int neighbourHeading = HeadingTable.NORTH; neighbourHeading <= HeadingTable.WEST; neighbourHeading++) {
+                if (neighbourHeading == ((heading + 2) & 3))
+                    continue;
+                long neighbourX = targetX + HeadingTable.deltaX(neighbourHeading);
+                long neighbourY = targetY + HeadingTable.deltaY(neighbourHeading);
+                if (!isWithinThePlateauGrid(neighbourX, neighbourY))
+                    continue;
+                int neighbour = cellOccupants.occupantAt(neighbourX, neighbourY);
+                if (neighbour >= 0 && neighbour < index && claims(neighbour, targetX, targetY))
+                    return true;
+            }
+            return false;
+        }
+
+        private boolean claims(int index, long targetX, long targetY) {
+            if (cursors[index] >= lengths[index] || commandPrograms[index].commandAt(cursors[index]) != CommandProgram.MOVE)
+                return false;
+            int heading = headings[index];
+            return xs[index] + HeadingTable.deltaX(heading) == targetX && ys[index] + HeadingTable.deltaY(heading) == targetY;
+        }
+
+        private byte blocked() {
+            if (collisionPolicy == CollisionPolicyEnum.STOP_ROBOTIC_ROVER)
+                return STOP;
+            if (collisionPolicy == CollisionPolicyEnum.FAIL)
+                return COLLIDE;
+            return SKIP;
+        }
+
+        private void apply(int from, int to) {
+            for (int index = from; index < to; index++) {
+                switch (actions[index]) {
+                    case TURN_LEFT:
+                        headings[index] = (byte) HeadingTable.turnLeft(headings[index]);
+                        cursors[index]++;
+                        break;
+                    case TURN_RIGHT:
+                        headings[index] = (byte) HeadingTable.turnRight(headings[index]);
+                        cursors[index]++;
+                        break;
+                    case MOVE:
+                        cellOccupants.vacate(xs[index], ys[index]);
+                        xs[index] += HeadingTable.deltaX(headings[index]);
+                        ys[index] += HeadingTable.deltaY(headings[index]);
+                        cellOccupants.occupy(xs[index], ys[index], index);
+                        cursors[index]++;
+                        break;
+                    case SKIP:
+                        cursors[index]++;
+                        break;
+                    case STOP:
+                        cursors[index] = lengths[index];
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        ValidationException createFailure() {
+            int commandIndex = cursors[failingIndex];
+            if (actions[failingIndex] == EXCEED_PLATEAU_GRID)
+                return new PlateauGridExceededException(ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION, commandIndex, failingIndex, xs[failingIndex], ys[failingIndex], HeadingTable.letterOf(headings[failingIndex]));
+            if (actions[failingIndex] == ENCOUNTER_OBSTACLE)
+                return new ObstacleEncounteredException(ROBOTIC_ROVER_ENCOUNTERS_AN_OBSTACLE_EXCEPTION, commandIndex, failingIndex, xs[failingIndex], ys[failingIndex], HeadingTable.letterOf(headings[failingIndex]));
+            return new RoboticRoverCollisionException(ROBOTIC_ROVER_COLLISION_EXCEPTION, commandIndex, failingIndex, xs[failingIndex], ys[failingIndex], HeadingTable.letterOf(headings[failingIndex]));
+        }
+
+        private boolean isWithinThePlateauGrid(long x, long y) {
+            return x >= 0 && y >= 0 && x <= maxPlateauXCoordinate && y <= maxPlateauYCoordinate;
+        }
+
+        private static boolean isDense(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+            return maxPlateauXCoordinate < DENSE_CELL_LIMIT && maxPlateauYCoordinate < DENSE_CELL_LIMIT
+                    && (maxPlateauXCoordinate + 1) * (maxPlateauYCoordinate + 1) <= DENSE_CELL_LIMIT;
+        }
+    }
+
+    private interface CellOccupants {
+
+        int occupantAt(long x, long y);
+
+        void occupy(long x, long y, int index);
+
+        void vacate(long x, long y);
+    }
+
+    private static final class DenseCellOccupants implements CellOccupants {
+
+        private final int width;
+        private final int[] occupants;
+
+        DenseCellOccupants(int width, int height) {
+            this.width = width;
+            this.occupants = new int[width * height];
+        }
+
+        @Override
+        public int occupantAt(long x, long y) {
+            return occupants[(int) (y * width + x)] - 1;
+        }
+
+        @Override
+        public void occupy(long x, long y, int index) {
+            occupants[(int) (y * width + x)] = index + 1;
+        }
+
+        @Override
+        public void vacate(long x, long y) {
+            occupants[(int) (y * width + x)] = 0;
+        }
+    }
+
+    private static final class SparseCellOccupants implements CellOccupants {
+
+        private final Map<Cell, Integer> occupants;
+
+        SparseCellOccupants(int expectedRoboticRovers) {
+            this.occupants = new ConcurrentHashMap<>(Math.max(16, expectedRoboticRovers * 2));
+        }
+
+        @Override
+        public int occupantAt(long x, long y) {
+            Integer occupant = occupants.get(new Cell(x, y));
+            return occupant == null ? -1 : occupant;
+        }
+
+        @Override
+        public void occupy(long x, long y, int index) {
+            occupants.put(new Cell(x, y), index);
+        }
+
+        @Override
+        public void vacate(long x, long y) {
+            occupants.remove(new Cell(x, y));
+        }
+    }
+
+    private static final class Cell {
+
+        private final long x;
+        private final long y;
+
+        Cell(long x, long y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Cell && ((Cell) other).x == x && ((Cell) other).y == y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(x * 0x9E3779B97F4A7C15L + y);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package mars.rover.execution;
+
+import custom.exception.ValidationException;
+import mars.rover.fleet.FleetState;
+
+public interface MissionExecutor<E extends Exception> {
+
+    void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException, E;
+}
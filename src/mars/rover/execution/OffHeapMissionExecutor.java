@@ -0,0 +1,177 @@
+package mars.rover.execution;
+
+import custom.exception.CommandExecutionException;
+import custom.exception.ValidationException;
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+import mars.rover.fleet.FleetState;
+import mars.rover.fleet.OffHeapFleetStore;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OffHeapMissionExecutor implements AutoCloseable {
+
+    private final int parallelism;
+    private final int roboticRoversPerWindow;
+    private final ForkJoinPool forkJoinPool;
+
+    private static final int DEFAULT_ROBOTIC_ROVERS_PER_WINDOW = 1 << 20;
+    private static final int ROBOTIC_ROVERS_PER_TASK = 4096;
+
+    public OffHeapMissionExecutor(int parallelism) {
+        this(parallelism, DEFAULT_ROBOTIC_ROVERS_PER_WINDOW);
+    }
+
+    public OffHeapMissionExecutor(int parallelism, int roboticRoversPerWindow) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        if (roboticRoversPerWindow < 1)
+            throw new IllegalArgumentException("Robotic rovers per window must be at least 1 but was " + roboticRoversPerWindow);
+        this.parallelism = parallelism;
+        this.roboticRoversPerWindow = roboticRoversPerWindow;
+        this.forkJoinPool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+    }
+
+    public void execute(RoboticRoverCommandExecutor commandExecutor, OffHeapFleetStore offHeapFleetStore) throws ValidationException {
+        if (commandExecutor.isCollisionAware() || commandExecutor.isTracing() || commandExecutor.getMetrics().isEnabled())
+            throw new IllegalArgumentException("Off-heap fleets cannot be executed with collision detection, path tracing or per robotic rover metrics.");
+
+        int windowSize = (int) Math.min(roboticRoversPerWindow, Math.max(1, offHeapFleetStore.size()));
+        long[] initialXs = new long[windowSize];
+        long[] initialYs = new long[windowSize];
+        byte[] initialHeadings = new byte[windowSize];
+        for (long from = 0; from < offHeapFleetStore.size(); from += windowSize) {
+            long to = Math.min(offHeapFleetStore.size(), from + windowSize);
+            for (long index = from; index < to; index++) {
+                initialXs[(int) (index - from)] = offHeapFleetStore.getX(index);
+                initialYs[(int) (index - from)] = offHeapFleetStore.getY(index);
+                initialHeadings[(int) (index - from)] = (byte) offHeapFleetStore.getHeading(index);
+            }
+            executeWindow(commandExecutor, offHeapFleetStore, initialXs, initialYs, initialHeadings, from, to);
+        }
+    }
+
+    private void executeWindow(RoboticRoverCommandExecutor commandExecutor, OffHeapFleetStore offHeapFleetStore,
+                               long[] initialXs, long[] initialYs, byte[] initialHeadings, long windowStart, long to) throws ValidationException {
+        long from = windowStart;
+        while (from < to) {
+            AtomicLong firstFailingIndex = new AtomicLong(to);
+            ExecuteWindowTask task = new ExecuteWindowTask(commandExecutor, offHeapFleetStore, firstFailingIndex, from, to);
+            if (forkJoinPool == null) {
+                task.compute();
+            } else {
+                forkJoinPool.invoke(task);
+            }
+            long failingIndex = firstFailingIndex.get();
+            if (failingIndex == to)
+                return;
+            for (long index = failingIndex; index < to; index++) {
+                int offset = (int) (index - windowStart);
+                offHeapFleetStore.setPose(index, initialXs[offset], initialYs[offset], initialHeadings[offset]);
+            }
+            reportFailure(commandExecutor, offHeapFleetStore, failingIndex);
+            from = failingIndex + 1;
+        }
+    }
+
+    private void reportFailure(RoboticRoverCommandExecutor commandExecutor, OffHeapFleetStore offHeapFleetStore, long failingIndex) throws ValidationException {
+        FleetState fleetState = new FleetState(1);
+        fleetState.setPose(0, offHeapFleetStore.getX(failingIndex), offHeapFleetStore.getY(failingIndex), offHeapFleetStore.getHeading(failingIndex));
+        fleetState.setCommandProgram(0, offHeapFleetStore.getCommandProgram(failingIndex));
+        try {
+            commandExecutor.execute(fleetState, 0);
+        } catch (CommandExecutionException exception) {
+            throw exception.withRoboticRoverIndex(failingIndex);
+        } finally {
+            offHeapFleetStore.setPose(failingIndex, fleetState.getX(0), fleetState.getY(0), fleetState.getHeading(0));
+        }
+    }
+
+    private static boolean execute(RoboticRoverCommandExecutor commandExecutor, OffHeapFleetStore offHeapFleetStore, long index) {
+        long x = offHeapFleetStore.getX(index);
+        long y = offHeapFleetStore.getY(index);
+        int heading = offHeapFleetStore.getHeading(index);
+        int length = offHeapFleetStore.getCommandLength(index);
+        if (length == 0)
+            return true;
+        long commandOffset = offHeapFleetStore.getCommandOffset(index);
+        while (length > 0) {
+            ByteBuffer commands = offHeapFleetStore.commandChunkOf(commandOffset);
+            int position = offHeapFleetStore.commandPositionOf(commandOffset);
+            int end = (int) Math.min(commands.capacity(), (long) position + length);
+            length -= end - position;
+            commandOffset += end - position;
+            while (position < end) {
+                byte command = commands.get(position++);
+                if (command == CommandProgram.LEFT) {
+                    heading = HeadingTable.turnLeft(heading);
+                    continue;
+                }
+                if (command == CommandProgram.RIGHT) {
+                    heading = HeadingTable.turnRight(heading);
+                    continue;
+                }
+                int moves = 1;
+                while (position < end && commands.get(position) == CommandProgram.MOVE) {
+                    position++;
+                    moves++;
+                }
+                if (commandExecutor.countFreeMoves(x, y, heading, moves) < moves)
+                    return false;
+                x += (long) HeadingTable.deltaX(heading) * moves;
+                y += (long) HeadingTable.deltaY(heading) * moves;
+            }
+        }
+        offHeapFleetStore.setPose(index, x, y, heading);
+        return true;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getRoboticRoversPerWindow() {
+        return roboticRoversPerWindow;
+    }
+
+    @Override
+    public void close() {
+        if (forkJoinPool != null)
+            forkJoinPool.shutdown();
+    }
+
+    private static final class ExecuteWindowTask extends RecursiveAction {
+
+        private final RoboticRoverCommandExecutor commandExecutor;
+        private final OffHeapFleetStore offHeapFleetStore;
+        private final AtomicLong firstFailingIndex;
+        private final long from;
+        private final long to;
+
+        ExecuteWindowTask(RoboticRoverCommandExecutor commandExecutor, OffHeapFleetStore offHeapFleetStore, AtomicLong firstFailingIndex,
+                          long from, long to) {
+            this.commandExecutor = commandExecutor;
+            this.offHeapFleetStore = offHeapFleetStore;
+            this.firstFailingIndex = firstFailingIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROBOTIC_ROVERS_PER_TASK && getPool() != null) {
+                long middle = (from + to) >>> 1;
+                invokeAll(new ExecuteWindowTask(commandExecutor, offHeapFleetStore, firstFailingIndex, from, middle),
+                        new ExecuteWindowTask(commandExecutor, offHeapFleetStore, firstFailingIndex, middle, to));
+                return;
+            }
+            for (long index = from; index < to && index < firstFailingIndex.get(); index++) {
+                if (!OffHeapMissionExecutor.execute(commandExecutor, offHeapFleetStore, index))
+                    firstFailingIndex.accumulateAndGet(index, Math::min);
+            }
+        }
+    }
+}
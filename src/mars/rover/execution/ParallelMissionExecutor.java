@@ -0,0 +1,107 @@
+package mars.rover.execution;
+
+import custom.exception.ValidationException;
+import mars.rover.fleet.FleetState;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelMissionExecutor implements MissionExecutor<RuntimeException>, AutoCloseable {
+
+    private final int parallelism;
+    private final int roboticRoversPerTask;
+    private final ForkJoinPool forkJoinPool;
+
+    private static final int DEFAULT_ROBOTIC_ROVERS_PER_TASK = 256;
+
+    public ParallelMissionExecutor(int parallelism) {
+        this(parallelism, DEFAULT_ROBOTIC_ROVERS_PER_TASK);
+    }
+
+    public ParallelMissionExecutor(int parallelism, int roboticRoversPerTask) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        if (roboticRoversPerTask < 1)
+            throw new IllegalArgumentException("Robotic rovers per task must be at least 1 but was " + roboticRoversPerTask);
+        this.parallelism = parallelism;
+        this.roboticRoversPerTask = roboticRoversPerTask;
+        this.forkJoinPool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException {
+        if (parallelism == 1 || commandExecutor.isCollisionAware() || commandExecutor.isTracing()) {
+            for (int index = 0; index < fleetState.size(); index++) {
+                commandExecutor.execute(fleetState, index);
+            }
+            return;
+        }
+
+        FleetState initialFleetState = fleetState.copy();
+        ValidationException[] failures = new ValidationException[fleetState.size()];
+        AtomicInteger firstFailingIndex = new AtomicInteger(fleetState.size());
+        forkJoinPool.invoke(new ExecuteRoboticRoversTask(commandExecutor, fleetState, failures, firstFailingIndex, 0, fleetState.size()));
+
+        int failingIndex = firstFailingIndex.get();
+        if (commandExecutor.getMetrics().isEnabled()) {
+            for (int index = 0; index <= failingIndex && index < fleetState.size(); index++) {
+                commandExecutor.recordMetrics(fleetState.getCommandProgram(index), index, failures[index]);
+            }
+        }
+        if (failingIndex == fleetState.size())
+            return;
+        for (int index = failingIndex + 1; index < fleetState.size(); index++) {
+            fleetState.copyPose(initialFleetState, index);
+        }
+        throw failures[failingIndex];
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void close() {
+        if (forkJoinPool != null)
+            forkJoinPool.shutdown();
+    }
+
+    private final class ExecuteRoboticRoversTask extends RecursiveAction {
+
+        private final RoboticRoverCommandExecutor commandExecutor;
+        private final FleetState fleetState;
+        private final ValidationException[] failures;
+        private final AtomicInteger firstFailingIndex;
+        private final int from;
+        private final int to;
+
+        ExecuteRoboticRoversTask(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, ValidationException[] failures,
+                                 AtomicInteger firstFailingIndex, int from, int to) {
+            this.commandExecutor = commandExecutor;
+            this.fleetState = fleetState;
+            this.failures = failures;
+            this.firstFailingIndex = firstFailingIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > roboticRoversPerTask) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ExecuteRoboticRoversTask(commandExecutor, fleetState, failures, firstFailingIndex, from, middle),
+                        new ExecuteRoboticRoversTask(commandExecutor, fleetState, failures, firstFailingIndex, middle, to));
+                return;
+            }
+            for (int index = from; index < to && index < firstFailingIndex.get(); index++) {
+                try {
+                    commandExecutor.executeUnrecorded(fleetState, index);
+                } catch (ValidationException exception) {
+                    failures[index] = exception;
+                    firstFailingIndex.accumulateAndGet(index, Math::min);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package mars.rover.execution;
+
+import custom.exception.CommandExecutionException;
+import custom.exception.ObstacleEncounteredException;
+import custom.exception.PlateauGridExceededException;
+import custom.exception.RoboticRoverCollisionException;
+import custom.exception.ValidationException;
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandPeriod;
+import mars.rover.command.CommandProgram;
+import mars.rover.command.OptimizedCommandProgram;
+import mars.rover.entity.RoboticRover;
+import mars.rover.fleet.FleetState;
+import mars.rover.metrics.MissionMetrics;
+import mars.rover.metrics.MissionRejectionEnum;
+import mars.rover.plateau.ObstacleMap;
+import mars.rover.plateau.OccupancyIndex;
+import mars.rover.trace.PathTracer;
+
+public class RoboticRoverCommandExecutor {
+
+    private final long maxPlateauXCoordinate;
+    private final long maxPlateauYCoordinate;
+    private final ObstacleMap obstacleMap;
+    private final OccupancyIndex occupancyIndex;
+    private final CollisionPolicyEnum collisionPolicy;
+    private final MissionMetrics metrics;
+    private final PathTracer pathTracer;
+    private final TapeSummaryCache tapeSummaryCache;
+    private final ThreadLocal<FleetState> roboticRoverSlot = ThreadLocal.withInitial(() -> new FleetState(1));
+
+    private static final int QUARTER_TURN_MASK = 3;
+    private static final int STOPPED = -1;
+    private static final String ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION = "Please note that the robotic rover cannot leave the plateau grid.";
+    private static final String ROBOTIC_ROVER_ENCOUNTERS_AN_OBSTACLE_EXCEPTION = "Please note that the robotic rover cannot move onto an obstacle.";
+    private static final String ROBOTIC_ROVER_COLLISION_EXCEPTION = "Please note that the robotic rover cannot move onto a cell occupied by another robotic rover.";
+
+    public RoboticRoverCommandExecutor(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+        this(maxPlateauXCoordinate, maxPlateauYCoordinate, new CommandExecutionOptions());
+    }
+
+    public RoboticRoverCommandExecutor(long maxPlateauXCoordinate, long maxPlateauYCoordinate, CommandExecutionOptions options) {
+        this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        this.maxPlateauYCoordinate = maxPlateauYCoordinate;
+        this.obstacleMap = options.getObstacleMap();
+        this.occupancyIndex = options.getOccupancyIndex();
+        this.collisionPolicy = options.getCollisionPolicy();
+        this.metrics = options.getMetrics();
+        this.pathTracer = options.getPathTracer();
+        this.tapeSummaryCache = options.getTapeSummaryCache();
+    }
+
+    public boolean isCollisionAware() {
+        return occupancyIndex != null;
+    }
+
+    public boolean isTracing() {
+        return pathTracer != null;
+    }
+
+    public void execute(RoboticRover roboticRover) throws ValidationException {
+        FleetState fleetState = roboticRoverSlot.get();
+        fleetState.readFrom(0, roboticRover);
+        try {
+            execute(fleetState, 0, 0);
+        } finally {
+            fleetState.writeTo(0, roboticRover);
+            fleetState.setCommandProgram(0, null);
+        }
+    }
+
+    public void execute(RoboticRover roboticRover, long roboticRoverIndex) throws ValidationException {
+        FleetState fleetState = roboticRoverSlot.get();
+        fleetState.readFrom(0, roboticRover);
+        try {
+            execute(fleetState, 0, metrics.isEnabled() || isTracing() ? Math.toIntExact(roboticRoverIndex) : 0);
+        } catch (CommandExecutionException exception) {
+            throw exception.withRoboticRoverIndex(roboticRoverIndex);
+        } finally {
+            fleetState.writeTo(0, roboticRover);
+            fleetState.setCommandProgram(0, null);
+        }
+    }
+
+    public void execute(FleetState fleetState, int index) throws ValidationException {
+        execute(fleetState, index, index);
+    }
+
+    private void execute(FleetState fleetState, int index, int roboticRoverIndex) throws ValidationException {
+        if (pathTracer == null) {
+            executeRecordingMetrics(fleetState, index, roboticRoverIndex);
+            return;
+        }
+        traceStarted(fleetState, index, roboticRoverIndex);
+        try {
+            executeRecordingMetrics(fleetState, index, roboticRoverIndex);
+        } finally {
+            traceFinished(fleetState, index, roboticRoverIndex);
+        }
+    }
+
+    public void roboticRoverStarted(FleetState fleetState, int index) {
+        if (pathTracer != null)
+            traceStarted(fleetState, index, index);
+    }
+
+    public void roboticRoverFinished(FleetState fleetState, int index, ValidationException failure) {
+        if (pathTracer != null)
+            traceFinished(fleetState, index, index);
+        if (metrics.isEnabled())
+            recordMetrics(fleetState.getCommandProgram(index), index, failure);
+    }
+
+    private void traceStarted(FleetState fleetState, int index, int roboticRoverIndex) {
+        pathTracer.roboticRoverStarted(roboticRoverIndex, fleetState.getX(index), fleetState.getY(index), fleetState.getHeading(index));
+    }
+
+    private void traceFinished(FleetState fleetState, int index, int roboticRoverIndex) {
+        pathTracer.roboticRoverFinished(roboticRoverIndex, fleetState.getX(index), fleetState.getY(index), fleetState.getHeading(index));
+    }
+
+    private void executeRecordingMetrics(FleetState fleetState, int index, int roboticRoverIndex) throws ValidationException {
+        CommandProgram commandProgram = fleetState.getCommandProgram(index);
+        if (!metrics.isEnabled()) {
+            executeProgram(fleetState, index, commandProgram);
+            return;
+        }
+        try {
+            executeProgram(fleetState, index, commandProgram);
+        } catch (CommandExecutionException exception) {
+            recordMetrics(commandProgram, roboticRoverIndex, exception);
+            throw exception;
+        }
+        recordMetrics(commandProgram, roboticRoverIndex, null);
+    }
+
+    void executeUnrecorded(FleetState fleetState, int index) throws ValidationException {
+        executeProgram(fleetState, index, fleetState.getCommandProgram(index));
+    }
+
+    void recordMetrics(CommandProgram commandProgram, int roboticRoverIndex, ValidationException failure) {
+        if (failure == null) {
+            recordExecutedCommands(roboticRoverIndex, commandProgram.length(), commandProgram.countMoves());
+            return;
+        }
+        if (!(failure instanceof CommandExecutionException))
+            return;
+        CommandExecutionException exception = (CommandExecutionException) failure;
+        int executedCommands = exception.getCommandIndex();
+        recordExecutedCommands(roboticRoverIndex, executedCommands, commandProgram.countMoves(executedCommands));
+        metrics.roboticRoverRejected(roboticRoverIndex, toRejection(exception));
+    }
+
+    private void executeProgram(FleetState fleetState, int index, CommandProgram commandProgram) throws ValidationException {
+        if (tapeSummaryCache != null && pathTracer == null && !isCollisionAware() && obstacleMap.size() == 0) {
+            long x = fleetState.getX(index);
+            long y = fleetState.getY(index);
+            TapeSummary tapeSummary = tapeSummaryCache.summarize(commandProgram, fleetState.getHeading(index));
+            if (tapeSummary.staysWithinThePlateauGrid(x, y, maxPlateauXCoordinate, maxPlateauYCoordinate)) {
+                fleetState.setPose(index, x + tapeSummary.getDeltaX(), y + tapeSummary.getDeltaY(), tapeSummary.getFinalHeading());
+                return;
+            }
+        }
+        executeOperations(fleetState, index, 0, commandProgram.optimize().size());
+    }
+
+    private void recordExecutedCommands(int index, int commands, int moves) {
+        metrics.roboticRoverExecuted(index, commands, moves, commands - moves);
+    }
+
+    private MissionRejectionEnum toRejection(CommandExecutionException exception) {
+        if (exception instanceof ObstacleEncounteredException)
+            return MissionRejectionEnum.OBSTACLE;
+        if (exception instanceof RoboticRoverCollisionException)
+            return MissionRejectionEnum.COLLISION;
+        return MissionRejectionEnum.PLATEAU_GRID;
+    }
+
+    public int executeOperations(FleetState fleetState, int index, int fromOperation, int toOperation) throws ValidationException {
+        CommandProgram commandProgram = fleetState.getCommandProgram(index);
+        OptimizedCommandProgram optimizedCommandProgram = commandProgram.optimize();
+        if (!isCollisionAware())
+            return executeOperations(fleetState, index, commandProgram, optimizedCommandProgram, 0, fromOperation, toOperation);
+
+        occupancyIndex.vacate(fleetState.getX(index), fleetState.getY(index));
+        try {
+            int nextOperation = executeOperations(fleetState, index, commandProgram, optimizedCommandProgram, 0, fromOperation, toOperation);
+            return nextOperation == STOPPED ? optimizedCommandProgram.size() : nextOperation;
+        } finally {
+            occupancyIndex.occupy(fleetState.getX(index), fleetState.getY(index));
+        }
+    }
+
+    private int executeOperations(FleetState fleetState, int index, CommandProgram commandProgram, OptimizedCommandProgram optimizedCommandProgram,
+                                  int commandOffset, int fromOperation, int toOperation) throws ValidationException {
+        long x = fleetState.getX(index);
+        long y = fleetState.getY(index);
+        int heading = fleetState.getHeading(index);
+
+        try {
+            for (int operation = fromOperation; operation < toOperation; operation++) {
+                int operand = optimizedCommandProgram.operandAt(operation);
+                byte operationCode = optimizedCommandProgram.operationAt(operation);
+                if (operationCode == OptimizedCommandProgram.TURN) {
+                    heading = (heading + operand) & QUARTER_TURN_MASK;
+                    continue;
+                }
+                int firstCommandIndex = commandOffset + optimizedCommandProgram.firstCommandIndexAt(operation);
+                if (operationCode == OptimizedCommandProgram.REPEAT) {
+                    fleetState.setPose(index, x, y, heading);
+                    boolean stopped;
+                    try {
+                        stopped = !executeRepeat(fleetState, index, commandProgram, optimizedCommandProgram.periodAt(operation), operand, firstCommandIndex);
+                    } finally {
+                        x = fleetState.getX(index);
+                        y = fleetState.getY(index);
+                        heading = fleetState.getHeading(index);
+                    }
+                    if (stopped)
+                        return STOPPED;
+                    continue;
+                }
+                int freeMoves = countFreeMoves(x, y, heading, operand);
+                int moves = isCollisionAware() ? countUnoccupiedMoves(x, y, heading, freeMoves) : freeMoves;
+                if (pathTracer != null && moves > 0)
+                    pathTracer.roboticRoverMoved(index, x, y, heading, moves);
+                x += (long) HeadingTable.deltaX(heading) * moves;
+                y += (long) HeadingTable.deltaY(heading) * moves;
+                if (moves < freeMoves) {
+                    if (collisionPolicy == CollisionPolicyEnum.SKIP_MOVE)
+                        continue;
+                    if (collisionPolicy == CollisionPolicyEnum.STOP_ROBOTIC_ROVER)
+                        return STOPPED;
+                    int failingCommandIndex = findMoveCommandIndex(commandProgram, firstCommandIndex, moves);
+                    throw new RoboticRoverCollisionException(ROBOTIC_ROVER_COLLISION_EXCEPTION, failingCommandIndex, index, x, y, HeadingTable.letterOf(heading));
+                }
+                if (freeMoves < operand)
+                    throw createMoveException(commandProgram, firstCommandIndex, freeMoves, index, x, y, heading);
+            }
+            return toOperation;
+        } finally {
+            fleetState.setPose(index, x, y, heading);
+        }
+    }
+
+    private int countUnoccupiedMoves(long x, long y, int heading, int freeMoves) {
+        int deltaX = HeadingTable.deltaX(heading);
+        int deltaY = HeadingTable.deltaY(heading);
+        int moves = 0;
+        while (moves < freeMoves && !occupancyIndex.isOccupied(x + (long) deltaX * (moves + 1), y + (long) deltaY * (moves + 1))) {
+            moves++;
+        }
+        return moves;
+    }
+
+    private boolean executeRepeat(FleetState fleetState, int index, CommandProgram commandProgram, CommandPeriod period, int repetitions,
+                                  int firstCommandIndex) throws ValidationException {
+        int firstRepetition = 0;
+        if (pathTracer == null && period.getQuarterTurns() == 0 && !isCollisionAware() && obstacleMap.size() == 0) {
+            long x = fleetState.getX(index);
+            long y = fleetState.getY(index);
+            int heading = fleetState.getHeading(index);
+            firstRepetition = countRepetitionsWithinThePlateauGrid(x, y, heading, period, repetitions);
+            fleetState.setPose(index, x + period.getDeltaX(heading) * firstRepetition, y + period.getDeltaY(heading) * firstRepetition, heading);
+        } else if (pathTracer == null && period.getQuarterTurns() != 0 && collisionPolicy != CollisionPolicyEnum.SKIP_MOVE) {
+            int repetitionsPerCycle = period.getRepetitionsPerCycle();
+            if (repetitions > repetitionsPerCycle) {
+                for (int repetition = 0; repetition < repetitionsPerCycle; repetition++) {
+                    if (!executePeriod(fleetState, index, commandProgram, period, firstCommandIndex + repetition * period.length()))
+                        return false;
+                }
+                firstRepetition = repetitions - repetitions % repetitionsPerCycle;
+            }
+        }
+        for (int repetition = firstRepetition; repetition < repetitions; repetition++) {
+            if (!executePeriod(fleetState, index, commandProgram, period, firstCommandIndex + repetition * period.length()))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean executePeriod(FleetState fleetState, int index, CommandProgram commandProgram, CommandPeriod period, int commandOffset) throws ValidationException {
+        OptimizedCommandProgram operations = period.getOperations();
+        return executeOperations(fleetState, index, commandProgram, operations, commandOffset, 0, operations.size()) != STOPPED;
+    }
+
+    private int countRepetitionsWithinThePlateauGrid(long x, long y, int heading, CommandPeriod period, int repetitions) {
+        long safeRepetitions = Math.min(repetitions,
+                countRepetitionsWithinBounds(x, period.getDeltaX(heading), period.getMinimumX(heading), period.getMaximumX(heading), maxPlateauXCoordinate));
+        safeRepetitions = Math.min(safeRepetitions,
+                countRepetitionsWithinBounds(y, period.getDeltaY(heading), period.getMinimumY(heading), period.getMaximumY(heading), maxPlateauYCoordinate));
+        return (int) safeRepetitions;
+    }
+
+    private long countRepetitionsWithinBounds(long position, long delta, long minimumOffset, long maximumOffset, long maximumPosition) {
+        if (position < 0 || position + minimumOffset < 0 || position + maximumOffset > maximumPosition)
+            return 0;
+        if (delta > 0)
+            return (maximumPosition - position - maximumOffset) / delta + 1;
+        if (delta < 0)
+            return (position + minimumOffset) / -delta + 1;
+        return Long.MAX_VALUE;
+    }
+
+    public void executeCommandByCommand(FleetState fleetState, int index) throws ValidationException {
+        CommandProgram commandProgram = fleetState.getCommandProgram(index);
+        long x = fleetState.getX(index);
+        long y = fleetState.getY(index);
+        int heading = fleetState.getHeading(index);
+
+        for (int command = 0, length = commandProgram.length(); command < length; command++) {
+            switch (commandProgram.commandAt(command)) {
+                case CommandProgram.LEFT:
+                    heading = HeadingTable.turnLeft(heading);
+                    break;
+                case CommandProgram.RIGHT:
+                    heading = HeadingTable.turnRight(heading);
+                    break;
+                default:
+                    if (countFreeMoves(x, y, heading, 1) == 0) {
+                        fleetState.setPose(index, x, y, heading);
+                        throw createMoveException(commandProgram, command, 0, index, x, y, heading);
+                    }
+                    x += HeadingTable.deltaX(heading);
+                    y += HeadingTable.deltaY(heading);
+            }
+        }
+        fleetState.setPose(index, x, y, heading);
+    }
+
+    private CommandExecutionException createMoveException(CommandProgram commandProgram, int firstCommandIndex, int freeMoves,
+                                                          int index, long x, long y, int heading) {
+        int failingCommandIndex = findMoveCommandIndex(commandProgram, firstCommandIndex, freeMoves);
+        if (countMovesWithinThePlateauGrid(x, y, heading, 1) > 0)
+            return new ObstacleEncounteredException(ROBOTIC_ROVER_ENCOUNTERS_AN_OBSTACLE_EXCEPTION, failingCommandIndex, index, x, y, HeadingTable.letterOf(heading));
+        return new PlateauGridExceededException(ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION, failingCommandIndex, index, x, y, HeadingTable.letterOf(heading));
+    }
+
+    int countFreeMoves(long x, long y, int heading, int moves) {
+        return obstacleMap.countFreeMoves(x, y, heading, countMovesWithinThePlateauGrid(x, y, heading, moves));
+    }
+
+    private int countMovesWithinThePlateauGrid(long x, long y, int heading, int moves) {
+        if (x < 0 || y < 0 || x > maxPlateauXCoordinate || y > maxPlateauYCoordinate)
+            return 0;
+        if (heading == HeadingTable.EAST)
+            return (int) Math.min(moves, maxPlateauXCoordinate - x);
+        if (heading == HeadingTable.WEST)
+            return (int) Math.min(moves, x);
+        if (heading == HeadingTable.NORTH)
+            return (int) Math.min(moves, maxPlateauYCoordinate - y);
+        return (int) Math.min(moves, y);
+    }
+
+    private int findMoveCommandIndex(CommandProgram commandProgram, int firstCommandIndex, int movesBefore) {
+        int index = firstCommandIndex;
+        for (int moves = 0; ; index++) {
+            if (commandProgram.commandAt(index) == CommandProgram.MOVE && moves++ == movesBefore)
+                return index;
+        }
+    }
+
+    public MissionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public CollisionPolicyEnum getCollisionPolicy() {
+        return collisionPolicy;
+    }
+
+    public TapeSummaryCache getTapeSummaryCache() {
+        return tapeSummaryCache;
+    }
+
+    public PathTracer getPathTracer() {
+        return pathTracer;
+    }
+
+    public ObstacleMap getObstacleMap() {
+        return obstacleMap;
+    }
+
+    public long getMaxPlateauXCoordinate() {
+        return maxPlateauXCoordinate;
+    }
+
+    public long getMaxPlateauYCoordinate() {
+        return maxPlateauYCoordinate;
+    }
+}
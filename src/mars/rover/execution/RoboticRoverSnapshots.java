@@ -0,0 +1,79 @@
+package mars.rover.execution;
+
+import mars.rover.command.OptimizedCommandProgram;
+
+import java.util.Arrays;
+
+final class RoboticRoverSnapshots {
+
+    static final int NO_SNAPSHOT = -1;
+
+    private int[] commandIndexes;
+    private long[] xs;
+    private long[] ys;
+    private byte[] headings;
+    private int size;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    RoboticRoverSnapshots() {
+        commandIndexes = new int[INITIAL_CAPACITY];
+        xs = new long[INITIAL_CAPACITY];
+        ys = new long[INITIAL_CAPACITY];
+        headings = new byte[INITIAL_CAPACITY];
+    }
+
+    void add(int commandIndex, long x, long y, int heading) {
+        if (size == commandIndexes.length) {
+            int capacity = size << 1;
+            commandIndexes = Arrays.copyOf(commandIndexes, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            headings = Arrays.copyOf(headings, capacity);
+        }
+        commandIndexes[size] = commandIndex;
+        xs[size] = x;
+        ys[size] = y;
+        headings[size] = (byte) heading;
+        size++;
+    }
+
+    int latestReusableSnapshot(int firstChangedCommandIndex, OptimizedCommandProgram optimizedCommandProgram) {
+        int snapshot = Arrays.binarySearch(commandIndexes, 0, size, firstChangedCommandIndex);
+        snapshot = snapshot >= 0 ? snapshot : -snapshot - 2;
+        for (; snapshot >= 0; snapshot--) {
+            int operation = optimizedCommandProgram.operationStartingAtOrAfter(commandIndexes[snapshot]);
+            if (operation < optimizedCommandProgram.size() && optimizedCommandProgram.firstCommandIndexAt(operation) == commandIndexes[snapshot])
+                return snapshot;
+        }
+        return NO_SNAPSHOT;
+    }
+
+    void truncate(int size) {
+        this.size = size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int commandIndexAt(int snapshot) {
+        return commandIndexes[snapshot];
+    }
+
+    long xAt(int snapshot) {
+        return xs[snapshot];
+    }
+
+    long yAt(int snapshot) {
+        return ys[snapshot];
+    }
+
+    int headingAt(int snapshot) {
+        return headings[snapshot];
+    }
+}
@@ -0,0 +1,175 @@
+package mars.rover.execution;
+
+import custom.exception.ValidationException;
+import mars.rover.command.OptimizedCommandProgram;
+import mars.rover.fleet.FleetState;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class ShardedMissionExecutor implements MissionExecutor<RuntimeException> {
+
+    private final int shards;
+    private final LongAdder handoffs = new LongAdder();
+
+    private static final int IDLE_SPINS_BEFORE_PARKING = 1024;
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    public ShardedMissionExecutor(int shards) {
+        if (shards < 1)
+            throw new IllegalArgumentException("Shards must be at least 1 but was " + shards);
+        this.shards = shards;
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException {
+        if (shards == 1 || commandExecutor.isCollisionAware() || commandExecutor.isTracing() || commandExecutor.getMetrics().isEnabled()) {
+            new ParallelMissionExecutor(1).execute(commandExecutor, fleetState);
+            return;
+        }
+
+        FleetState initialFleetState = fleetState.copy();
+        Mission mission = new Mission(commandExecutor, fleetState);
+        for (int index = 0; index < fleetState.size(); index++) {
+            mission.inboxes[mission.shardOf(fleetState.getY(index))].offer(new RoboticRoverHandoff(index, 0));
+        }
+        Thread[] workers = new Thread[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            int ownedShard = shard;
+            workers[shard] = new Thread(() -> mission.simulateShard(ownedShard), "mission-shard-" + shard);
+            workers[shard].start();
+        }
+        joinUninterruptibly(workers);
+        rethrowUnexpectedFailure(mission.unexpectedFailure.get());
+
+        int failingIndex = mission.firstFailingIndex.get();
+        if (failingIndex == fleetState.size())
+            return;
+        for (int index = failingIndex + 1; index < fleetState.size(); index++) {
+            fleetState.copyPose(initialFleetState, index);
+        }
+        throw mission.failures[failingIndex];
+    }
+
+    static void joinUninterruptibly(Thread[] workers) {
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    static void rethrowUnexpectedFailure(Throwable unexpectedFailure) {
+        if (unexpectedFailure instanceof RuntimeException)
+            throw (RuntimeException) unexpectedFailure;
+        if (unexpectedFailure instanceof Error)
+            throw (Error) unexpectedFailure;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public long getHandoffCount() {
+        return handoffs.sum();
+    }
+
+    private static final class RoboticRoverHandoff {
+
+        private final int roboticRoverIndex;
+        private final int nextOperation;
+
+        RoboticRoverHandoff(int roboticRoverIndex, int nextOperation) {
+            this.roboticRoverIndex = roboticRoverIndex;
+            this.nextOperation = nextOperation;
+        }
+    }
+
+    private final class Mission {
+
+        private final RoboticRoverCommandExecutor commandExecutor;
+        private final FleetState fleetState;
+        private final Queue<RoboticRoverHandoff>[] inboxes;
+        private final ValidationException[] failures;
+        private final AtomicInteger firstFailingIndex;
+        private final AtomicInteger pendingRoboticRovers;
+        private final AtomicReference<Throwable> unexpectedFailure = new AtomicReference<>();
+        private final long stripHeight;
+
+        @SuppressWarnings("unchecked")
+        Mission(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) {
+            this.commandExecutor = commandExecutor;
+            this.fleetState = fleetState;
+            this.inboxes = new Queue[shards];
+            for (int shard = 0; shard < shards; shard++) {
+                inboxes[shard] = new ConcurrentLinkedQueue<>();
+            }
+            this.failures = new ValidationException[fleetState.size()];
+            this.firstFailingIndex = new AtomicInteger(fleetState.size());
+            this.pendingRoboticRovers = new AtomicInteger(fleetState.size());
+            this.stripHeight = commandExecutor.getMaxPlateauYCoordinate() / shards + 1;
+        }
+
+        int shardOf(long y) {
+            if (y < 0)
+                return 0;
+            return (int) Math.min(shards - 1, y / stripHeight);
+        }
+
+        void simulateShard(int shard) {
+            Queue<RoboticRoverHandoff> inbox = inboxes[shard];
+            int idleSpins = 0;
+            while (pendingRoboticRovers.get() > 0) {
+                RoboticRoverHandoff handoff = inbox.poll();
+                if (handoff == null) {
+                    if (++idleSpins < IDLE_SPINS_BEFORE_PARKING) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    continue;
+                }
+                idleSpins = 0;
+                simulate(shard, handoff.roboticRoverIndex, handoff.nextOperation);
+            }
+        }
+
+        private void simulate(int shard, int index, int operation) {
+            boolean handedOff = false;
+            try {
+                OptimizedCommandProgram optimizedCommandProgram = fleetState.getCommandProgram(index).optimize();
+                int size = optimizedCommandProgram.size();
+                while (operation < size && index < firstFailingIndex.get()) {
+                    operation = commandExecutor.executeOperations(fleetState, index, operation, operation + 1);
+                    int nextShard = shardOf(fleetState.getY(index));
+                    if (nextShard != shard && operation < size) {
+                        handoffs.increment();
+                        inboxes[nextShard].offer(new RoboticRoverHandoff(index, operation));
+                        handedOff = true;
+                        return;
+                    }
+                }
+            } catch (ValidationException exception) {
+                failures[index] = exception;
+                firstFailingIndex.accumulateAndGet(index, Math::min);
+            } catch (RuntimeException | Error exception) {
+                unexpectedFailure.compareAndSet(null, exception);
+                firstFailingIndex.set(0);
+            } finally {
+                if (!handedOff)
+                    pendingRoboticRovers.decrementAndGet();
+            }
+        }
+    }
+}
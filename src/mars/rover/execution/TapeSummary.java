@@ -0,0 +1,148 @@
+package mars.rover.execution;
+
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandPeriod;
+import mars.rover.command.CommandProgram;
+import mars.rover.command.OptimizedCommandProgram;
+
+public final class TapeSummary {
+
+    private static final int QUARTER_TURN_MASK = 3;
+
+    private final int startHeading;
+    private final int finalHeading;
+    private final long deltaX;
+    private final long deltaY;
+    private final long minimumX;
+    private final long maximumX;
+    private final long minimumY;
+    private final long maximumY;
+
+    private TapeSummary(int startHeading, Walk walk) {
+        this.startHeading = startHeading;
+        this.finalHeading = walk.heading;
+        this.deltaX = walk.x;
+        this.deltaY = walk.y;
+        this.minimumX = walk.minimumX;
+        this.maximumX = walk.maximumX;
+        this.minimumY = walk.minimumY;
+        this.maximumY = walk.maximumY;
+    }
+
+    public static TapeSummary summarize(CommandProgram commandProgram, int startHeading) {
+        OptimizedCommandProgram optimizedCommandProgram = commandProgram.optimize();
+        Walk walk = new Walk(startHeading);
+        for (int operation = 0; operation < optimizedCommandProgram.size(); operation++) {
+            int operand = optimizedCommandProgram.operandAt(operation);
+            byte operationCode = optimizedCommandProgram.operationAt(operation);
+            if (operationCode == OptimizedCommandProgram.TURN) {
+                walk.heading = (walk.heading + operand) & QUARTER_TURN_MASK;
+            } else if (operationCode == OptimizedCommandProgram.REPEAT) {
+                walk.repeat(optimizedCommandProgram.periodAt(operation), operand);
+            } else {
+                walk.advance(operand);
+            }
+        }
+        return new TapeSummary(startHeading, walk);
+    }
+
+    public boolean staysWithinThePlateauGrid(long x, long y, long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+        return x + minimumX >= 0 && y + minimumY >= 0
+                && x + maximumX <= maxPlateauXCoordinate && y + maximumY <= maxPlateauYCoordinate;
+    }
+
+    public int getStartHeading() {
+        return startHeading;
+    }
+
+    public int getFinalHeading() {
+        return finalHeading;
+    }
+
+    public long getDeltaX() {
+        return deltaX;
+    }
+
+    public long getDeltaY() {
+        return deltaY;
+    }
+
+    public long getMinimumX() {
+        return minimumX;
+    }
+
+    public long getMaximumX() {
+        return maximumX;
+    }
+
+    public long getMinimumY() {
+        return minimumY;
+    }
+
+    public long getMaximumY() {
+        return maximumY;
+    }
+
+    private static final class Walk {
+
+        private int heading;
+        private long x;
+        private long y;
+        private long minimumX;
+        private long maximumX;
+        private long minimumY;
+        private long maximumY;
+
+        Walk(int heading) {
+            this.heading = heading;
+        }
+
+        void advance(int moves) {
+            x += (long) HeadingTable.deltaX(heading) * moves;
+            y += (long) HeadingTable.deltaY(heading) * moves;
+            include(x, x, y, y);
+        }
+
+        void repeat(CommandPeriod period, int repetitions) {
+            int repetitionsPerCycle = period.getRepetitionsPerCycle();
+            long cycles = repetitions / repetitionsPerCycle;
+            if (cycles > 0) {
+                long cycleX = 0;
+                long cycleY = 0;
+                long cycleMinimumX = 0;
+                long cycleMaximumX = 0;
+                long cycleMinimumY = 0;
+                long cycleMaximumY = 0;
+                int cycleHeading = heading;
+                for (int repetition = 0; repetition < repetitionsPerCycle; repetition++) {
+                    cycleMinimumX = Math.min(cycleMinimumX, cycleX + period.getMinimumX(cycleHeading));
+                    cycleMaximumX = Math.max(cycleMaximumX, cycleX + period.getMaximumX(cycleHeading));
+                    cycleMinimumY = Math.min(cycleMinimumY, cycleY + period.getMinimumY(cycleHeading));
+                    cycleMaximumY = Math.max(cycleMaximumY, cycleY + period.getMaximumY(cycleHeading));
+                    cycleX += period.getDeltaX(cycleHeading);
+                    cycleY += period.getDeltaY(cycleHeading);
+                    cycleHeading = (cycleHeading + period.getQuarterTurns()) & QUARTER_TURN_MASK;
+                }
+                include(x + cycleMinimumX, x + cycleMaximumX, y + cycleMinimumY, y + cycleMaximumY);
+                long lastX = x + (cycles - 1) * cycleX;
+                long lastY = y + (cycles - 1) * cycleY;
+                include(lastX + cycleMinimumX, lastX + cycleMaximumX, lastY + cycleMinimumY, lastY + cycleMaximumY);
+                x += cycles * cycleX;
+                y += cycles * cycleY;
+            }
+            for (int repetition = 0; repetition < repetitions % repetitionsPerCycle; repetition++) {
+                include(x + period.getMinimumX(heading), x + period.getMaximumX(heading), y + period.getMinimumY(heading), y + period.getMaximumY(heading));
+                x += period.getDeltaX(heading);
+                y += period.getDeltaY(heading);
+                heading = (heading + period.getQuarterTurns()) & QUARTER_TURN_MASK;
+            }
+        }
+
+        private void include(long fromX, long toX, long fromY, long toY) {
+            minimumX = Math.min(minimumX, fromX);
+            maximumX = Math.max(maximumX, toX);
+            minimumY = Math.min(minimumY, fromY);
+            maximumY = Math.max(maximumY, toY);
+        }
+    }
+}
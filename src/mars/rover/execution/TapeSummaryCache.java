@@ -0,0 +1,178 @@
+package mars.rover.execution;
+
+import mars.rover.command.CommandProgram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TapeSummaryCache {
+
+    private final int maximumEntries;
+    private final Stripe[] stripes;
+
+    private static final int DEFAULT_STRIPES = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    public TapeSummaryCache(int maximumEntries) {
+        this(maximumEntries, DEFAULT_STRIPES);
+    }
+
+    public TapeSummaryCache(int maximumEntries, int stripes) {
+        if (maximumEntries < 1)
+            throw new IllegalArgumentException("Maximum entries must be at least 1 but was " + maximumEntries);
+        if (stripes < 1)
+            throw new IllegalArgumentException("Stripes must be at least 1 but was " + stripes);
+        this.maximumEntries = maximumEntries;
+        int stripeCount = Integer.highestOneBit(Math.min(stripes, maximumEntries));
+        this.stripes = new Stripe[stripeCount];
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            this.stripes[stripe] = new Stripe(maximumEntries / stripeCount + (stripe < maximumEntries % stripeCount ? 1 : 0));
+        }
+    }
+
+    public TapeSummary summarize(CommandProgram commandProgram, int heading) {
+        Key key = new Key(commandProgram, heading);
+        Stripe stripe = stripes[(key.hashCode() ^ key.hashCode() >>> 16) & (stripes.length - 1)];
+        TapeSummary tapeSummary = stripe.get(key);
+        if (tapeSummary != null)
+            return tapeSummary;
+        tapeSummary = TapeSummary.summarize(commandProgram, heading);
+        stripe.put(key, tapeSummary);
+        return tapeSummary;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public int getMaximumEntries() {
+        return maximumEntries;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        long hits = 0;
+        for (Stripe stripe : stripes) {
+            hits += stripe.getHits();
+        }
+        return hits;
+    }
+
+    public long getMisses() {
+        long misses = 0;
+        for (Stripe stripe : stripes) {
+            misses += stripe.getMisses();
+        }
+        return misses;
+    }
+
+    public long getEvictions() {
+        long evictions = 0;
+        for (Stripe stripe : stripes) {
+            evictions += stripe.getEvictions();
+        }
+        return evictions;
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private static final class Key {
+
+        private final CommandProgram commandProgram;
+        private final int heading;
+        private final int hash;
+
+        Key(CommandProgram commandProgram, int heading) {
+            this.commandProgram = commandProgram;
+            this.heading = heading;
+            long contentHash = commandProgram.contentHash();
+            this.hash = (int) (contentHash ^ contentHash >>> 32) * 31 + heading;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object)
+                return true;
+            if (!(object instanceof Key))
+                return false;
+            Key other = (Key) object;
+            return hash == other.hash && heading == other.heading
+                    && commandProgram.contentHash() == other.commandProgram.contentHash()
+                    && commandProgram.firstDifferenceFrom(other.commandProgram) == CommandProgram.NO_DIFFERENCE;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final int maximumEntries;
+        private final LinkedHashMap<Key, TapeSummary> entries;
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        Stripe(int maximumEntries) {
+            this.maximumEntries = maximumEntries;
+            this.entries = new LinkedHashMap<Key, TapeSummary>(16, LOAD_FACTOR, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, TapeSummary> eldest) {
+                    if (size() <= Stripe.this.maximumEntries)
+                        return false;
+                    evictions++;
+                    return true;
+                }
+            };
+        }
+
+        synchronized TapeSummary get(Key key) {
+            TapeSummary tapeSummary = entries.get(key);
+            if (tapeSummary == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+            return tapeSummary;
+        }
+
+        synchronized void put(Key key, TapeSummary tapeSummary) {
+            entries.putIfAbsent(key, tapeSummary);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long getHits() {
+            return hits;
+        }
+
+        synchronized long getMisses() {
+            return misses;
+        }
+
+        synchronized long getEvictions() {
+            return evictions;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package mars.rover.execution;
+
+import custom.exception.ValidationException;
+import mars.rover.command.CommandProgram;
+import mars.rover.fleet.FleetState;
+
+public class VectorizedMissionExecutor implements MissionExecutor<RuntimeException> {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final boolean VECTOR_API_AVAILABLE = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()
+            && FleetVectorStepper.hasEnoughLanes();
+
+    private final boolean vectorized;
+    private int vectorizedRoboticRovers;
+    private int scalarRoboticRovers;
+
+    public VectorizedMissionExecutor() {
+        this(true);
+    }
+
+    public VectorizedMissionExecutor(boolean vectorized) {
+        this.vectorized = vectorized && VECTOR_API_AVAILABLE;
+    }
+
+    public static boolean isVectorApiAvailable() {
+        return VECTOR_API_AVAILABLE;
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws ValidationException {
+        vectorizedRoboticRovers = 0;
+        scalarRoboticRovers = 0;
+        if (!vectorized || commandExecutor.isCollisionAware() || commandExecutor.isTracing()
+                || commandExecutor.getObstacleMap().size() > 0 || commandExecutor.getMetrics().isEnabled()) {
+            for (int index = 0; index < fleetState.size(); index++) {
+                scalarRoboticRovers++;
+                commandExecutor.execute(fleetState, index);
+            }
+            return;
+        }
+
+        FleetState initialFleetState = fleetState.copy();
+        FleetVectorStepper fleetVectorStepper = new FleetVectorStepper(commandExecutor.getMaxPlateauXCoordinate(), commandExecutor.getMaxPlateauYCoordinate());
+        int[] batch = new int[FleetVectorStepper.LANES];
+        int batchSize = 0;
+        int failingIndex = fleetState.size();
+        ValidationException failure = null;
+        for (int index = 0; index < failingIndex; index++) {
+            if (isVectorizable(commandExecutor, fleetState, index)) {
+                batch[batchSize++] = index;
+                if (batchSize == batch.length) {
+                    failingIndex = Math.min(failingIndex, executeBatch(fleetVectorStepper, fleetState, batch, batchSize));
+                    batchSize = 0;
+                }
+                continue;
+            }
+            scalarRoboticRovers++;
+            try {
+                commandExecutor.execute(fleetState, index);
+            } catch (ValidationException exception) {
+                failingIndex = index;
+                failure = exception;
+            }
+        }
+        if (batchSize > 0) {
+            int batchFailingIndex = executeBatch(fleetVectorStepper, fleetState, batch, batchSize);
+            if (batchFailingIndex < failingIndex) {
+                failingIndex = batchFailingIndex;
+                failure = null;
+            }
+        }
+        if (failingIndex == fleetState.size())
+            return;
+
+        for (int index = failingIndex + 1; index < fleetState.size(); index++) {
+            fleetState.copyPose(initialFleetState, index);
+        }
+        if (failure == null) {
+            fleetState.copyPose(initialFleetState, failingIndex);
+            commandExecutor.execute(fleetState, failingIndex);
+        }
+        throw failure;
+    }
+
+    private boolean isVectorizable(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState, int index) {
+        CommandProgram commandProgram = fleetState.getCommandProgram(index);
+        long x = fleetState.getX(index);
+        long y = fleetState.getY(index);
+        return !commandProgram.isRepeated() && x >= 0 && y >= 0
+                && x <= commandExecutor.getMaxPlateauXCoordinate() && y <= commandExecutor.getMaxPlateauYCoordinate();
+    }
+
+    private int executeBatch(FleetVectorStepper fleetVectorStepper, FleetState fleetState, int[] batch, int batchSize) {
+        vectorizedRoboticRovers += batchSize;
+        long failedLanes = fleetVectorStepper.execute(fleetState, batch, batchSize);
+        return failedLanes == 0 ? fleetState.size() : batch[Long.numberOfTrailingZeros(failedLanes)];
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    public int getVectorizedRoboticRovers() {
+        return vectorizedRoboticRovers;
+    }
+
+    public int getScalarRoboticRovers() {
+        return scalarRoboticRovers;
+    }
+}
@@ -0,0 +1,114 @@
+package mars.rover.fleet;
+
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.Coordinate;
+import mars.rover.entity.RoboticRover;
+
+import java.util.List;
+
+public class FleetState {
+
+    private final long[] xs;
+    private final long[] ys;
+    private final byte[] headings;
+    private final CommandProgram[] commandPrograms;
+
+    private static final CardinalCompassPointEnum[] CARDINAL_COMPASS_POINTS = CardinalCompassPointEnum.values();
+
+    public FleetState(int size) {
+        this.xs = new long[size];
+        this.ys = new long[size];
+        this.headings = new byte[size];
+        this.commandPrograms = new CommandProgram[size];
+    }
+
+    private FleetState(long[] xs, long[] ys, byte[] headings, CommandProgram[] commandPrograms) {
+        this.xs = xs;
+        this.ys = ys;
+        this.headings = headings;
+        this.commandPrograms = commandPrograms;
+    }
+
+    public static FleetState of(List<RoboticRover> roboticRoverList) {
+        FleetState fleetState = new FleetState(roboticRoverList.size());
+        int index = 0;
+        for (RoboticRover roboticRover : roboticRoverList) {
+            fleetState.readFrom(index++, roboticRover);
+        }
+        return fleetState;
+    }
+
+    public void readFrom(int index, RoboticRover roboticRover) {
+        xs[index] = roboticRover.getCoordinate().getX();
+        ys[index] = roboticRover.getCoordinate().getY();
+        headings[index] = (byte) roboticRover.getCardinalCompassPoint().ordinal();
+        commandPrograms[index] = roboticRover.getCommandProgram();
+    }
+
+    public void writeTo(int index, RoboticRover roboticRover) {
+        Coordinate coordinate = roboticRover.getCoordinate();
+        coordinate.setX(xs[index]);
+        coordinate.setY(ys[index]);
+        roboticRover.setCardinalCompassPoint(CARDINAL_COMPASS_POINTS[headings[index]]);
+    }
+
+    public void writeTo(List<RoboticRover> roboticRoverList) {
+        int index = 0;
+        for (RoboticRover roboticRover : roboticRoverList) {
+            writeTo(index++, roboticRover);
+        }
+    }
+
+    public FleetState copy() {
+        return new FleetState(xs.clone(), ys.clone(), headings.clone(), commandPrograms.clone());
+    }
+
+    public void copyPose(FleetState source, int index) {
+        xs[index] = source.xs[index];
+        ys[index] = source.ys[index];
+        headings[index] = source.headings[index];
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public long getX(int index) {
+        return xs[index];
+    }
+
+    public long getY(int index) {
+        return ys[index];
+    }
+
+    public int getHeading(int index) {
+        return headings[index];
+    }
+
+    public CommandProgram getCommandProgram(int index) {
+        return commandPrograms[index];
+    }
+
+    public void setPose(int index, long x, long y, int heading) {
+        xs[index] = x;
+        ys[index] = y;
+        headings[index] = (byte) heading;
+    }
+
+    public void setCommandProgram(int index, CommandProgram commandProgram) {
+        commandPrograms[index] = commandProgram;
+    }
+
+    public long[] xs() {
+        return xs;
+    }
+
+    public long[] ys() {
+        return ys;
+    }
+
+    public byte[] headings() {
+        return headings;
+    }
+}
@@ -0,0 +1,105 @@
+package mars.rover.fleet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+final class OffHeapChunks implements Closeable {
+
+    private final int chunkBytes;
+    private final int chunkShift;
+    private final FileChannel channel;
+    private ByteBuffer[] chunks = new ByteBuffer[INITIAL_CHUNKS];
+    private int chunkCount;
+
+    private static final int INITIAL_CHUNKS = 8;
+    private static final String TEMPORARY_PREFIX = "mars-rover-";
+
+    private OffHeapChunks(int chunkBytes, FileChannel channel) {
+        this.chunkBytes = chunkBytes;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkBytes);
+        this.channel = channel;
+    }
+
+    static OffHeapChunks allocateDirect(int chunkBytes) {
+        return new OffHeapChunks(chunkBytes, null);
+    }
+
+    static OffHeapChunks map(Path file, int chunkBytes) throws IOException {
+        return new OffHeapChunks(chunkBytes, FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    static OffHeapChunks mapTemporary(String suffix, int chunkBytes) throws IOException {
+        Path file = Files.createTempFile(TEMPORARY_PREFIX, "." + suffix);
+        try {
+            return new OffHeapChunks(chunkBytes, FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException exception) {
+            Files.deleteIfExists(file);
+            throw exception;
+        }
+    }
+
+    void ensureCapacity(long bytes) {
+        while ((long) chunkCount << chunkShift < bytes) {
+            if (chunkCount == chunks.length)
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            chunks[chunkCount] = newChunk((long) chunkCount << chunkShift);
+            chunkCount++;
+        }
+    }
+
+    private ByteBuffer newChunk(long position) {
+        if (channel == null)
+            return ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, position, chunkBytes).order(ByteOrder.nativeOrder());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    ByteBuffer chunk(int chunk) {
+        return chunks[chunk];
+    }
+
+    int chunkOf(long offset) {
+        return (int) (offset >>> chunkShift);
+    }
+
+    int positionOf(long offset) {
+        return (int) offset & (chunkBytes - 1);
+    }
+
+    int getChunkBytes() {
+        return chunkBytes;
+    }
+
+    boolean isMapped() {
+        return channel != null;
+    }
+
+    void force() {
+        for (int chunk = 0; chunk < chunkCount && channel != null; chunk++) {
+            ((MappedByteBuffer) chunks[chunk]).force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        Arrays.fill(chunks, null);
+        chunkCount = 0;
+        if (channel != null)
+            channel.close();
+    }
+}
@@ -0,0 +1,250 @@
+package mars.rover.fleet;
+
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.Coordinate;
+import mars.rover.entity.RoboticRover;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+public final class OffHeapFleetStore implements Closeable {
+
+    public static final int RECORD_BYTES = 32;
+
+    private static final int X_OFFSET = 0;
+    private static final int Y_OFFSET = 8;
+    private static final int COMMAND_OFFSET_OFFSET = 16;
+    private static final int COMMAND_LENGTH_OFFSET = 24;
+    private static final int HEADING_OFFSET = 28;
+    private static final int DEFAULT_DIRECT_CHUNK_BYTES = 1 << 24;
+    private static final int DEFAULT_MAPPED_CHUNK_BYTES = 1 << 30;
+    private static final long MAX_DIRECT_FLEET_BYTES = 1L << 28;
+    private static final String RECORDS_FILE = "fleet.records";
+    private static final String COMMANDS_FILE = "fleet.commands";
+    private static final char[] COMMAND_LETTERS = {'L', 'R', 'M'};
+    private static final CardinalCompassPointEnum[] CARDINAL_COMPASS_POINTS = CardinalCompassPointEnum.values();
+
+    private final OffHeapChunks records;
+    private final OffHeapChunks commands;
+    private final int recordShift;
+    private final int recordMask;
+    private long size;
+    private long commandBytes;
+    private CommandProgram lastCommandProgram;
+    private long lastCommandOffset;
+
+    private OffHeapFleetStore(OffHeapChunks records, OffHeapChunks commands) {
+        this.records = records;
+        this.commands = commands;
+        this.recordShift = Integer.numberOfTrailingZeros(records.getChunkBytes() / RECORD_BYTES);
+        this.recordMask = records.getChunkBytes() / RECORD_BYTES - 1;
+    }
+
+    public static OffHeapFleetStore allocateDirect() {
+        return allocateDirect(DEFAULT_DIRECT_CHUNK_BYTES);
+    }
+
+    public static OffHeapFleetStore allocateDirect(int chunkBytes) {
+        validateChunkBytes(chunkBytes);
+        return new OffHeapFleetStore(OffHeapChunks.allocateDirect(chunkBytes), OffHeapChunks.allocateDirect(chunkBytes));
+    }
+
+    public static OffHeapFleetStore map(Path directory) throws IOException {
+        return map(directory, DEFAULT_MAPPED_CHUNK_BYTES);
+    }
+
+    public static OffHeapFleetStore map(Path directory, int chunkBytes) throws IOException {
+        validateChunkBytes(chunkBytes);
+        OffHeapChunks records = OffHeapChunks.map(directory.resolve(RECORDS_FILE), chunkBytes);
+        try {
+            return new OffHeapFleetStore(records, OffHeapChunks.map(directory.resolve(COMMANDS_FILE), chunkBytes));
+        } catch (IOException exception) {
+            records.close();
+            throw exception;
+        }
+    }
+
+    private static void validateChunkBytes(int chunkBytes) {
+        if (chunkBytes < RECORD_BYTES || Integer.bitCount(chunkBytes) != 1)
+            throw new IllegalArgumentException("Chunk bytes must be a power of two of at least " + RECORD_BYTES + " but was " + chunkBytes);
+    }
+
+    public static OffHeapFleetStore mapTemporary() throws IOException {
+        return mapTemporary(DEFAULT_MAPPED_CHUNK_BYTES);
+    }
+
+    public static OffHeapFleetStore mapTemporary(int chunkBytes) throws IOException {
+        validateChunkBytes(chunkBytes);
+        OffHeapChunks records = OffHeapChunks.mapTemporary(RECORDS_FILE, chunkBytes);
+        try {
+            return new OffHeapFleetStore(records, OffHeapChunks.mapTemporary(COMMANDS_FILE, chunkBytes));
+        } catch (IOException exception) {
+            records.close();
+            throw exception;
+        }
+    }
+
+    public static OffHeapFleetStore of(List<RoboticRover> roboticRoverList) throws IOException {
+        long bytes = (long) roboticRoverList.size() * RECORD_BYTES;
+        for (RoboticRover roboticRover : roboticRoverList) {
+            bytes += roboticRover.getCommandProgram().length();
+        }
+        OffHeapFleetStore offHeapFleetStore = bytes <= MAX_DIRECT_FLEET_BYTES ? allocateDirect() : mapTemporary();
+        for (RoboticRover roboticRover : roboticRoverList) {
+            offHeapFleetStore.add(roboticRover);
+        }
+        return offHeapFleetStore;
+    }
+
+    public long appendCommands(CommandProgram commandProgram) {
+        if (commandProgram == lastCommandProgram)
+            return lastCommandOffset;
+        int length = commandProgram.length();
+        if (length == 0)
+            return commandBytes;
+        long offset = commandBytes;
+        if (length <= commands.getChunkBytes() && commands.chunkOf(offset) != commands.chunkOf(offset + length - 1))
+            offset = (long) (commands.chunkOf(offset) + 1) * commands.getChunkBytes();
+        commands.ensureCapacity(offset + length);
+        int command = 0;
+        while (command < length) {
+            ByteBuffer chunk = commands.chunk(commands.chunkOf(offset + command));
+            int position = commands.positionOf(offset + command);
+            int end = (int) Math.min(length, (long) command + commands.getChunkBytes() - position);
+            while (command < end) {
+                chunk.put(position++, commandProgram.commandAt(command++));
+            }
+        }
+        commandBytes = offset + length;
+        lastCommandProgram = commandProgram;
+        lastCommandOffset = offset;
+        return offset;
+    }
+
+    public long add(RoboticRover roboticRover) {
+        CommandProgram commandProgram = roboticRover.getCommandProgram();
+        return add(roboticRover.getCoordinate().getX(), roboticRover.getCoordinate().getY(), roboticRover.getCardinalCompassPoint().ordinal(),
+                appendCommands(commandProgram), commandProgram.length());
+    }
+
+    public long add(long x, long y, int heading, CommandProgram commandProgram) {
+        return add(x, y, heading, appendCommands(commandProgram), commandProgram.length());
+    }
+
+    public long add(long x, long y, int heading, long commandOffset, int commandLength) {
+        if (commandOffset < 0 || commandOffset + commandLength > commandBytes)
+            throw new IllegalArgumentException("Commands " + commandOffset + " to " + (commandOffset + commandLength) + " lie outside the command arena of " + commandBytes);
+        long index = size;
+        records.ensureCapacity((index + 1) * RECORD_BYTES);
+        ByteBuffer record = recordChunk(index);
+        int position = recordPosition(index);
+        record.putLong(position + X_OFFSET, x);
+        record.putLong(position + Y_OFFSET, y);
+        record.putLong(position + COMMAND_OFFSET_OFFSET, commandOffset);
+        record.putInt(position + COMMAND_LENGTH_OFFSET, commandLength);
+        record.put(position + HEADING_OFFSET, (byte) heading);
+        size = index + 1;
+        return index;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long getCommandArenaBytes() {
+        return commandBytes;
+    }
+
+    public long getX(long index) {
+        return recordChunk(index).getLong(recordPosition(index) + X_OFFSET);
+    }
+
+    public long getY(long index) {
+        return recordChunk(index).getLong(recordPosition(index) + Y_OFFSET);
+    }
+
+    public int getHeading(long index) {
+        return recordChunk(index).get(recordPosition(index) + HEADING_OFFSET);
+    }
+
+    public long getCommandOffset(long index) {
+        return recordChunk(index).getLong(recordPosition(index) + COMMAND_OFFSET_OFFSET);
+    }
+
+    public int getCommandLength(long index) {
+        return recordChunk(index).getInt(recordPosition(index) + COMMAND_LENGTH_OFFSET);
+    }
+
+    public void setPose(long index, long x, long y, int heading) {
+        ByteBuffer record = recordChunk(index);
+        int position = recordPosition(index);
+        record.putLong(position + X_OFFSET, x);
+        record.putLong(position + Y_OFFSET, y);
+        record.put(position + HEADING_OFFSET, (byte) heading);
+    }
+
+    public ByteBuffer commandChunkOf(long commandOffset) {
+        return commands.chunk(commands.chunkOf(commandOffset));
+    }
+
+    public int commandPositionOf(long commandOffset) {
+        return commands.positionOf(commandOffset);
+    }
+
+    public CommandProgram getCommandProgram(long index) {
+        long commandOffset = getCommandOffset(index);
+        int commandLength = getCommandLength(index);
+        if (commandLength == 0)
+            return CommandProgram.compile("");
+        StringBuilder command = new StringBuilder(commandLength);
+        for (long offset = commandOffset; offset < commandOffset + commandLength; offset++) {
+            command.append(COMMAND_LETTERS[commandChunkOf(offset).get(commandPositionOf(offset))]);
+        }
+        return CommandProgram.compile(command);
+    }
+
+    public RoboticRover toRoboticRover(long index) {
+        return new RoboticRover(new Coordinate(getX(index), getY(index)), CARDINAL_COMPASS_POINTS[getHeading(index)], getCommandProgram(index));
+    }
+
+    public void writeTo(long index, RoboticRover roboticRover) {
+        Coordinate coordinate = roboticRover.getCoordinate();
+        coordinate.setX(getX(index));
+        coordinate.setY(getY(index));
+        roboticRover.setCardinalCompassPoint(CARDINAL_COMPASS_POINTS[getHeading(index)]);
+    }
+
+    public void readFrom(long index, RoboticRover roboticRover) {
+        setPose(index, roboticRover.getCoordinate().getX(), roboticRover.getCoordinate().getY(), roboticRover.getCardinalCompassPoint().ordinal());
+    }
+
+    public boolean isMapped() {
+        return records.isMapped();
+    }
+
+    public void force() {
+        records.force();
+        commands.force();
+    }
+
+    private ByteBuffer recordChunk(long index) {
+        return records.chunk((int) (index >>> recordShift));
+    }
+
+    private int recordPosition(long index) {
+        return ((int) index & recordMask) * RECORD_BYTES;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            records.close();
+        } finally {
+            commands.close();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package mars.rover.io;
+
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.Coordinate;
+import mars.rover.entity.RoboticRover;
+import mars.rover.metrics.MissionMetrics;
+import mars.rover.metrics.MissionPhaseEnum;
+import mars.rover.validation.ValidationErrorEnum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class MissionFileReader {
+
+    private final int bufferSize;
+    private final MissionMetrics metrics;
+
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private int lineLength;
+    private long lineNumber;
+    private long roboticRoverIndex;
+    private boolean plateauGridRead;
+    private boolean expectingCommand;
+    private final long[] fields = new long[THREE];
+    private Coordinate pendingCoordinate;
+    private CardinalCompassPointEnum pendingCardinalCompassPoint;
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_LINE_CAPACITY = 256;
+    private static final int ONE = 1;
+    private static final int TWO = 2;
+    private static final int THREE = 3;
+    private static final byte SPACE = ' ';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte REPEAT_START = '(';
+    private static final long NOT_A_NUMBER = -1;
+    private static final long TOO_LARGE = -2;
+    private static final String NO_ROBOTIC_ROVERS_EXCEPTION = "Please provide some robotic rovers.";
+    private static final String LINE = " Line ";
+
+    public MissionFileReader() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public MissionFileReader(int bufferSize) {
+        this(bufferSize, MissionMetrics.noOp());
+    }
+
+    public MissionFileReader(int bufferSize, MissionMetrics metrics) {
+        this.bufferSize = bufferSize;
+        this.metrics = metrics;
+    }
+
+    public long read(Path missionFile, MissionHandler missionHandler) throws IOException, ValidationException {
+        try (FileChannel channel = FileChannel.open(missionFile, StandardOpenOption.READ)) {
+            return read(channel, missionHandler);
+        }
+    }
+
+    public long read(ReadableByteChannel channel, MissionHandler missionHandler) throws IOException, ValidationException {
+        long startNanos = System.nanoTime();
+        try {
+            return readRoboticRovers(channel, missionHandler);
+        } finally {
+            metrics.phaseCompleted(MissionPhaseEnum.PARSE, System.nanoTime() - startNanos);
+        }
+    }
+
+    private long readRoboticRovers(ReadableByteChannel channel, MissionHandler missionHandler) throws IOException, ValidationException {
+        reset();
+        byte[] chunk = new byte[bufferSize];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        int read;
+        while ((read = channel.read(buffer)) != -1) {
+            for (int index = 0; index < read; index++) {
+                byte character = chunk[index];
+                if (character == LINE_FEED) {
+                    endLine(missionHandler);
+                } else {
+                    appendToLine(character);
+                }
+            }
+            buffer.clear();
+        }
+        if (lineLength > 0)
+            endLine(missionHandler);
+        if (!plateauGridRead)
+            throw new ValidationException(ValidationErrorEnum.PROVIDE_PLATEAU_GRID.getMessage());
+        if (expectingCommand)
+            throw lineException(ValidationErrorEnum.PROVIDE_ROBOTIC_ROVER_COMMAND, lineNumber + ONE);
+        if (roboticRoverIndex == 0)
+            throw new ValidationException(NO_ROBOTIC_ROVERS_EXCEPTION);
+        return roboticRoverIndex;
+    }
+
+    private void reset() {
+        lineLength = 0;
+        lineNumber = 0;
+        roboticRoverIndex = 0;
+        plateauGridRead = false;
+        expectingCommand = false;
+    }
+
+    private void appendToLine(byte character) {
+        if (lineLength == line.length)
+            line = Arrays.copyOf(line, line.length * TWO);
+        line[lineLength++] = character;
+    }
+
+    private void endLine(MissionHandler missionHandler) throws ValidationException {
+        lineNumber++;
+        int length = lineLength;
+        lineLength = 0;
+        if (length > 0 && line[length - ONE] == CARRIAGE_RETURN)
+            length--;
+        if (isBlank(length)) {
+            if (expectingCommand)
+                throw lineException(ValidationErrorEnum.PROVIDE_ROBOTIC_ROVER_COMMAND, lineNumber);
+            return;
+        }
+
+        if (!plateauGridRead) {
+            parsePlateauGrid(length);
+            plateauGridRead = true;
+            missionHandler.plateauGrid(fields[0], fields[ONE]);
+        } else if (!expectingCommand) {
+            parsePosition(length);
+            expectingCommand = true;
+        } else {
+            CommandProgram commandProgram = parseCommand(length);
+            expectingCommand = false;
+            missionHandler.roboticRover(roboticRoverIndex++, new RoboticRover(pendingCoordinate, pendingCardinalCompassPoint, commandProgram));
+        }
+    }
+
+    private void parsePlateauGrid(int length) throws ValidationException {
+        if (splitFields(length) != TWO)
+            throw lineException(ValidationErrorEnum.PLATEAU_GRID_DOES_NOT_CONTAIN_TWO_CHARACTERS_SEPARATED_BY_ONE_SPACE, lineNumber);
+        if (fields[0] == NOT_A_NUMBER)
+            throw lineException(ValidationErrorEnum.FIRST_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT, lineNumber);
+        if (fields[ONE] == NOT_A_NUMBER)
+            throw lineException(ValidationErrorEnum.SECOND_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT, lineNumber);
+        if (fields[0] == TOO_LARGE || fields[ONE] == TOO_LARGE)
+            throw lineException(ValidationErrorEnum.PLATEAU_GRID_EXCEEDS_THE_MAXIMUM_SIZE, lineNumber);
+    }
+
+    private void parsePosition(int length) throws ValidationException {
+        if (splitFields(length) != THREE)
+            throw lineException(ValidationErrorEnum.POSITION_DOES_NOT_CONTAIN_THREE_CHARACTERS_SEPARATED_BY_ONE_SPACE, lineNumber);
+        if (fields[0] == NOT_A_NUMBER)
+            throw lineException(ValidationErrorEnum.FIRST_CHARACTER_IN_POSITION_IS_NOT_A_DIGIT, lineNumber);
+        if (fields[ONE] == NOT_A_NUMBER)
+            throw lineException(ValidationErrorEnum.SECOND_CHARACTER_IN_POSITION_IS_NOT_A_DIGIT, lineNumber);
+        if (fields[TWO] == NOT_A_NUMBER)
+            throw lineException(ValidationErrorEnum.THIRD_CHARACTER_IS_NOT_A_VALID_CARDINAL_COMPASS_POINT, lineNumber);
+        if (fields[0] == TOO_LARGE || fields[ONE] == TOO_LARGE)
+            throw lineException(ValidationErrorEnum.POSITION_EXCEEDS_THE_MAXIMUM_COORDINATE, lineNumber);
+        pendingCoordinate = new Coordinate(fields[0], fields[ONE]);
+        pendingCardinalCompassPoint = CardinalCompassPointEnum.get((int) fields[TWO]);
+    }
+
+    private CommandProgram parseCommand(int length) throws ValidationException {
+        for (int index = 0; index < length; index++) {
+            if (line[index] == REPEAT_START)
+                return parseRepeatedCommand(length);
+            if (!CommandProgram.isCommandLetter((char) (line[index] & 0xFF)))
+                throw lineException(ValidationErrorEnum.INVALID_ROBOTIC_ROVER_COMMAND, lineNumber);
+        }
+        return CommandProgram.compile(line, 0, length);
+    }
+
+    private CommandProgram parseRepeatedCommand(int length) throws ValidationException {
+        String command = new String(line, 0, length, StandardCharsets.ISO_8859_1);
+        int expandedLength = CommandProgram.measure(command);
+        if (expandedLength == CommandProgram.INVALID_COMMAND)
+            throw lineException(ValidationErrorEnum.INVALID_ROBOTIC_ROVER_COMMAND, lineNumber);
+        if (expandedLength == CommandProgram.COMMAND_TOO_LONG)
+            throw lineException(ValidationErrorEnum.ROBOTIC_ROVER_COMMAND_EXCEEDS_THE_MAXIMUM_LENGTH, lineNumber);
+        return CommandProgram.compile(command);
+    }
+
+    private int splitFields(int length) {
+        int fieldCount = 0;
+        int fieldStart = 0;
+        for (int index = 0; index <= length; index++) {
+            if (index < length && line[index] != SPACE)
+                continue;
+            if (fieldCount < THREE)
+                fields[fieldCount] = fieldCount == TWO ? parseCardinalCompassPoint(fieldStart, index) : parseNumber(fieldStart, index);
+            fieldCount++;
+            fieldStart = index + ONE;
+        }
+        return fieldCount;
+    }
+
+    private long parseNumber(int from, int to) {
+        if (from == to)
+            return NOT_A_NUMBER;
+        long value = 0;
+        for (int index = from; index < to; index++) {
+            int digit = line[index] - '0';
+            if (digit < 0 || digit > 9)
+                return NOT_A_NUMBER;
+            if (value > (Coordinate.MAX_COORDINATE - digit) / 10)
+                return TOO_LARGE;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private long parseCardinalCompassPoint(int from, int to) {
+        if (to - from != ONE)
+            return NOT_A_NUMBER;
+        int heading = HeadingTable.headingOf(line[from]);
+        return heading == HeadingTable.INVALID ? NOT_A_NUMBER : heading;
+    }
+
+    private boolean isBlank(int length) {
+        for (int index = 0; index < length; index++) {
+            if (line[index] != SPACE && line[index] != '\t')
+                return false;
+        }
+        return true;
+    }
+
+    private static ValidationException lineException(ValidationErrorEnum error, long lineNumber) {
+        return new ValidationException(error.getMessage() + LINE + lineNumber + ".");
+    }
+}
@@ -0,0 +1,11 @@
+package mars.rover.io;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+
+public interface MissionHandler {
+
+    void plateauGrid(long maxPlateauXCoordinate, long maxPlateauYCoordinate) throws ValidationException;
+
+    void roboticRover(long roboticRoverIndex, RoboticRover roboticRover) throws ValidationException;
+}
@@ -0,0 +1,35 @@
+package mars.rover.io;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.CommandExecutionOptions;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.metrics.MissionMetrics;
+
+public class StreamingMissionExecutor implements MissionHandler {
+
+    private final MissionHandler resultHandler;
+    private final MissionMetrics metrics;
+    private RoboticRoverCommandExecutor commandExecutor;
+
+    public StreamingMissionExecutor(MissionHandler resultHandler) {
+        this(resultHandler, MissionMetrics.noOp());
+    }
+
+    public StreamingMissionExecutor(MissionHandler resultHandler, MissionMetrics metrics) {
+        this.resultHandler = resultHandler;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void plateauGrid(long maxPlateauXCoordinate, long maxPlateauYCoordinate) throws ValidationException {
+        commandExecutor = new RoboticRoverCommandExecutor(maxPlateauXCoordinate, maxPlateauYCoordinate, new CommandExecutionOptions().withMetrics(metrics));
+        resultHandler.plateauGrid(maxPlateauXCoordinate, maxPlateauYCoordinate);
+    }
+
+    @Override
+    public void roboticRover(long roboticRoverIndex, RoboticRover roboticRover) throws ValidationException {
+        commandExecutor.execute(roboticRover, roboticRoverIndex);
+        resultHandler.roboticRover(roboticRoverIndex, roboticRover);
+    }
+}
@@ -0,0 +1,18 @@
+package mars.rover.metrics;
+
+public interface MissionMetrics {
+
+    static MissionMetrics noOp() {
+        return NoOpMissionMetrics.INSTANCE;
+    }
+
+    boolean isEnabled();
+
+    void roboticRoverExecuted(int roboticRoverIndex, long commands, long moves, long turns);
+
+    void roboticRoverRejected(int roboticRoverIndex, MissionRejectionEnum rejection);
+
+    void missionCompleted(long roboticRovers, boolean successful);
+
+    void phaseCompleted(MissionPhaseEnum phase, long elapsedNanos);
+}
@@ -0,0 +1,40 @@
+package mars.rover.metrics;
+
+public interface MissionMetricsMXBean {
+
+    long getMissionsCompleted();
+
+    long getMissionsFailed();
+
+    long getRoboticRoversExecuted();
+
+    long getCommandsExecuted();
+
+    long getMoves();
+
+    long getTurns();
+
+    long getPlateauGridRejections();
+
+    long getObstacleRejections();
+
+    long getCollisionRejections();
+
+    double getCommandsPerSecond();
+
+    double getRoboticRoversPerSecond();
+
+    double getParseMeanNanos();
+
+    long getParseP99Nanos();
+
+    double getValidateMeanNanos();
+
+    long getValidateP99Nanos();
+
+    double getExecuteMeanNanos();
+
+    long getExecuteP99Nanos();
+
+    void reset();
+}
@@ -0,0 +1,8 @@
+package mars.rover.metrics;
+
+public enum MissionPhaseEnum {
+
+    PARSE,
+    VALIDATE,
+    EXECUTE
+}
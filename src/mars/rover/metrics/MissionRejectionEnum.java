@@ -0,0 +1,8 @@
+package mars.rover.metrics;
+
+public enum MissionRejectionEnum {
+
+    PLATEAU_GRID,
+    OBSTACLE,
+    COLLISION
+}
@@ -0,0 +1,30 @@
+package mars.rover.metrics;
+
+final class NoOpMissionMetrics implements MissionMetrics {
+
+    static final NoOpMissionMetrics INSTANCE = new NoOpMissionMetrics();
+
+    private NoOpMissionMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void roboticRoverExecuted(int roboticRoverIndex, long commands, long moves, long turns) {
+    }
+
+    @Override
+    public void roboticRoverRejected(int roboticRoverIndex, MissionRejectionEnum rejection) {
+    }
+
+    @Override
+    public void missionCompleted(long roboticRovers, boolean successful) {
+    }
+
+    @Override
+    public void phaseCompleted(MissionPhaseEnum phase, long elapsedNanos) {
+    }
+}
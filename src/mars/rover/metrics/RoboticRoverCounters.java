@@ -0,0 +1,84 @@
+package mars.rover.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class RoboticRoverCounters {
+
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+    private static final int COUNTERS_PER_ROBOTIC_ROVER = 4;
+    private static final int COMMANDS = 0;
+    private static final int MOVES = 1;
+    private static final int TURNS = 2;
+    private static final int REJECTION = 3;
+    private static final int NO_REJECTION = 0;
+    private static final MissionRejectionEnum[] REJECTIONS = MissionRejectionEnum.values();
+
+    private volatile AtomicLongArray[] pages = new AtomicLongArray[0];
+
+    void executed(int roboticRoverIndex, long commands, long moves, long turns) {
+        AtomicLongArray page = pageOf(roboticRoverIndex);
+        int slot = slotOf(roboticRoverIndex);
+        page.addAndGet(slot + COMMANDS, commands);
+        page.addAndGet(slot + MOVES, moves);
+        page.addAndGet(slot + TURNS, turns);
+    }
+
+    void rejected(int roboticRoverIndex, MissionRejectionEnum rejection) {
+        pageOf(roboticRoverIndex).set(slotOf(roboticRoverIndex) + REJECTION, rejection.ordinal() + 1);
+    }
+
+    long getCommands(int roboticRoverIndex) {
+        return get(roboticRoverIndex, COMMANDS);
+    }
+
+    long getMoves(int roboticRoverIndex) {
+        return get(roboticRoverIndex, MOVES);
+    }
+
+    long getTurns(int roboticRoverIndex) {
+        return get(roboticRoverIndex, TURNS);
+    }
+
+    MissionRejectionEnum getRejection(int roboticRoverIndex) {
+        int rejection = (int) get(roboticRoverIndex, REJECTION);
+        return rejection == NO_REJECTION ? null : REJECTIONS[rejection - 1];
+    }
+
+    synchronized void reset() {
+        pages = new AtomicLongArray[0];
+    }
+
+    private long get(int roboticRoverIndex, int counter) {
+        AtomicLongArray[] pages = this.pages;
+        int page = roboticRoverIndex >>> PAGE_SHIFT;
+        if (roboticRoverIndex < 0 || page >= pages.length || pages[page] == null)
+            return 0;
+        return pages[page].get(slotOf(roboticRoverIndex) + counter);
+    }
+
+    private AtomicLongArray pageOf(int roboticRoverIndex) {
+        if (roboticRoverIndex < 0)
+            throw new IllegalArgumentException("Robotic rover index must be at least 0 but was " + roboticRoverIndex);
+        AtomicLongArray[] pages = this.pages;
+        int page = roboticRoverIndex >>> PAGE_SHIFT;
+        if (page < pages.length && pages[page] != null)
+            return pages[page];
+        return allocatePage(page);
+    }
+
+    private synchronized AtomicLongArray allocatePage(int page) {
+        AtomicLongArray[] pages = this.pages;
+        if (page >= pages.length)
+            pages = Arrays.copyOf(pages, Math.max(page + 1, pages.length * 2));
+        if (pages[page] == null)
+            pages[page] = new AtomicLongArray((PAGE_MASK + 1) * COUNTERS_PER_ROBOTIC_ROVER);
+        this.pages = pages;
+        return pages[page];
+    }
+
+    private static int slotOf(int roboticRoverIndex) {
+        return (roboticRoverIndex & PAGE_MASK) * COUNTERS_PER_ROBOTIC_ROVER;
+    }
+}
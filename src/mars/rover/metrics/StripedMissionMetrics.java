@@ -0,0 +1,207 @@
+package mars.rover.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StripedMissionMetrics implements MissionMetrics, MissionMetricsMXBean {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final double P99 = 99;
+    private static final String OBJECT_NAME = "mars.rover:type=MissionMetrics,name=";
+
+    private final LongAdder missionsCompleted = new LongAdder();
+    private final LongAdder missionsFailed = new LongAdder();
+    private final LongAdder roboticRoversExecuted = new LongAdder();
+    private final LongAdder commandsExecuted = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder[] rejections = new LongAdder[MissionRejectionEnum.values().length];
+    private final LatencyHistogram[] phaseLatencies = new LatencyHistogram[MissionPhaseEnum.values().length];
+    private final RoboticRoverCounters roboticRoverCounters = new RoboticRoverCounters();
+
+    public StripedMissionMetrics() {
+        for (int rejection = 0; rejection < rejections.length; rejection++) {
+            rejections[rejection] = new LongAdder();
+        }
+        for (int phase = 0; phase < phaseLatencies.length; phase++) {
+            phaseLatencies[phase] = new LatencyHistogram();
+        }
+    }
+
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(OBJECT_NAME + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    public static void unregister(ObjectName objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void roboticRoverExecuted(int roboticRoverIndex, long commands, long moves, long turns) {
+        roboticRoversExecuted.increment();
+        commandsExecuted.add(commands);
+        this.moves.add(moves);
+        this.turns.add(turns);
+        roboticRoverCounters.executed(roboticRoverIndex, commands, moves, turns);
+    }
+
+    @Override
+    public void roboticRoverRejected(int roboticRoverIndex, MissionRejectionEnum rejection) {
+        rejections[rejection.ordinal()].increment();
+        roboticRoverCounters.rejected(roboticRoverIndex, rejection);
+    }
+
+    @Override
+    public void missionCompleted(long roboticRovers, boolean successful) {
+        if (successful) {
+            missionsCompleted.increment();
+        } else {
+            missionsFailed.increment();
+        }
+    }
+
+    @Override
+    public void phaseCompleted(MissionPhaseEnum phase, long elapsedNanos) {
+        phaseLatencies[phase.ordinal()].record(elapsedNanos);
+    }
+
+    public LatencyHistogram getPhaseLatency(MissionPhaseEnum phase) {
+        return phaseLatencies[phase.ordinal()];
+    }
+
+    public long getRejections(MissionRejectionEnum rejection) {
+        return rejections[rejection.ordinal()].sum();
+    }
+
+    public long getRoboticRoverCommands(int roboticRoverIndex) {
+        return roboticRoverCounters.getCommands(roboticRoverIndex);
+    }
+
+    public long getRoboticRoverMoves(int roboticRoverIndex) {
+        return roboticRoverCounters.getMoves(roboticRoverIndex);
+    }
+
+    public long getRoboticRoverTurns(int roboticRoverIndex) {
+        return roboticRoverCounters.getTurns(roboticRoverIndex);
+    }
+
+    public MissionRejectionEnum getRoboticRoverRejection(int roboticRoverIndex) {
+        return roboticRoverCounters.getRejection(roboticRoverIndex);
+    }
+
+    @Override
+    public long getMissionsCompleted() {
+        return missionsCompleted.sum();
+    }
+
+    @Override
+    public long getMissionsFailed() {
+        return missionsFailed.sum();
+    }
+
+    @Override
+    public long getRoboticRoversExecuted() {
+        return roboticRoversExecuted.sum();
+    }
+
+    @Override
+    public long getCommandsExecuted() {
+        return commandsExecuted.sum();
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    @Override
+    public long getPlateauGridRejections() {
+        return getRejections(MissionRejectionEnum.PLATEAU_GRID);
+    }
+
+    @Override
+    public long getObstacleRejections() {
+        return getRejections(MissionRejectionEnum.OBSTACLE);
+    }
+
+    @Override
+    public long getCollisionRejections() {
+        return getRejections(MissionRejectionEnum.COLLISION);
+    }
+
+    @Override
+    public double getCommandsPerSecond() {
+        return perSecondOfExecution(commandsExecuted.sum());
+    }
+
+    @Override
+    public double getRoboticRoversPerSecond() {
+        return perSecondOfExecution(roboticRoversExecuted.sum());
+    }
+
+    private double perSecondOfExecution(long count) {
+        long executeNanos = getPhaseLatency(MissionPhaseEnum.EXECUTE).getTotalNanos();
+        return executeNanos == 0 ? 0 : count * NANOS_PER_SECOND / executeNanos;
+    }
+
+    @Override
+    public double getParseMeanNanos() {
+        return getPhaseLatency(MissionPhaseEnum.PARSE).getMeanNanos();
+    }
+
+    @Override
+    public long getParseP99Nanos() {
+        return getPhaseLatency(MissionPhaseEnum.PARSE).getPercentileNanos(P99);
+    }
+
+    @Override
+    public double getValidateMeanNanos() {
+        return getPhaseLatency(MissionPhaseEnum.VALIDATE).getMeanNanos();
+    }
+
+    @Override
+    public long getValidateP99Nanos() {
+        return getPhaseLatency(MissionPhaseEnum.VALIDATE).getPercentileNanos(P99);
+    }
+
+    @Override
+    public double getExecuteMeanNanos() {
+        return getPhaseLatency(MissionPhaseEnum.EXECUTE).getMeanNanos();
+    }
+
+    @Override
+    public long getExecuteP99Nanos() {
+        return getPhaseLatency(MissionPhaseEnum.EXECUTE).getPercentileNanos(P99);
+    }
+
+    @Override
+    public void reset() {
+        missionsCompleted.reset();
+        missionsFailed.reset();
+        roboticRoversExecuted.reset();
+        commandsExecuted.reset();
+        moves.reset();
+        turns.reset();
+        for (LongAdder rejection : rejections) {
+            rejection.reset();
+        }
+        for (LatencyHistogram phaseLatency : phaseLatencies) {
+            phaseLatency.reset();
+        }
+        roboticRoverCounters.reset();
+    }
+}
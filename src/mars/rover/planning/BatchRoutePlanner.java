@@ -0,0 +1,89 @@
+package mars.rover.planning;
+
+import custom.exception.ValidationException;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class BatchRoutePlanner implements AutoCloseable {
+
+    private final int parallelism;
+    private final int routesPerTask;
+    private final ForkJoinPool forkJoinPool;
+
+    private static final int DEFAULT_ROUTES_PER_TASK = 64;
+
+    public BatchRoutePlanner(int parallelism) {
+        this(parallelism, DEFAULT_ROUTES_PER_TASK);
+    }
+
+    public BatchRoutePlanner(int parallelism, int routesPerTask) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        if (routesPerTask < 1)
+            throw new IllegalArgumentException("Routes per task must be at least 1 but was " + routesPerTask);
+        this.parallelism = parallelism;
+        this.routesPerTask = routesPerTask;
+        this.forkJoinPool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+    }
+
+    public String[] plan(RoutePlanner routePlanner, List<RouteRequest> routeRequests) {
+        String[] commands = new String[routeRequests.size()];
+        if (parallelism == 1 || routeRequests.size() <= routesPerTask) {
+            planRange(routePlanner, routeRequests, commands, 0, routeRequests.size());
+            return commands;
+        }
+
+        forkJoinPool.invoke(new PlanRoutesTask(routePlanner, routeRequests, commands, 0, routeRequests.size()));
+        return commands;
+    }
+
+    private static void planRange(RoutePlanner routePlanner, List<RouteRequest> routeRequests, String[] commands, int from, int to) {
+        for (int index = from; index < to; index++) {
+            try {
+                commands[index] = routePlanner.plan(routeRequests.get(index));
+            } catch (ValidationException exception) {
+                commands[index] = null;
+            }
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void close() {
+        if (forkJoinPool != null)
+            forkJoinPool.shutdown();
+    }
+
+    private final class PlanRoutesTask extends RecursiveAction {
+
+        private final RoutePlanner routePlanner;
+        private final List<RouteRequest> routeRequests;
+        private final String[] commands;
+        private final int from;
+        private final int to;
+
+        PlanRoutesTask(RoutePlanner routePlanner, List<RouteRequest> routeRequests, String[] commands, int from, int to) {
+            this.routePlanner = routePlanner;
+            this.routeRequests = routeRequests;
+            this.commands = commands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= routesPerTask) {
+                planRange(routePlanner, routeRequests, commands, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PlanRoutesTask(routePlanner, routeRequests, commands, from, middle),
+                    new PlanRoutesTask(routePlanner, routeRequests, commands, middle, to));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package mars.rover.planning;
+
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.entity.Coordinate;
+import mars.rover.plateau.ObstacleMap;
+import mars.rover.plateau.OccupancyIndex;
+
+public class RoutePlanner {
+
+    private final long maxPlateauXCoordinate;
+    private final long maxPlateauYCoordinate;
+    private final ObstacleMap obstacleMap;
+    private final OccupancyIndex obstacleIndex;
+    private final int maximumExploredStates;
+    private final ThreadLocal<RouteSearch> routeSearches = ThreadLocal.withInitial(() -> new RouteSearch(this));
+
+    private static final int DEFAULT_MAXIMUM_EXPLORED_STATES = 1 << 20;
+    private static final String START_EXCEEDS_PLATEAU_GRID_EXCEPTION = "Please make sure the robotic rover starts within the plateau grid.";
+    private static final String GOAL_EXCEEDS_PLATEAU_GRID_EXCEPTION = "Please make sure the goal lies within the plateau grid.";
+    private static final String START_IS_AN_OBSTACLE_EXCEPTION = "Please make sure the robotic rover does not start on an obstacle.";
+    private static final String GOAL_IS_AN_OBSTACLE_EXCEPTION = "Please make sure the goal is not an obstacle.";
+    private static final String GOAL_IS_UNREACHABLE_EXCEPTION = "Please note that the goal cannot be reached from the robotic rover position.";
+    private static final String ROUTE_EXCEEDS_THE_MAXIMUM_EXPLORED_STATES_EXCEPTION = "Please note that no route was found within the maximum number of explored states.";
+
+    public RoutePlanner(long maxPlateauXCoordinate, long maxPlateauYCoordinate, ObstacleMap obstacleMap) {
+        this(maxPlateauXCoordinate, maxPlateauYCoordinate, obstacleMap, DEFAULT_MAXIMUM_EXPLORED_STATES);
+    }
+
+    public RoutePlanner(long maxPlateauXCoordinate, long maxPlateauYCoordinate, ObstacleMap obstacleMap, int maximumExploredStates) {
+        if (maximumExploredStates < 1)
+            throw new IllegalArgumentException("Maximum explored states must be at least 1 but was " + maximumExploredStates);
+        this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        this.maxPlateauYCoordinate = maxPlateauYCoordinate;
+        this.obstacleMap = obstacleMap;
+        this.obstacleIndex = obstacleMap.toOccupancyIndex(maxPlateauXCoordinate, maxPlateauYCoordinate);
+        this.maximumExploredStates = maximumExploredStates;
+    }
+
+    public String plan(Coordinate start, CardinalCompassPointEnum startCardinalCompassPoint,
+                       Coordinate goal, CardinalCompassPointEnum goalCardinalCompassPoint) throws ValidationException {
+        return plan(new RouteRequest(start, startCardinalCompassPoint, goal, goalCardinalCompassPoint));
+    }
+
+    public String plan(RouteRequest routeRequest) throws ValidationException {
+        Coordinate start = routeRequest.getStart();
+        Coordinate goal = routeRequest.getGoal();
+        if (!isWithinThePlateauGrid(start.getX(), start.getY()))
+            throw new ValidationException(START_EXCEEDS_PLATEAU_GRID_EXCEPTION);
+        if (!isWithinThePlateauGrid(goal.getX(), goal.getY()))
+            throw new ValidationException(GOAL_EXCEEDS_PLATEAU_GRID_EXCEPTION);
+        if (obstacleIndex.isOccupied(start.getX(), start.getY()))
+            throw new ValidationException(START_IS_AN_OBSTACLE_EXCEPTION);
+        if (obstacleIndex.isOccupied(goal.getX(), goal.getY()))
+            throw new ValidationException(GOAL_IS_AN_OBSTACLE_EXCEPTION);
+
+        RouteSearch routeSearch = routeSearches.get();
+        int goalNode = routeSearch.search(start.getX(), start.getY(), routeRequest.getStartCardinalCompassPoint().ordinal(),
+                goal.getX(), goal.getY(), routeRequest.getGoalCardinalCompassPoint().ordinal());
+        if (goalNode == RouteSearch.UNREACHABLE)
+            throw new ValidationException(GOAL_IS_UNREACHABLE_EXCEPTION);
+        if (goalNode == RouteSearch.EXPLORED_STATES_EXCEEDED)
+            throw new ValidationException(ROUTE_EXCEEDS_THE_MAXIMUM_EXPLORED_STATES_EXCEPTION);
+        return routeSearch.commandsTo(goalNode);
+    }
+
+    boolean isWithinThePlateauGrid(long x, long y) {
+        return x >= 0 && y >= 0 && x <= maxPlateauXCoordinate && y <= maxPlateauYCoordinate;
+    }
+
+    boolean isPassable(long x, long y) {
+        return isWithinThePlateauGrid(x, y) && !obstacleIndex.isOccupied(x, y);
+    }
+
+    public long getMaxPlateauXCoordinate() {
+        return maxPlateauXCoordinate;
+    }
+
+    public long getMaxPlateauYCoordinate() {
+        return maxPlateauYCoordinate;
+    }
+
+    public ObstacleMap getObstacleMap() {
+        return obstacleMap;
+    }
+
+    public int getMaximumExploredStates() {
+        return maximumExploredStates;
+    }
+}
@@ -0,0 +1,36 @@
+package mars.rover.planning;
+
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.entity.Coordinate;
+
+public class RouteRequest {
+
+    private final Coordinate start;
+    private final CardinalCompassPointEnum startCardinalCompassPoint;
+    private final Coordinate goal;
+    private final CardinalCompassPointEnum goalCardinalCompassPoint;
+
+    public RouteRequest(Coordinate start, CardinalCompassPointEnum startCardinalCompassPoint,
+                        Coordinate goal, CardinalCompassPointEnum goalCardinalCompassPoint) {
+        this.start = start;
+        this.startCardinalCompassPoint = startCardinalCompassPoint;
+        this.goal = goal;
+        this.goalCardinalCompassPoint = goalCardinalCompassPoint;
+    }
+
+    public Coordinate getStart() {
+        return start;
+    }
+
+    public CardinalCompassPointEnum getStartCardinalCompassPoint() {
+        return startCardinalCompassPoint;
+    }
+
+    public Coordinate getGoal() {
+        return goal;
+    }
+
+    public CardinalCompassPointEnum getGoalCardinalCompassPoint() {
+        return goalCardinalCompassPoint;
+    }
+}
@@ -0,0 +1,279 @@
+package mars.rover.planning;
+
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+
+import java.util.Arrays;
+
+final class RouteSearch {
+
+    static final int UNREACHABLE = -1;
+    static final int EXPLORED_STATES_EXCEEDED = -2;
+
+    private final RoutePlanner routePlanner;
+
+    private long[] nodeXs;
+    private long[] nodeYs;
+    private byte[] nodeHeadings;
+    private int[] nodeCosts;
+    private int[] nodeParents;
+    private byte[] nodeCommands;
+    private boolean[] nodeClosed;
+    private int[] nodeSlots;
+    private int nodes;
+
+    private final int width;
+    private int[] stateNodes;
+    private int[] stateStamps;
+    private int stamp;
+
+    private int[] slots;
+    private int mask;
+    private int shift;
+
+    private int[] bucketHeads;
+    private int[] entryNodes;
+    private int[] entryNext;
+    private int entries;
+    private int lowestBucket;
+    private int highestBucket;
+    private int baseEstimate;
+
+    private static final long DENSE_CELL_LIMIT = 1L << 20;
+    private static final int HEADINGS_BITS = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int EMPTY_SLOT = 0;
+    private static final int NO_PARENT = -1;
+    private static final int NO_ENTRY = -1;
+    private static final int QUARTER_TURN_MASK = 3;
+    private static final int MAXIMUM_ESTIMATED_DISTANCE = 1 << 29;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long SECOND_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+    private static final char[] COMMAND_LETTERS = {'L', 'R', 'M'};
+
+    RouteSearch(RoutePlanner routePlanner) {
+        this.routePlanner = routePlanner;
+        long maxPlateauXCoordinate = routePlanner.getMaxPlateauXCoordinate();
+        long maxPlateauYCoordinate = routePlanner.getMaxPlateauYCoordinate();
+        if (maxPlateauXCoordinate < DENSE_CELL_LIMIT && maxPlateauYCoordinate < DENSE_CELL_LIMIT
+                && (maxPlateauXCoordinate + 1) * (maxPlateauYCoordinate + 1) <= DENSE_CELL_LIMIT) {
+            this.width = (int) maxPlateauXCoordinate + 1;
+            int states = (int) ((maxPlateauXCoordinate + 1) * (maxPlateauYCoordinate + 1)) << HEADINGS_BITS;
+            stateNodes = new int[states];
+            stateStamps = new int[states];
+        } else {
+            this.width = 0;
+            allocateSlots(INITIAL_CAPACITY * 2);
+        }
+        allocateNodes(INITIAL_CAPACITY);
+        bucketHeads = new int[INITIAL_CAPACITY];
+        Arrays.fill(bucketHeads, NO_ENTRY);
+        entryNodes = new int[INITIAL_CAPACITY];
+        entryNext = new int[INITIAL_CAPACITY];
+    }
+
+    int search(long startX, long startY, int startHeading, long goalX, long goalY, int goalHeading) {
+        reset();
+        int startNode = addNode(startX, startY, startHeading, 0, NO_PARENT, CommandProgram.MOVE);
+        baseEstimate = estimate(startX, startY, startHeading, goalX, goalY, goalHeading);
+        push(startNode, baseEstimate);
+        int exploredStates = 0;
+
+        for (int node = pop(); node != NO_ENTRY; node = pop()) {
+            if (nodeClosed[node])
+                continue;
+            nodeClosed[node] = true;
+            long x = nodeXs[node];
+            long y = nodeYs[node];
+            int heading = nodeHeadings[node];
+            if (x == goalX && y == goalY && heading == goalHeading)
+                return node;
+            if (++exploredStates > routePlanner.getMaximumExploredStates())
+                return EXPLORED_STATES_EXCEEDED;
+
+            int cost = nodeCosts[node] + 1;
+            relax(node, x, y, HeadingTable.turnLeft(heading), cost, CommandProgram.LEFT, goalX, goalY, goalHeading);
+            relax(node, x, y, HeadingTable.turnRight(heading), cost, CommandProgram.RIGHT, goalX, goalY, goalHeading);
+            long nextX = x + HeadingTable.deltaX(heading);
+            long nextY = y + HeadingTable.deltaY(heading);
+            if (routePlanner.isPassable(nextX, nextY))
+                relax(node, nextX, nextY, heading, cost, CommandProgram.MOVE, goalX, goalY, goalHeading);
+        }
+        return UNREACHABLE;
+    }
+
+    String commandsTo(int goalNode) {
+        int length = nodeCosts[goalNode];
+        char[] commands = new char[length];
+        for (int node = goalNode; nodeParents[node] != NO_PARENT; node = nodeParents[node]) {
+            commands[--length] = COMMAND_LETTERS[nodeCommands[node]];
+        }
+        return new String(commands);
+    }
+
+    private void relax(int parent, long x, long y, int heading, int cost, byte command, long goalX, long goalY, int goalHeading) {
+        int node = lookup(x, y, heading);
+        if (node < 0) {
+            node = addNode(x, y, heading, cost, parent, command);
+        } else {
+            if (nodeClosed[node] || nodeCosts[node] <= cost)
+                return;
+            nodeCosts[node] = cost;
+            nodeParents[node] = parent;
+            nodeCommands[node] = command;
+        }
+        push(node, estimate(x, y, heading, goalX, goalY, goalHeading));
+    }
+
+    private void push(int node, int estimate) {
+        int bucket = nodeCosts[node] + estimate - baseEstimate;
+        if (bucket >= bucketHeads.length) {
+            int capacity = bucketHeads.length;
+            bucketHeads = Arrays.copyOf(bucketHeads, Math.max(bucket + 1, capacity << 1));
+            Arrays.fill(bucketHeads, capacity, bucketHeads.length, NO_ENTRY);
+        }
+        if (entries == entryNodes.length) {
+            entryNodes = Arrays.copyOf(entryNodes, entries << 1);
+            entryNext = Arrays.copyOf(entryNext, entries << 1);
+        }
+        entryNodes[entries] = node;
+        entryNext[entries] = bucketHeads[bucket];
+        bucketHeads[bucket] = entries++;
+        lowestBucket = Math.min(lowestBucket, bucket);
+        highestBucket = Math.max(highestBucket, bucket);
+    }
+
+    private int pop() {
+        while (lowestBucket <= highestBucket && bucketHeads[lowestBucket] == NO_ENTRY) {
+            lowestBucket++;
+        }
+        if (lowestBucket > highestBucket)
+            return NO_ENTRY;
+        int entry = bucketHeads[lowestBucket];
+        bucketHeads[lowestBucket] = entryNext[entry];
+        return entryNodes[entry];
+    }
+
+    private int addNode(long x, long y, int heading, int cost, int parent, byte command) {
+        if (nodes == nodeXs.length)
+            growNodes();
+        int node = nodes++;
+        nodeXs[node] = x;
+        nodeYs[node] = y;
+        nodeHeadings[node] = (byte) heading;
+        nodeCosts[node] = cost;
+        nodeParents[node] = parent;
+        nodeCommands[node] = command;
+        nodeClosed[node] = false;
+        register(node);
+        return node;
+    }
+
+    private int lookup(long x, long y, int heading) {
+        if (width > 0) {
+            int state = stateOf(x, y, heading);
+            return stateStamps[state] == stamp ? stateNodes[state] : NO_ENTRY;
+        }
+        return slots[find(x, y, heading)] - 1;
+    }
+
+    private void register(int node) {
+        if (width > 0) {
+            int state = stateOf(nodeXs[node], nodeYs[node], nodeHeadings[node]);
+            stateStamps[state] = stamp;
+            stateNodes[state] = node;
+            return;
+        }
+        int slot = find(nodeXs[node], nodeYs[node], nodeHeadings[node]);
+        slots[slot] = node + 1;
+        nodeSlots[node] = slot;
+    }
+
+    private int stateOf(long x, long y, int heading) {
+        return (int) (y * width + x) << HEADINGS_BITS | heading;
+    }
+
+    private int find(long x, long y, int heading) {
+        int slot = (int) (((x * GOLDEN_RATIO + y) * SECOND_MULTIPLIER + heading) * GOLDEN_RATIO >>> shift) & mask;
+        for (int node = slots[slot] - 1; node >= 0; node = slots[slot] - 1) {
+            if (nodeXs[node] == x && nodeYs[node] == y && nodeHeadings[node] == heading)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void growNodes() {
+        int capacity = nodeXs.length << 1;
+        nodeXs = Arrays.copyOf(nodeXs, capacity);
+        nodeYs = Arrays.copyOf(nodeYs, capacity);
+        nodeHeadings = Arrays.copyOf(nodeHeadings, capacity);
+        nodeCosts = Arrays.copyOf(nodeCosts, capacity);
+        nodeParents = Arrays.copyOf(nodeParents, capacity);
+        nodeCommands = Arrays.copyOf(nodeCommands, capacity);
+        nodeClosed = Arrays.copyOf(nodeClosed, capacity);
+        nodeSlots = Arrays.copyOf(nodeSlots, capacity);
+        if (width > 0)
+            return;
+        allocateSlots(capacity * 2);
+        for (int node = 0; node < nodes; node++) {
+            register(node);
+        }
+    }
+
+    private void reset() {
+        if (width > 0) {
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(stateStamps, 0);
+                stamp = 1;
+            }
+        } else {
+            for (int node = 0; node < nodes; node++) {
+                slots[nodeSlots[node]] = EMPTY_SLOT;
+            }
+        }
+        nodes = 0;
+        Arrays.fill(bucketHeads, 0, Math.min(highestBucket + 1, bucketHeads.length), NO_ENTRY);
+        entries = 0;
+        lowestBucket = 0;
+        highestBucket = 0;
+    }
+
+    private void allocateNodes(int capacity) {
+        nodeXs = new long[capacity];
+        nodeYs = new long[capacity];
+        nodeHeadings = new byte[capacity];
+        nodeCosts = new int[capacity];
+        nodeParents = new int[capacity];
+        nodeCommands = new byte[capacity];
+        nodeClosed = new boolean[capacity];
+        nodeSlots = new int[capacity];
+    }
+
+    private void allocateSlots(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    private static int estimate(long x, long y, int heading, long goalX, long goalY, int goalHeading) {
+        long deltaX = goalX - x;
+        long deltaY = goalY - y;
+        int distance = (int) Math.min(MAXIMUM_ESTIMATED_DISTANCE, Math.abs(deltaX) + Math.abs(deltaY));
+        int horizontal = deltaX > 0 ? HeadingTable.EAST : deltaX < 0 ? HeadingTable.WEST : HeadingTable.INVALID;
+        int vertical = deltaY > 0 ? HeadingTable.NORTH : deltaY < 0 ? HeadingTable.SOUTH : HeadingTable.INVALID;
+        if (horizontal == HeadingTable.INVALID && vertical == HeadingTable.INVALID)
+            return distance + quarterTurns(heading, goalHeading);
+        if (vertical == HeadingTable.INVALID)
+            return distance + quarterTurns(heading, horizontal) + quarterTurns(horizontal, goalHeading);
+        if (horizontal == HeadingTable.INVALID)
+            return distance + quarterTurns(heading, vertical) + quarterTurns(vertical, goalHeading);
+        return distance + 1 + Math.min(quarterTurns(heading, horizontal) + quarterTurns(vertical, goalHeading),
+                quarterTurns(heading, vertical) + quarterTurns(horizontal, goalHeading));
+    }
+
+    private static int quarterTurns(int fromHeading, int toHeading) {
+        int turns = (toHeading - fromHeading) & QUARTER_TURN_MASK;
+        return Math.min(turns, QUARTER_TURN_MASK + 1 - turns);
+    }
+}
@@ -0,0 +1,127 @@
+package mars.rover.plateau;
+
+public class ChunkedCellSet {
+
+    private long[] tileXs;
+    private long[] tileYs;
+    private long[] tileCells;
+    private int mask;
+    private int shift;
+    private int tiles;
+    private long cells;
+
+    private static final int TILE_SIZE_BITS = 3;
+    private static final int TILE_SIZE_MASK = (1 << TILE_SIZE_BITS) - 1;
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long SECOND_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+
+    public ChunkedCellSet() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    public ChunkedCellSet(int expectedTiles) {
+        allocate(Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, expectedTiles * 2 - 1)) << 1);
+    }
+
+    public boolean contains(long x, long y) {
+        int slot = find(x >> TILE_SIZE_BITS, y >> TILE_SIZE_BITS);
+        return tileCells[slot] != 0 && (tileCells[slot] & bit(x, y)) != 0;
+    }
+
+    public boolean add(long x, long y) {
+        long tileX = x >> TILE_SIZE_BITS;
+        long tileY = y >> TILE_SIZE_BITS;
+        int slot = find(tileX, tileY);
+        long bit = bit(x, y);
+        if (tileCells[slot] == 0) {
+            tileXs[slot] = tileX;
+            tileYs[slot] = tileY;
+            tileCells[slot] = bit;
+            cells++;
+            if (++tiles * 2 > tileCells.length)
+                rehash(tileCells.length * 2);
+            return true;
+        }
+        if ((tileCells[slot] & bit) != 0)
+            return false;
+        tileCells[slot] |= bit;
+        cells++;
+        return true;
+    }
+
+    public boolean remove(long x, long y) {
+        int slot = find(x >> TILE_SIZE_BITS, y >> TILE_SIZE_BITS);
+        long bit = bit(x, y);
+        if ((tileCells[slot] & bit) == 0)
+            return false;
+        tileCells[slot] &= ~bit;
+        cells--;
+        if (tileCells[slot] == 0)
+            removeTileAt(slot);
+        return true;
+    }
+
+    public long cellCount() {
+        return cells;
+    }
+
+    public int tileCount() {
+        return tiles;
+    }
+
+    private int find(long tileX, long tileY) {
+        int slot = slot(tileX, tileY);
+        while (tileCells[slot] != 0 && (tileXs[slot] != tileX || tileYs[slot] != tileY)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void removeTileAt(int slot) {
+        int gap = slot;
+        for (int next = (gap + 1) & mask; tileCells[next] != 0; next = (next + 1) & mask) {
+            int home = slot(tileXs[next], tileYs[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                tileXs[gap] = tileXs[next];
+                tileYs[gap] = tileYs[next];
+                tileCells[gap] = tileCells[next];
+                tileCells[next] = 0;
+                gap = next;
+            }
+        }
+        tileCells[gap] = 0;
+        tiles--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldTileXs = tileXs;
+        long[] oldTileYs = tileYs;
+        long[] oldTileCells = tileCells;
+        allocate(capacity);
+        for (int index = 0; index < oldTileCells.length; index++) {
+            if (oldTileCells[index] == 0)
+                continue;
+            int slot = find(oldTileXs[index], oldTileYs[index]);
+            tileXs[slot] = oldTileXs[index];
+            tileYs[slot] = oldTileYs[index];
+            tileCells[slot] = oldTileCells[index];
+        }
+    }
+
+    private void allocate(int capacity) {
+        tileXs = new long[capacity];
+        tileYs = new long[capacity];
+        tileCells = new long[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    private int slot(long tileX, long tileY) {
+        return (int) ((tileX * GOLDEN_RATIO + tileY * SECOND_MULTIPLIER) * GOLDEN_RATIO >>> shift) & mask;
+    }
+
+    private static long bit(long x, long y) {
+        return 1L << ((((int) y & TILE_SIZE_MASK) << TILE_SIZE_BITS) | ((int) x & TILE_SIZE_MASK));
+    }
+}
@@ -0,0 +1,49 @@
+package mars.rover.plateau;
+
+public class DenseOccupancyIndex implements OccupancyIndex {
+
+    private final int maxPlateauXCoordinate;
+    private final int maxPlateauYCoordinate;
+    private final int width;
+    private final long[] words;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    public DenseOccupancyIndex(int maxPlateauXCoordinate, int maxPlateauYCoordinate) {
+        this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        this.maxPlateauYCoordinate = maxPlateauYCoordinate;
+        this.width = maxPlateauXCoordinate + 1;
+        long cells = (long) width * (maxPlateauYCoordinate + 1);
+        this.words = new long[(int) ((cells + 63) >>> ADDRESS_BITS_PER_WORD)];
+    }
+
+    @Override
+    public boolean isOccupied(long x, long y) {
+        if (isOutsideThePlateauGrid(x, y))
+            return false;
+        int cell = (int) (y * width + x);
+        return (words[cell >>> ADDRESS_BITS_PER_WORD] & (1L << cell)) != 0;
+    }
+
+    @Override
+    public boolean occupy(long x, long y) {
+        if (isOutsideThePlateauGrid(x, y))
+            return true;
+        int cell = (int) (y * width + x);
+        long word = words[cell >>> ADDRESS_BITS_PER_WORD];
+        words[cell >>> ADDRESS_BITS_PER_WORD] = word | (1L << cell);
+        return (word & (1L << cell)) == 0;
+    }
+
+    @Override
+    public void vacate(long x, long y) {
+        if (isOutsideThePlateauGrid(x, y))
+            return;
+        int cell = (int) (y * width + x);
+        words[cell >>> ADDRESS_BITS_PER_WORD] &= ~(1L << cell);
+    }
+
+    private boolean isOutsideThePlateauGrid(long x, long y) {
+        return x < 0 || y < 0 || x > maxPlateauXCoordinate || y > maxPlateauYCoordinate;
+    }
+}
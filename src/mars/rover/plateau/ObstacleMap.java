@@ -0,0 +1,182 @@
+package mars.rover.plateau;
+
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.HeadingTable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class ObstacleMap {
+
+    private final long[] rowYs;
+    private final long[] rowXs;
+    private final long[] columnXs;
+    private final long[] columnYs;
+
+    private static final int MAGIC = 0x4D524F42;
+    private static final ObstacleMap EMPTY = new ObstacleMap(new long[0], new long[0], 0);
+
+    private ObstacleMap(long[] xs, long[] ys, int size) {
+        long[] sortedRowYs = Arrays.copyOf(ys, size);
+        long[] sortedRowXs = Arrays.copyOf(xs, size);
+        int distinct = sortByPrimaryThenSecondary(sortedRowYs, sortedRowXs);
+        this.rowYs = Arrays.copyOf(sortedRowYs, distinct);
+        this.rowXs = Arrays.copyOf(sortedRowXs, distinct);
+
+        long[] sortedColumnXs = Arrays.copyOf(xs, size);
+        long[] sortedColumnYs = Arrays.copyOf(ys, size);
+        sortByPrimaryThenSecondary(sortedColumnXs, sortedColumnYs);
+        this.columnXs = Arrays.copyOf(sortedColumnXs, distinct);
+        this.columnYs = Arrays.copyOf(sortedColumnYs, distinct);
+    }
+
+    public static ObstacleMap empty() {
+        return EMPTY;
+    }
+
+    public static ObstacleMap of(long[] xs, long[] ys) {
+        if (xs.length != ys.length)
+            throw new IllegalArgumentException("Obstacle x and y coordinates must have the same length.");
+        return new ObstacleMap(xs, ys, xs.length);
+    }
+
+    public static ObstacleMap generate(long maxPlateauXCoordinate, long maxPlateauYCoordinate, int obstacles, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] xs = new long[obstacles];
+        long[] ys = new long[obstacles];
+        for (int index = 0; index < obstacles; index++) {
+            xs[index] = random.nextLong(maxPlateauXCoordinate + 1);
+            ys[index] = random.nextLong(maxPlateauYCoordinate + 1);
+        }
+        return new ObstacleMap(xs, ys, obstacles);
+    }
+
+    public static ObstacleMap read(Path obstacleFile) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(obstacleFile)))) {
+            if (input.readInt() != MAGIC)
+                throw new IOException("Not an obstacle map file: " + obstacleFile);
+            int size = input.readInt();
+            long[] xs = new long[size];
+            long[] ys = new long[size];
+            for (int index = 0; index < size; index++) {
+                xs[index] = input.readLong();
+                ys[index] = input.readLong();
+            }
+            return new ObstacleMap(xs, ys, size);
+        }
+    }
+
+    public void write(Path obstacleFile) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(obstacleFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(rowXs.length);
+            for (int index = 0; index < rowXs.length; index++) {
+                output.writeLong(rowXs[index]);
+                output.writeLong(rowYs[index]);
+            }
+        }
+    }
+
+    public int size() {
+        return rowXs.length;
+    }
+
+    public OccupancyIndex toOccupancyIndex(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+        OccupancyIndex occupancyIndex = OccupancyIndex.create(maxPlateauXCoordinate, maxPlateauYCoordinate, rowXs.length);
+        for (int index = 0; index < rowXs.length; index++) {
+            occupancyIndex.occupy(rowXs[index], rowYs[index]);
+        }
+        return occupancyIndex;
+    }
+
+    public boolean isObstacle(long x, long y) {
+        return find(rowYs, rowXs, y, x) >= 0;
+    }
+
+    public int countFreeMoves(long x, long y, CardinalCompassPointEnum cardinalCompassPoint, int moves) {
+        return countFreeMoves(x, y, cardinalCompassPoint.ordinal(), moves);
+    }
+
+    public int countFreeMoves(long x, long y, int heading, int moves) {
+        if (rowXs.length == 0)
+            return moves;
+        long freeMoves;
+        if (heading == HeadingTable.EAST) {
+            int next = nextIndex(find(rowYs, rowXs, y, x));
+            freeMoves = next < rowYs.length && rowYs[next] == y ? rowXs[next] - x - 1 : moves;
+        } else if (heading == HeadingTable.WEST) {
+            int previous = previousIndex(find(rowYs, rowXs, y, x));
+            freeMoves = previous >= 0 && rowYs[previous] == y ? x - rowXs[previous] - 1 : moves;
+        } else if (heading == HeadingTable.NORTH) {
+            int next = nextIndex(find(columnXs, columnYs, x, y));
+            freeMoves = next < columnXs.length && columnXs[next] == x ? columnYs[next] - y - 1 : moves;
+        } else {
+            int previous = previousIndex(find(columnXs, columnYs, x, y));
+            freeMoves = previous >= 0 && columnXs[previous] == x ? y - columnYs[previous] - 1 : moves;
+        }
+        return (int) Math.min(moves, freeMoves);
+    }
+
+    private static int nextIndex(int position) {
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private static int previousIndex(int position) {
+        return position >= 0 ? position - 1 : -position - 2;
+    }
+
+    private static int find(long[] primaries, long[] secondaries, long primary, long secondary) {
+        int low = 0;
+        int high = primaries.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = primaries[middle] != primary ? Long.compare(primaries[middle], primary) : Long.compare(secondaries[middle], secondary);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int sortByPrimaryThenSecondary(long[] primaries, long[] secondaries) {
+        long[] primaryBuffer = new long[primaries.length];
+        long[] secondaryBuffer = new long[secondaries.length];
+        for (int width = 1; width < primaries.length; width *= 2) {
+            for (int from = 0; from < primaries.length; from += 2 * width) {
+                int middle = Math.min(from + width, primaries.length);
+                int to = Math.min(from + 2 * width, primaries.length);
+                int left = from;
+                int right = middle;
+                for (int target = from; target < to; target++) {
+                    boolean takeLeft = right >= to || (left < middle && (primaries[left] < primaries[right]
+                            || (primaries[left] == primaries[right] && secondaries[left] <= secondaries[right])));
+                    int source = takeLeft ? left++ : right++;
+                    primaryBuffer[target] = primaries[source];
+                    secondaryBuffer[target] = secondaries[source];
+                }
+            }
+            System.arraycopy(primaryBuffer, 0, primaries, 0, primaries.length);
+            System.arraycopy(secondaryBuffer, 0, secondaries, 0, secondaries.length);
+        }
+        int distinct = 0;
+        for (int index = 0; index < primaries.length; index++) {
+            if (distinct > 0 && primaries[distinct - 1] == primaries[index] && secondaries[distinct - 1] == secondaries[index])
+                continue;
+            primaries[distinct] = primaries[index];
+            secondaries[distinct] = secondaries[index];
+            distinct++;
+        }
+        return distinct;
+    }
+}
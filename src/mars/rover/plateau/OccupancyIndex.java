@@ -0,0 +1,19 @@
+package mars.rover.plateau;
+
+public interface OccupancyIndex {
+
+    long DENSE_CELL_LIMIT = 1L << 26;
+
+    boolean isOccupied(long x, long y);
+
+    boolean occupy(long x, long y);
+
+    void vacate(long x, long y);
+
+    static OccupancyIndex create(long maxPlateauXCoordinate, long maxPlateauYCoordinate, int expectedRoboticRovers) {
+        if (maxPlateauXCoordinate < DENSE_CELL_LIMIT && maxPlateauYCoordinate < DENSE_CELL_LIMIT
+                && (maxPlateauXCoordinate + 1) * (maxPlateauYCoordinate + 1) <= DENSE_CELL_LIMIT)
+            return new DenseOccupancyIndex((int) maxPlateauXCoordinate, (int) maxPlateauYCoordinate);
+        return new SparseOccupancyIndex(expectedRoboticRovers);
+    }
+}
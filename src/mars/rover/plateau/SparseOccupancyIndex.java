@@ -0,0 +1,29 @@
+package mars.rover.plateau;
+
+public class SparseOccupancyIndex implements OccupancyIndex {
+
+    private final ChunkedCellSet occupiedCells;
+
+    public SparseOccupancyIndex(int expectedCells) {
+        this.occupiedCells = new ChunkedCellSet(expectedCells);
+    }
+
+    @Override
+    public boolean isOccupied(long x, long y) {
+        return occupiedCells.contains(x, y);
+    }
+
+    @Override
+    public boolean occupy(long x, long y) {
+        return occupiedCells.add(x, y);
+    }
+
+    @Override
+    public void vacate(long x, long y) {
+        occupiedCells.remove(x, y);
+    }
+
+    public long size() {
+        return occupiedCells.cellCount();
+    }
+}
@@ -0,0 +1,95 @@
+package mars.rover.replay;
+
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+public class ReplayCursor {
+
+    private static final int BLOCK_BYTES = 1 << 12;
+
+    private final ReplayLog replayLog;
+    private final long roboticRoverIndex;
+    private final long firstPosition;
+    private final int executedCommands;
+    private final ByteBuffer block = ByteBuffer.allocate(BLOCK_BYTES);
+    private long blockOffset = -1;
+    private int step;
+    private long x;
+    private long y;
+    private int heading;
+    private int streamedCommands;
+
+    ReplayCursor(ReplayLog replayLog, long roboticRoverIndex, long firstPosition, int executedCommands, int step, long x, long y, int heading) {
+        this.replayLog = replayLog;
+        this.roboticRoverIndex = roboticRoverIndex;
+        this.firstPosition = firstPosition;
+        this.executedCommands = executedCommands;
+        this.step = step;
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+    }
+
+    public boolean hasNext() {
+        return step < executedCommands;
+    }
+
+    public byte next() throws IOException {
+        if (!hasNext())
+            throw new NoSuchElementException("Robotic rover " + roboticRoverIndex + " executed only " + executedCommands + " commands.");
+        byte command = commandAt(firstPosition + step);
+        if (command == CommandProgram.LEFT) {
+            heading = HeadingTable.turnLeft(heading);
+        } else if (command == CommandProgram.RIGHT) {
+            heading = HeadingTable.turnRight(heading);
+        } else {
+            x += HeadingTable.deltaX(heading);
+            y += HeadingTable.deltaY(heading);
+        }
+        step++;
+        streamedCommands++;
+        return command;
+    }
+
+    private byte commandAt(long position) throws IOException {
+        long byteOffset = ReplayLogFormat.byteOffsetOf(position);
+        if (byteOffset < blockOffset || byteOffset >= blockOffset + block.limit() || blockOffset < 0) {
+            replayLog.readCommands(block, byteOffset);
+            blockOffset = byteOffset;
+        }
+        int packed = block.get((int) (byteOffset - blockOffset));
+        return (byte) ((packed >>> ReplayLogFormat.shiftOf(position)) & ReplayLogFormat.COMMAND_MASK);
+    }
+
+    public long getRoboticRoverIndex() {
+        return roboticRoverIndex;
+    }
+
+    public int getExecutedCommands() {
+        return executedCommands;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public long getX() {
+        return x;
+    }
+
+    public long getY() {
+        return y;
+    }
+
+    public int getHeading() {
+        return heading;
+    }
+
+    public int getStreamedCommands() {
+        return streamedCommands;
+    }
+}
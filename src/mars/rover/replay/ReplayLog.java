@@ -0,0 +1,178 @@
+package mars.rover.replay;
+
+import mars.rover.metrics.MissionRejectionEnum;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class ReplayLog implements Closeable {
+
+    private static final String INCOMPLETE_REPLAY_LOG_EXCEPTION = "Please note that the replay log is incomplete or corrupted.";
+    private static final int NO_KEYFRAME = -1;
+
+    private final FileChannel channel;
+    private final int commandsPerKeyframe;
+    private final long keyframesOffset;
+    private final long keyframeCount;
+    private final long roboticRoversOffset;
+    private final long roboticRoverCount;
+    private final ByteBuffer keyframe = ByteBuffer.allocate(ReplayLogFormat.KEYFRAME_BYTES);
+    private final ByteBuffer roboticRover = ByteBuffer.allocate(ReplayLogFormat.ROBOTIC_ROVER_BYTES);
+    private long keyframeReads;
+
+    private ReplayLog(FileChannel channel, int commandsPerKeyframe, long keyframesOffset, long keyframeCount, long roboticRoverCount) {
+        this.channel = channel;
+        this.commandsPerKeyframe = commandsPerKeyframe;
+        this.keyframesOffset = keyframesOffset;
+        this.keyframeCount = keyframeCount;
+        this.roboticRoversOffset = keyframesOffset + keyframeCount * ReplayLogFormat.KEYFRAME_BYTES;
+        this.roboticRoverCount = roboticRoverCount;
+    }
+
+    public static ReplayLog open(Path replayLogFile) throws IOException {
+        FileChannel channel = FileChannel.open(replayLogFile, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < ReplayLogFormat.HEADER_BYTES + ReplayLogFormat.TRAILER_BYTES)
+                throw new IOException(INCOMPLETE_REPLAY_LOG_EXCEPTION);
+            ByteBuffer header = read(channel, 0, ReplayLogFormat.HEADER_BYTES);
+            if (header.getInt() != ReplayLogFormat.MAGIC)
+                throw new IOException("Not a replay log file: " + replayLogFile);
+            short version = header.getShort();
+            if (version != ReplayLogFormat.VERSION)
+                throw new IOException("Unsupported replay log version " + version);
+            int commandsPerKeyframe = header.getInt();
+            ByteBuffer trailer = read(channel, size - ReplayLogFormat.TRAILER_BYTES, ReplayLogFormat.TRAILER_BYTES);
+            long keyframesOffset = trailer.getLong();
+            long keyframeCount = trailer.getLong();
+            long roboticRoverCount = trailer.getLong();
+            if (trailer.getInt() != ReplayLogFormat.MAGIC || keyframesOffset < ReplayLogFormat.HEADER_BYTES || keyframeCount < 0 || roboticRoverCount < 0
+                    || keyframesOffset + keyframeCount * ReplayLogFormat.KEYFRAME_BYTES + roboticRoverCount * ReplayLogFormat.ROBOTIC_ROVER_BYTES
+                    != size - ReplayLogFormat.TRAILER_BYTES)
+                throw new IOException(INCOMPLETE_REPLAY_LOG_EXCEPTION);
+            return new ReplayLog(channel, commandsPerKeyframe, keyframesOffset, keyframeCount, roboticRoverCount);
+        } catch (IOException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    public long size() {
+        return roboticRoverCount;
+    }
+
+    public int getCommandsPerKeyframe() {
+        return commandsPerKeyframe;
+    }
+
+    public long getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    public long getKeyframeReads() {
+        return keyframeReads;
+    }
+
+    public int getExecutedCommands(long roboticRoverIndex) throws IOException {
+        return readRoboticRover(roboticRoverIndex).getInt(Long.BYTES);
+    }
+
+    public MissionRejectionEnum getRejection(long roboticRoverIndex) throws IOException {
+        byte outcome = readRoboticRover(roboticRoverIndex).get(Long.BYTES + Integer.BYTES);
+        if (outcome == ReplayLogFormat.COMPLETED)
+            return null;
+        if (outcome == ReplayLogFormat.OBSTACLE)
+            return MissionRejectionEnum.OBSTACLE;
+        if (outcome == ReplayLogFormat.COLLISION)
+            return MissionRejectionEnum.COLLISION;
+        return MissionRejectionEnum.PLATEAU_GRID;
+    }
+
+    public ReplayCursor seek(long roboticRoverIndex, int step) throws IOException {
+        ByteBuffer entry = readRoboticRover(roboticRoverIndex);
+        long firstPosition = entry.getLong();
+        int executedCommands = entry.getInt();
+        entry.get();
+        if (step < 0 || step > executedCommands)
+            throw new IllegalArgumentException("Step must be between 0 and " + executedCommands + " but was " + step);
+        long x = entry.getLong();
+        long y = entry.getLong();
+        int heading = entry.get();
+        long position = firstPosition + step;
+        long keyframeIndex = findKeyframe(position);
+        long keyframePosition = firstPosition;
+        if (keyframeIndex != NO_KEYFRAME) {
+            ByteBuffer nearestKeyframe = readKeyframe(keyframeIndex);
+            long candidatePosition = nearestKeyframe.getLong();
+            if (candidatePosition > firstPosition) {
+                keyframePosition = candidatePosition;
+                x = nearestKeyframe.getLong();
+                y = nearestKeyframe.getLong();
+                heading = nearestKeyframe.get();
+            }
+        }
+        ReplayCursor replayCursor = new ReplayCursor(this, roboticRoverIndex, firstPosition, executedCommands,
+                (int) (keyframePosition - firstPosition), x, y, heading);
+        while (replayCursor.getStep() < step) {
+            replayCursor.next();
+        }
+        return replayCursor;
+    }
+
+    private long findKeyframe(long position) throws IOException {
+        long low = 0;
+        long high = keyframeCount - 1;
+        long found = NO_KEYFRAME;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            if (readKeyframe(middle).getLong(0) <= position) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    private ByteBuffer readKeyframe(long keyframeIndex) throws IOException {
+        keyframeReads++;
+        keyframe.clear();
+        return readFully(channel, keyframe, keyframesOffset + keyframeIndex * ReplayLogFormat.KEYFRAME_BYTES);
+    }
+
+    private ByteBuffer readRoboticRover(long roboticRoverIndex) throws IOException {
+        if (roboticRoverIndex < 0 || roboticRoverIndex >= roboticRoverCount)
+            throw new IllegalArgumentException("Robotic rover index must be between 0 and " + (roboticRoverCount - 1) + " but was " + roboticRoverIndex);
+        roboticRover.clear();
+        return readFully(channel, roboticRover, roboticRoversOffset + roboticRoverIndex * ReplayLogFormat.ROBOTIC_ROVER_BYTES);
+    }
+
+    void readCommands(ByteBuffer block, long byteOffset) throws IOException {
+        block.clear();
+        block.limit((int) Math.min(block.capacity(), keyframesOffset - byteOffset));
+        readFully(channel, block, byteOffset);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int bytes) throws IOException {
+        return readFully(channel, ByteBuffer.allocate(bytes), position);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0)
+                throw new IOException(INCOMPLETE_REPLAY_LOG_EXCEPTION);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,32 @@
+package mars.rover.replay;
+
+final class ReplayLogFormat {
+
+    static final int MAGIC = 0x4D52524C;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 4 + 2 + 4;
+    static final int KEYFRAME_BYTES = 8 + 8 + 8 + 1;
+    static final int ROBOTIC_ROVER_BYTES = 8 + 4 + 1 + 8 + 8 + 1;
+    static final int TRAILER_BYTES = 8 + 8 + 8 + 4;
+    static final int BUFFER_BYTES = 1 << 16;
+
+    static final int COMMANDS_PER_BYTE = 4;
+    static final int COMMAND_BITS = 2;
+    static final int COMMAND_MASK = (1 << COMMAND_BITS) - 1;
+
+    static final byte COMPLETED = 0;
+    static final byte PLATEAU_GRID = 1;
+    static final byte OBSTACLE = 2;
+    static final byte COLLISION = 3;
+
+    private ReplayLogFormat() {
+    }
+
+    static long byteOffsetOf(long position) {
+        return HEADER_BYTES + position / COMMANDS_PER_BYTE;
+    }
+
+    static int shiftOf(long position) {
+        return (int) (position % COMMANDS_PER_BYTE) * COMMAND_BITS;
+    }
+}
@@ -0,0 +1,90 @@
+package mars.rover.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+final class ReplayLogOutput implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(ReplayLogFormat.BUFFER_BYTES);
+    private long written;
+
+    private static final int MAXIMUM_VALUE_BYTES = Long.BYTES;
+
+    ReplayLogOutput(Path file, StandardOpenOption... extraOptions) throws IOException {
+        this.channel = FileChannel.open(file, options(extraOptions));
+    }
+
+    private static Set<StandardOpenOption> options(StandardOpenOption... extraOptions) {
+        Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        options.addAll(Arrays.asList(extraOptions));
+        return options;
+    }
+
+    ReplayLogOutput writeByte(int value) throws IOException {
+        reserve();
+        buffer.put((byte) value);
+        return this;
+    }
+
+    ReplayLogOutput writeShort(int value) throws IOException {
+        reserve();
+        buffer.putShort((short) value);
+        return this;
+    }
+
+    ReplayLogOutput writeInt(int value) throws IOException {
+        reserve();
+        buffer.putInt(value);
+        return this;
+    }
+
+    ReplayLogOutput writeLong(long value) throws IOException {
+        reserve();
+        buffer.putLong(value);
+        return this;
+    }
+
+    long position() {
+        return written + buffer.position();
+    }
+
+    void transferTo(ReplayLogOutput target) throws IOException {
+        flush();
+        target.flush();
+        for (long position = 0; position < written; ) {
+            position += channel.transferTo(position, written - position, target.channel);
+        }
+        target.written += written;
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void reserve() throws IOException {
+        if (buffer.remaining() < MAXIMUM_VALUE_BYTES)
+            flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package mars.rover.replay;
+
+import custom.exception.CommandExecutionException;
+import custom.exception.ObstacleEncounteredException;
+import custom.exception.RoboticRoverCollisionException;
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class ReplayLogWriter implements Closeable {
+
+    private static final String KEYFRAMES_SUFFIX = ".keyframes";
+    private static final String ROBOTIC_ROVERS_SUFFIX = ".rovers";
+
+    private final ReplayLogOutput commands;
+    private final ReplayLogOutput keyframes;
+    private final ReplayLogOutput roboticRovers;
+    private final int commandsPerKeyframe;
+    private long position;
+    private int pendingCommands;
+    private int pendingByte;
+    private long keyframeCount;
+    private long roboticRoverCount;
+    private boolean roboticRoverStarted;
+    private long firstPosition;
+    private int executedCommands;
+    private long startX;
+    private long startY;
+    private int startHeading;
+    private long x;
+    private long y;
+    private int heading;
+
+    private ReplayLogWriter(ReplayLogOutput commands, ReplayLogOutput keyframes, ReplayLogOutput roboticRovers, int commandsPerKeyframe) {
+        this.commands = commands;
+        this.keyframes = keyframes;
+        this.roboticRovers = roboticRovers;
+        this.commandsPerKeyframe = commandsPerKeyframe;
+    }
+
+    public static ReplayLogWriter create(Path replayLogFile, int commandsPerKeyframe) throws IOException {
+        if (commandsPerKeyframe < 1)
+            throw new IllegalArgumentException("Commands per keyframe must be at least 1 but was " + commandsPerKeyframe);
+        ReplayLogOutput commands = new ReplayLogOutput(replayLogFile);
+        ReplayLogOutput keyframes = null;
+        try {
+            keyframes = new ReplayLogOutput(sibling(replayLogFile, KEYFRAMES_SUFFIX), StandardOpenOption.DELETE_ON_CLOSE);
+            ReplayLogOutput roboticRovers = new ReplayLogOutput(sibling(replayLogFile, ROBOTIC_ROVERS_SUFFIX), StandardOpenOption.DELETE_ON_CLOSE);
+            commands.writeInt(ReplayLogFormat.MAGIC).writeShort(ReplayLogFormat.VERSION).writeInt(commandsPerKeyframe);
+            return new ReplayLogWriter(commands, keyframes, roboticRovers, commandsPerKeyframe);
+        } catch (IOException exception) {
+            commands.close();
+            if (keyframes != null)
+                keyframes.close();
+            throw exception;
+        }
+    }
+
+    private static Path sibling(Path replayLogFile, String suffix) {
+        return replayLogFile.resolveSibling(replayLogFile.getFileName() + suffix);
+    }
+
+    public void roboticRoverStarted(long x, long y, int heading) {
+        if (roboticRoverStarted)
+            throw new IllegalStateException("Robotic rover " + roboticRoverCount + " has not finished yet.");
+        roboticRoverStarted = true;
+        firstPosition = position;
+        executedCommands = 0;
+        startX = x;
+        startY = y;
+        startHeading = heading;
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+    }
+
+    public void commandsExecuted(CommandProgram commandProgram, int fromCommandIndex, int toCommandIndex) throws IOException {
+        for (int command = fromCommandIndex; command < toCommandIndex; command++) {
+            commandExecuted(commandProgram.commandAt(command));
+        }
+    }
+
+    public void commandExecuted(byte command) throws IOException {
+        if (!roboticRoverStarted)
+            throw new IllegalStateException("No robotic rover has been started.");
+        if (command == CommandProgram.LEFT) {
+            heading = HeadingTable.turnLeft(heading);
+        } else if (command == CommandProgram.RIGHT) {
+            heading = HeadingTable.turnRight(heading);
+        } else {
+            x += HeadingTable.deltaX(heading);
+            y += HeadingTable.deltaY(heading);
+        }
+        pendingByte |= command << (pendingCommands * ReplayLogFormat.COMMAND_BITS);
+        if (++pendingCommands == ReplayLogFormat.COMMANDS_PER_BYTE) {
+            commands.writeByte(pendingByte);
+            pendingByte = 0;
+            pendingCommands = 0;
+        }
+        position++;
+        if (++executedCommands % commandsPerKeyframe == 0) {
+            keyframes.writeLong(position).writeLong(x).writeLong(y).writeByte(heading);
+            keyframeCount++;
+        }
+    }
+
+    public void roboticRoverFinished() throws IOException {
+        finish(ReplayLogFormat.COMPLETED);
+    }
+
+    public void roboticRoverFailed(CommandExecutionException exception) throws IOException {
+        if (exception instanceof ObstacleEncounteredException) {
+            finish(ReplayLogFormat.OBSTACLE);
+        } else if (exception instanceof RoboticRoverCollisionException) {
+            finish(ReplayLogFormat.COLLISION);
+        } else {
+            finish(ReplayLogFormat.PLATEAU_GRID);
+        }
+    }
+
+    private void finish(byte outcome) throws IOException {
+        if (!roboticRoverStarted)
+            throw new IllegalStateException("No robotic rover has been started.");
+        roboticRovers.writeLong(firstPosition).writeInt(executedCommands).writeByte(outcome)
+                .writeLong(startX).writeLong(startY).writeByte(startHeading);
+        roboticRoverStarted = false;
+        roboticRoverCount++;
+    }
+
+    public long getRoboticRoverCount() {
+        return roboticRoverCount;
+    }
+
+    public long getCommandCount() {
+        return position;
+    }
+
+    public long getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (pendingCommands > 0)
+                commands.writeByte(pendingByte);
+            long keyframesOffset = commands.position();
+            keyframes.transferTo(commands);
+            roboticRovers.transferTo(commands);
+            commands.writeLong(keyframesOffset).writeLong(keyframeCount).writeLong(roboticRoverCount).writeInt(ReplayLogFormat.MAGIC);
+        } finally {
+            try {
+                commands.close();
+            } finally {
+                try {
+                    keyframes.close();
+                } finally {
+                    roboticRovers.close();
+                }
+            }
+        }
+    }
+}
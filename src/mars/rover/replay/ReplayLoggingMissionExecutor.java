@@ -0,0 +1,58 @@
+package mars.rover.replay;
+
+import custom.exception.CommandExecutionException;
+import custom.exception.ValidationException;
+import mars.rover.command.CommandProgram;
+import mars.rover.execution.MissionExecutor;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class ReplayLoggingMissionExecutor implements MissionExecutor<IOException> {
+
+    private final Path replayLogFile;
+    private final int commandsPerKeyframe;
+
+    public ReplayLoggingMissionExecutor(Path replayLogFile, int commandsPerKeyframe) {
+        if (commandsPerKeyframe < 1)
+            throw new IllegalArgumentException("Commands per keyframe must be at least 1 but was " + commandsPerKeyframe);
+        this.replayLogFile = replayLogFile;
+        this.commandsPerKeyframe = commandsPerKeyframe;
+    }
+
+    @Override
+    public void execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) throws IOException, ValidationException {
+        if (commandExecutor.isCollisionAware())
+            throw new IllegalArgumentException("Replay logs cannot be recorded for missions with collision detection.");
+
+        try (ReplayLogWriter replayLogWriter = ReplayLogWriter.create(replayLogFile, commandsPerKeyframe)) {
+            for (int index = 0; index < fleetState.size(); index++) {
+                CommandProgram commandProgram = fleetState.getCommandProgram(index);
+                replayLogWriter.roboticRoverStarted(fleetState.getX(index), fleetState.getY(index), fleetState.getHeading(index));
+                try {
+                    commandExecutor.execute(fleetState, index);
+                } catch (CommandExecutionException exception) {
+                    replayLogWriter.commandsExecuted(commandProgram, 0, exception.getCommandIndex());
+                    replayLogWriter.roboticRoverFailed(exception);
+                    throw exception;
+                }
+                replayLogWriter.commandsExecuted(commandProgram, 0, commandProgram.length());
+                replayLogWriter.roboticRoverFinished();
+            }
+        }
+    }
+
+    public ReplayLog open() throws IOException {
+        return ReplayLog.open(replayLogFile);
+    }
+
+    public Path getReplayLogFile() {
+        return replayLogFile;
+    }
+
+    public int getCommandsPerKeyframe() {
+        return commandsPerKeyframe;
+    }
+}
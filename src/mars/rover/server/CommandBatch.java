@@ -0,0 +1,35 @@
+package mars.rover.server;
+
+import mars.rover.command.CommandProgram;
+
+final class CommandBatch {
+
+    static final int UNKNOWN_ROBOTIC_ROVER = -1;
+
+    final MissionConnection connection;
+    final String line;
+    final boolean endOfConnection;
+    long roboticRoverIndex = UNKNOWN_ROBOTIC_ROVER;
+    String command;
+    boolean poseQuery;
+    CommandProgram commandProgram;
+    String error;
+
+    private CommandBatch(MissionConnection connection, String line, boolean endOfConnection) {
+        this.connection = connection;
+        this.line = line;
+        this.endOfConnection = endOfConnection;
+    }
+
+    static CommandBatch of(MissionConnection connection, String line) {
+        return new CommandBatch(connection, line, false);
+    }
+
+    static CommandBatch endOf(MissionConnection connection) {
+        return new CommandBatch(connection, null, true);
+    }
+
+    boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,52 @@
+package mars.rover.server;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+final class MissionConnection implements Closeable {
+
+    private final Socket socket;
+    private final Writer writer;
+
+    MissionConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        this.writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+    }
+
+    Socket getSocket() {
+        return socket;
+    }
+
+    synchronized void respond(String response, boolean flush) {
+        try {
+            writer.write(response);
+            writer.write('\n');
+            if (flush)
+                writer.flush();
+        } catch (IOException exception) {
+            closeQuietly();
+        }
+    }
+
+    void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (!socket.isClosed())
+                writer.flush();
+        } finally {
+            socket.close();
+        }
+    }
+}
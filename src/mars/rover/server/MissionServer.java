@@ -0,0 +1,251 @@
+package mars.rover.server;
+
+import custom.exception.ValidationException;
+import mars.rover.HeadingTable;
+import mars.rover.MarsRover;
+import mars.rover.command.CommandProgram;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.validation.MissionValidationRules;
+import mars.rover.validation.ValidationErrorEnum;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MissionServer implements Closeable {
+
+    private final MarsRover marsRover;
+    private final FleetState fleetState;
+    private final RoboticRoverCommandExecutor commandExecutor;
+    private final ServerSocket serverSocket;
+    private final BlockingQueue<CommandBatch> parseQueue;
+    private final BlockingQueue<CommandBatch> validateQueue;
+    private final BlockingQueue<CommandBatch> executeQueue;
+    private final Set<MissionConnection> connections = ConcurrentHashMap.newKeySet();
+    private final Set<Thread> readerThreads = ConcurrentHashMap.newKeySet();
+    private final Thread acceptThread;
+    private final Thread[] stageThreads;
+    private volatile boolean running = true;
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final char ONE_SPACE = ' ';
+    private static final String POSE = "POSE";
+    private static final String OK = "OK ";
+    private static final String ERROR = "ERROR ";
+    private static final String MALFORMED_REQUEST_EXCEPTION = "Please send a robotic rover index followed by one space and a command.";
+    private static final String UNKNOWN_ROBOTIC_ROVER_EXCEPTION = "Please provide the index of an existing robotic rover.";
+
+    private MissionServer(MarsRover marsRover, int port, int queueCapacity) throws IOException, ValidationException {
+        this.marsRover = marsRover;
+        this.fleetState = FleetState.of(marsRover.getRoboticRoverList());
+        this.commandExecutor = marsRover.createCommandExecutor(fleetState);
+        this.parseQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.validateQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        this.stageThreads = new Thread[]{
+                daemon(() -> runStage(parseQueue, validateQueue, this::parse), "mission-server-parse"),
+                daemon(() -> runStage(validateQueue, executeQueue, this::validate), "mission-server-validate"),
+                daemon(this::runExecuteStage, "mission-server-execute")};
+        this.acceptThread = daemon(this::acceptConnections, "mission-server-accept");
+        for (Thread stageThread : stageThreads) {
+            stageThread.start();
+        }
+        acceptThread.start();
+    }
+
+    public static MissionServer start(MarsRover marsRover, int port) throws IOException, ValidationException {
+        return start(marsRover, port, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public static MissionServer start(MarsRover marsRover, int port, int queueCapacity) throws IOException, ValidationException {
+        if (queueCapacity < 1)
+            throw new IllegalArgumentException("Queue capacity must be at least 1 but was " + queueCapacity);
+        return new MissionServer(marsRover, port, queueCapacity);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void acceptConnections() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                MissionConnection connection = new MissionConnection(socket);
+                connections.add(connection);
+                Thread readerThread = daemon(() -> readRequests(connection), "mission-server-connection-" + socket.getPort());
+                readerThreads.add(readerThread);
+                readerThread.start();
+            } catch (IOException exception) {
+                if (!running)
+                    return;
+            }
+        }
+    }
+
+    private void readRequests(MissionConnection connection) {
+        try {
+            forwardRequests(connection);
+        } finally {
+            readerThreads.remove(Thread.currentThread());
+        }
+    }
+
+    private void forwardRequests(MissionConnection connection) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getSocket().getInputStream(), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseQueue.put(CommandBatch.of(connection, line));
+            }
+        } catch (IOException ignored) {
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            parseQueue.put(CommandBatch.endOf(connection));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runStage(BlockingQueue<CommandBatch> input, BlockingQueue<CommandBatch> output, Stage stage) {
+        try {
+            while (running) {
+                CommandBatch commandBatch = input.take();
+                if (!commandBatch.endOfConnection && !commandBatch.isRejected())
+                    stage.process(commandBatch);
+                output.put(commandBatch);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void parse(CommandBatch commandBatch) {
+        String line = commandBatch.line.trim();
+        int space = line.indexOf(ONE_SPACE);
+        if (space < 0) {
+            commandBatch.error = MALFORMED_REQUEST_EXCEPTION;
+            return;
+        }
+        String first = line.substring(0, space);
+        String rest = line.substring(space + 1);
+        commandBatch.poseQuery = POSE.equals(first);
+        String index = commandBatch.poseQuery ? rest : first;
+        commandBatch.roboticRoverIndex = parseIndex(index);
+        commandBatch.command = commandBatch.poseQuery ? null : rest;
+        if (commandBatch.roboticRoverIndex == CommandBatch.UNKNOWN_ROBOTIC_ROVER)
+            commandBatch.error = MALFORMED_REQUEST_EXCEPTION;
+    }
+
+    private static long parseIndex(String digits) {
+        if (digits.isEmpty() || digits.length() > 18)
+            return CommandBatch.UNKNOWN_ROBOTIC_ROVER;
+        long value = 0;
+        for (int index = 0; index < digits.length(); index++) {
+            char character = digits.charAt(index);
+            if (character < '0' || character > '9')
+                return CommandBatch.UNKNOWN_ROBOTIC_ROVER;
+            value = value * 10 + character - '0';
+        }
+        return value;
+    }
+
+    private void validate(CommandBatch commandBatch) {
+        if (commandBatch.roboticRoverIndex >= fleetState.size()) {
+            commandBatch.error = UNKNOWN_ROBOTIC_ROVER_EXCEPTION;
+            return;
+        }
+        if (commandBatch.poseQuery)
+            return;
+        ValidationErrorEnum error = MissionValidationRules.validateCommand(commandBatch.command);
+        if (error != null) {
+            commandBatch.error = error.getMessage();
+            return;
+        }
+        commandBatch.commandProgram = CommandProgram.compile(commandBatch.command);
+    }
+
+    private void runExecuteStage() {
+        try {
+            while (running) {
+                CommandBatch commandBatch = executeQueue.take();
+                if (commandBatch.endOfConnection) {
+                    connections.remove(commandBatch.connection);
+                    commandBatch.connection.closeQuietly();
+                    continue;
+                }
+                commandBatch.connection.respond(execute(commandBatch), executeQueue.isEmpty());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String execute(CommandBatch commandBatch) {
+        if (commandBatch.isRejected())
+            return ERROR + commandBatch.roboticRoverIndex + ONE_SPACE + commandBatch.error;
+        int index = (int) commandBatch.roboticRoverIndex;
+        if (!commandBatch.poseQuery) {
+            fleetState.setCommandProgram(index, commandBatch.commandProgram);
+            try {
+                commandExecutor.execute(fleetState, index);
+            } catch (ValidationException exception) {
+                return ERROR + index + ONE_SPACE + exception.getMessage();
+            }
+        }
+        return OK + index + ONE_SPACE + fleetState.getX(index) + ONE_SPACE + fleetState.getY(index) + ONE_SPACE
+                + HeadingTable.letterOf(fleetState.getHeading(index));
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        try {
+            acceptThread.join();
+            for (MissionConnection connection : connections) {
+                connection.closeQuietly();
+            }
+            for (Thread readerThread : readerThreads) {
+                readerThread.interrupt();
+            }
+            for (Thread readerThread : readerThreads) {
+                readerThread.join();
+            }
+            for (Thread stageThread : stageThreads) {
+                stageThread.interrupt();
+            }
+            for (Thread stageThread : stageThreads) {
+                stageThread.join();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        fleetState.writeTo(marsRover.getRoboticRoverList());
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+
+        void process(CommandBatch commandBatch);
+    }
+}
@@ -0,0 +1,95 @@
+package mars.rover.test;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+import mars.rover.validation.BatchValidator;
+import mars.rover.validation.MissionValidationRules;
+import mars.rover.validation.ValidationErrorEnum;
+import mars.rover.validation.ValidationFieldEnum;
+import mars.rover.validation.ValidationReport;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BatchValidatorTest {
+
+    @Test
+    public void valid_mission_should_produce_an_empty_report() {
+        ValidationReport report = new BatchValidator(1).validate("5 5", Arrays.asList("1 2 N", "3 3 E"), Arrays.asList("LMLMLMLMM", "MMRMMRMRRM"));
+
+        assertTrue(report.isValid());
+        assertEquals(0, report.getErrorCount());
+        assertEquals(2, report.getRoboticRoverCount());
+    }
+
+    @Test
+    public void every_invalid_field_should_be_reported_without_stopping_at_the_first() {
+        ValidationReport report = new BatchValidator(1).validate("5 A",
+                Arrays.asList("1 2 N", "", "1 2 X", "1  2 N"),
+                Arrays.asList("LMX", "M", "", "M"));
+
+        assertFalse(report.isValid());
+        assertEquals(6, report.getErrorCount());
+        assertError(report, 0, -1, ValidationErrorEnum.SECOND_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT);
+        assertError(report, 1, 0, ValidationErrorEnum.INVALID_ROBOTIC_ROVER_COMMAND);
+        assertError(report, 2, 1, ValidationErrorEnum.PROVIDE_ROBOTIC_ROVER_POSITION);
+        assertError(report, 3, 2, ValidationErrorEnum.THIRD_CHARACTER_IS_NOT_A_VALID_CARDINAL_COMPASS_POINT);
+        assertError(report, 4, 2, ValidationErrorEnum.PROVIDE_ROBOTIC_ROVER_COMMAND);
+        assertError(report, 5, 3, ValidationErrorEnum.POSITION_DOES_NOT_CONTAIN_THREE_CHARACTERS_SEPARATED_BY_ONE_SPACE);
+        assertEquals(ValidationFieldEnum.PLATEAU_GRID, report.fieldAt(0));
+        assertEquals(ValidationFieldEnum.COMMAND, report.fieldAt(1));
+        assertEquals(ValidationFieldEnum.POSITION, report.fieldAt(5));
+    }
+
+    @Test
+    public void parallel_validation_should_report_errors_in_robotic_rover_order() {
+        Random random = new Random(11);
+        List<String> positions = new ArrayList<>();
+        List<String> commands = new ArrayList<>();
+        for (int index = 0; index < 50_000; index++) {
+            positions.add(random.nextInt(100) == 0 ? "1 x N" : random.nextInt(10) + " " + random.nextInt(10) + " N");
+            commands.add(random.nextInt(100) == 0 ? "LMQ" : "LMRM");
+        }
+
+        ValidationReport sequential = new BatchValidator(1).validate(positions, commands);
+        ValidationReport parallel;
+        try (BatchValidator batchValidator = new BatchValidator(4, 128)) {
+            parallel = batchValidator.validate(positions, commands);
+            assertEquals(parallel.getErrorCount(), batchValidator.validate(positions, commands).getErrorCount());
+        }
+
+        assertTrue(sequential.getErrorCount() > 0);
+        assertEquals(sequential.getErrorCount(), parallel.getErrorCount());
+        for (int errorIndex = 0; errorIndex < sequential.getErrorCount(); errorIndex++) {
+            assertEquals(sequential.roboticRoverIndexAt(errorIndex), parallel.roboticRoverIndexAt(errorIndex));
+            assertEquals(sequential.errorAt(errorIndex), parallel.errorAt(errorIndex));
+            if (errorIndex > 0)
+                assertTrue(parallel.roboticRoverIndexAt(errorIndex - 1) <= parallel.roboticRoverIndexAt(errorIndex));
+        }
+    }
+
+    @Test
+    public void rules_should_report_the_same_message_the_robotic_rover_throws() {
+        String[] positions = {"1 2 N", " 1 2 N", "1 2 N ", "1 2", "1 2 NE", "a 2 N", "1 b N", "4611686018427387905 1 N", "1 2 Q", "   "};
+        for (String position : positions) {
+            ValidationErrorEnum error = MissionValidationRules.validatePosition(position);
+            try {
+                new RoboticRover(position, "M");
+                assertNull(position, error);
+            } catch (ValidationException exception) {
+                assertNotNull(position, error);
+                assertEquals(position, error.getMessage(), exception.getMessage());
+            }
+        }
+    }
+
+    private void assertError(ValidationReport report, int errorIndex, int roboticRoverIndex, ValidationErrorEnum error) {
+        assertEquals(roboticRoverIndex, report.roboticRoverIndexAt(errorIndex));
+        assertEquals(error, report.errorAt(errorIndex));
+    }
+}
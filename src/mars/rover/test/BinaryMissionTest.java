@@ -0,0 +1,131 @@
+package mars.rover.test;
+
+import custom.exception.CommandExecutionException;
+import custom.exception.ValidationException;
+import mars.rover.binary.BinaryMission;
+import mars.rover.binary.BinaryMissionConverter;
+import mars.rover.binary.BinaryMissionExecutor;
+import mars.rover.binary.BinaryMissionResults;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class BinaryMissionTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void converted_mission_should_keep_plateau_positions_and_packed_commands() throws IOException, ValidationException {
+        Path textMission = temporaryFolder.newFile("mission.txt").toPath();
+        Files.write(textMission, "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n".getBytes(StandardCharsets.US_ASCII));
+        Path binaryMission = temporaryFolder.newFile("mission.bin").toPath();
+
+        assertEquals(2, BinaryMissionConverter.convert(textMission, binaryMission));
+        BinaryMission mission = BinaryMission.open(binaryMission);
+        assertEquals(5, mission.getMaxPlateauXCoordinate());
+        assertEquals(2, mission.size());
+        assertEquals(3, mission.getX(1));
+        assertEquals(1, mission.getHeading(1));
+        assertEquals("LMLMLMLMM", mission.getCommandProgram(0).toString());
+        assertEquals("MMRMMRMRRM", mission.getCommandProgram(1).toString());
+
+        Path resultFile = temporaryFolder.newFile("results.bin").toPath();
+        assertEquals(0, new BinaryMissionExecutor().execute(mission, resultFile));
+        BinaryMissionResults results = BinaryMissionResults.open(resultFile);
+        assertEquals(1, results.getX(0));
+        assertEquals(3, results.getY(0));
+        assertEquals(0, results.getHeading(0));
+        assertEquals(5, results.getX(1));
+        assertEquals(1, results.getY(1));
+        assertEquals(1, results.getHeading(1));
+        assertEquals(BinaryMissionResults.COMPLETED, results.getStatus(1));
+    }
+
+    @Test
+    public void mapped_execution_should_match_the_command_executor() throws IOException, ValidationException {
+        Random random = new Random(5);
+        StringBuilder text = new StringBuilder("20 20\n");
+        List<RoboticRover> roboticRovers = new ArrayList<>();
+        for (int index = 0; index < 500; index++) {
+            String position = random.nextInt(21) + " " + random.nextInt(21) + " " + "NESW".charAt(random.nextInt(4));
+            StringBuilder command = new StringBuilder();
+            for (int length = 1 + random.nextInt(40); length > 0; length--) {
+                command.append("LRMM".charAt(random.nextInt(4)));
+            }
+            text.append(position).append('\n').append(command).append('\n');
+            roboticRovers.add(new RoboticRover(position, command.toString()));
+        }
+        Path textMission = temporaryFolder.newFile("fleet.txt").toPath();
+        Files.write(textMission, text.toString().getBytes(StandardCharsets.US_ASCII));
+        Path binaryMission = temporaryFolder.newFile("fleet.bin").toPath();
+        Path resultFile = temporaryFolder.newFile("fleet-results.bin").toPath();
+        BinaryMissionConverter.convert(textMission, binaryMission);
+        int failures = new BinaryMissionExecutor().execute(BinaryMission.open(binaryMission), resultFile);
+        BinaryMissionResults results = BinaryMissionResults.open(resultFile);
+
+        RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(20, 20);
+        int expectedFailures = 0;
+        for (int index = 0; index < roboticRovers.size(); index++) {
+            RoboticRover roboticRover = roboticRovers.get(index);
+            int failingCommandIndex = -1;
+            try {
+                commandExecutor.execute(roboticRover);
+            } catch (CommandExecutionException exception) {
+                failingCommandIndex = exception.getCommandIndex();
+                expectedFailures++;
+            }
+            assertEquals(roboticRover.getCoordinate().getX(), results.getX(index));
+            assertEquals(roboticRover.getCoordinate().getY(), results.getY(index));
+            assertEquals(roboticRover.getCardinalCompassPoint().ordinal(), results.getHeading(index));
+            assertEquals(failingCommandIndex, results.getFailingCommandIndex(index));
+        }
+        assertEquals(expectedFailures, failures);
+        assertTrue(failures > 0);
+    }
+
+    @Test
+    public void failed_conversion_should_leave_the_binary_mission_untouched() throws IOException, ValidationException {
+        Path textMission = temporaryFolder.newFile("invalid.txt").toPath();
+        Files.write(textMission, "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRXMRMRRM\n".getBytes(StandardCharsets.US_ASCII));
+        Path binaryMission = temporaryFolder.newFile("invalid.bin").toPath();
+        byte[] previous = "previous".getBytes(StandardCharsets.US_ASCII);
+        Files.write(binaryMission, previous);
+
+        try {
+            BinaryMissionConverter.convert(textMission, binaryMission);
+            fail();
+        } catch (ValidationException exception) {
+            assertArrayEquals(previous, Files.readAllBytes(binaryMission));
+            try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+                assertEquals(2, files.count());
+            }
+        }
+    }
+
+    @Test
+    public void text_file_should_not_open_as_a_binary_mission() throws IOException {
+        Path textMission = temporaryFolder.newFile("not-binary.txt").toPath();
+        Files.write(textMission, "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMMRMRRM\n".getBytes(StandardCharsets.US_ASCII));
+
+        expectedException.expect(IOException.class);
+        BinaryMission.open(textMission);
+    }
+}
@@ -0,0 +1,117 @@
+package mars.rover.test;
+
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.checkpoint.CheckpointingMissionExecutor;
+import mars.rover.checkpoint.FleetCheckpoint;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.metrics.MissionPhaseEnum;
+import mars.rover.metrics.StripedMissionMetrics;
+import mars.rover.trace.CoverageHeatmap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CheckpointingMissionExecutorTest {
+
+    private static final int MAX_PLATEAU_COORDINATE = 1_000;
+    private static final int FLEET_SIZE = 200;
+    private static final int OPERATIONS_PER_CHECKPOINT = 97;
+    private static final int TORN_BYTES = 5;
+    private static final String PLATEAU_GRID = MAX_PLATEAU_COORDINATE + " " + MAX_PLATEAU_COORDINATE;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void resuming_from_any_checkpoint_should_match_an_uninterrupted_run() throws IOException, ValidationException {
+        RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(MAX_PLATEAU_COORDINATE, MAX_PLATEAU_COORDINATE);
+        FleetState uninterrupted = generateFleet();
+        for (int index = 0; index < uninterrupted.size(); index++) {
+            commandExecutor.execute(uninterrupted, index);
+        }
+
+        Path checkpointFile = temporaryFolder.newFile().toPath();
+        CheckpointingMissionExecutor checkpointingMissionExecutor = new CheckpointingMissionExecutor(checkpointFile, OPERATIONS_PER_CHECKPOINT);
+        checkpointingMissionExecutor.execute(commandExecutor, generateFleet());
+        long completeLength = Files.size(checkpointFile);
+
+        try (RandomAccessFile file = new RandomAccessFile(checkpointFile.toFile(), "rw")) {
+            file.setLength(completeLength / 2 - TORN_BYTES);
+        }
+        FleetState resumed = generateFleet();
+        FleetCheckpoint checkpoint = checkpointingMissionExecutor.restore(resumed);
+        assertTrue(checkpoint.getNextRoboticRoverIndex() > 0);
+        assertTrue(checkpoint.getNextRoboticRoverIndex() < FLEET_SIZE);
+        checkpointingMissionExecutor.resume(commandExecutor, resumed, checkpoint);
+
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            assertEquals(uninterrupted.getX(index), resumed.getX(index));
+            assertEquals(uninterrupted.getY(index), resumed.getY(index));
+            assertEquals(uninterrupted.getHeading(index), resumed.getHeading(index));
+        }
+
+        FleetState completed = generateFleet();
+        assertEquals(FLEET_SIZE, checkpointingMissionExecutor.restore(completed).getNextRoboticRoverIndex());
+        assertEquals(uninterrupted.getX(FLEET_SIZE - 1), completed.getX(FLEET_SIZE - 1));
+    }
+
+    @Test
+    public void checkpointed_missions_should_trace_and_count_like_uninterrupted_missions() throws IOException, ValidationException {
+        CoverageHeatmap expectedCoverageHeatmap = new CoverageHeatmap();
+        StripedMissionMetrics expectedMetrics = new StripedMissionMetrics();
+        MarsRover uninterrupted = new MarsRover(PLATEAU_GRID, generateRoboticRovers());
+        uninterrupted.setPathTracer(expectedCoverageHeatmap);
+        uninterrupted.setMetrics(expectedMetrics);
+        uninterrupted.executeReceivedCommandsForEachRoboticRover();
+
+        CoverageHeatmap coverageHeatmap = new CoverageHeatmap();
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        List<RoboticRover> roboticRovers = generateRoboticRovers();
+        MarsRover checkpointed = new MarsRover(PLATEAU_GRID, roboticRovers);
+        checkpointed.setPathTracer(coverageHeatmap);
+        checkpointed.setMetrics(metrics);
+        checkpointed.executeReceivedCommandsForEachRoboticRover(new CheckpointingMissionExecutor(temporaryFolder.newFile().toPath(), OPERATIONS_PER_CHECKPOINT));
+
+        assertEquals(expectedCoverageHeatmap.getVisitedCellCount(), coverageHeatmap.getVisitedCellCount());
+        for (RoboticRover roboticRover : roboticRovers) {
+            long x = roboticRover.getCoordinate().getX();
+            long y = roboticRover.getCoordinate().getY();
+            assertEquals(expectedCoverageHeatmap.getVisitCount(x, y), coverageHeatmap.getVisitCount(x, y));
+        }
+        assertEquals(FLEET_SIZE, metrics.getRoboticRoversExecuted());
+        assertEquals(expectedMetrics.getCommandsExecuted(), metrics.getCommandsExecuted());
+        assertEquals(expectedMetrics.getRoboticRoverMoves(FLEET_SIZE - 1), metrics.getRoboticRoverMoves(FLEET_SIZE - 1));
+        assertEquals(1, metrics.getMissionsCompleted());
+        assertEquals(1, metrics.getPhaseLatency(MissionPhaseEnum.EXECUTE).getCount());
+    }
+
+    private FleetState generateFleet() throws ValidationException {
+        return FleetState.of(generateRoboticRovers());
+    }
+
+    private List<RoboticRover> generateRoboticRovers() throws ValidationException {
+        Random random = new Random(5);
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            StringBuilder command = new StringBuilder();
+            for (int step = 0; step < 300; step++) {
+                command.append("LRMM".charAt(random.nextInt(4)));
+            }
+            fleet.add(new RoboticRover((400 + random.nextInt(200)) + " " + (400 + random.nextInt(200)) + " N", command.toString()));
+        }
+        return fleet;
+    }
+}
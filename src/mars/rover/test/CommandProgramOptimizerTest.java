@@ -0,0 +1,65 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.command.CommandProgram;
+import mars.rover.command.OptimizedCommandProgram;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class CommandProgramOptimizerTest {
+
+    private static final int FIVE = 5;
+
+    @Test
+    public void consecutive_turns_should_fold_into_a_net_heading_change() {
+        OptimizedCommandProgram optimized = CommandProgram.compile("LLLMRLLLLM").optimize();
+        assertEquals(4, optimized.size());
+        assertEquals(OptimizedCommandProgram.TURN, optimized.operationAt(0));
+        assertEquals(1, optimized.operandAt(0));
+        assertEquals(OptimizedCommandProgram.ADVANCE, optimized.operationAt(1));
+        assertEquals(OptimizedCommandProgram.TURN, optimized.operationAt(2));
+        assertEquals(1, optimized.operandAt(2));
+        assertEquals(4, optimized.firstCommandIndexAt(2));
+    }
+
+    @Test
+    public void move_runs_separated_by_cancelling_turns_should_collapse_into_one_advance() {
+        OptimizedCommandProgram optimized = CommandProgram.compile("MMMRLMMLLLLM").optimize();
+        assertEquals(1, optimized.size());
+        assertEquals(6, optimized.operandAt(0));
+        assertEquals(0, optimized.firstCommandIndexAt(0));
+    }
+
+    @Test
+    public void optimized_execution_should_match_command_by_command_execution() throws ValidationException {
+        RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(FIVE, FIVE);
+        RoboticRover optimized = new RoboticRover("3 3 E", "MMRMMRMRRM");
+        FleetState commandByCommand = FleetState.of(Collections.singletonList(new RoboticRover("3 3 E", "MMRMMRMRRM")));
+        commandExecutor.execute(optimized);
+        commandExecutor.executeCommandByCommand(commandByCommand, 0);
+        assertEquals(commandByCommand.getX(0), optimized.getCoordinate().getX());
+        assertEquals(commandByCommand.getY(0), optimized.getCoordinate().getY());
+        assertEquals(commandByCommand.getHeading(0), optimized.getCardinalCompassPoint().ordinal());
+        assertEquals(CardinalCompassPointEnum.EAST, optimized.getCardinalCompassPoint());
+    }
+
+    @Test
+    public void should_report_the_exact_command_that_leaves_the_plateau_grid() throws ValidationException {
+        RoboticRover roboticRover = new RoboticRover("1 2 N", "MLLRRMMRLM");
+        try {
+            new RoboticRoverCommandExecutor(FIVE, FIVE).execute(roboticRover);
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(9, exception.getCommandIndex());
+            assertEquals(FIVE, roboticRover.getCoordinate().getY());
+        }
+    }
+}
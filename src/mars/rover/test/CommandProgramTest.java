@@ -0,0 +1,42 @@
+package mars.rover.test;
+
+import mars.rover.command.CommandProgram;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class CommandProgramTest {
+
+    private static final String VALID_ROBOTIC_ROVER_COMMAND = "LMLMLMLMM";
+
+    @Test
+    public void compiled_program_should_contain_one_byte_per_command_letter() {
+        CommandProgram commandProgram = CommandProgram.compile(VALID_ROBOTIC_ROVER_COMMAND);
+        assertEquals(VALID_ROBOTIC_ROVER_COMMAND.length(), commandProgram.length());
+        assertEquals(CommandProgram.LEFT, commandProgram.commandAt(0));
+        assertEquals(CommandProgram.MOVE, commandProgram.commandAt(1));
+    }
+
+    @Test
+    public void command_list_view_should_match_the_original_command_letters() {
+        CommandProgram commandProgram = CommandProgram.compile(VALID_ROBOTIC_ROVER_COMMAND);
+        assertEquals(Arrays.asList(VALID_ROBOTIC_ROVER_COMMAND.split("")), commandProgram.asCommandList());
+        assertEquals(VALID_ROBOTIC_ROVER_COMMAND, commandProgram.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_unknown_command_letters() {
+        CommandProgram.compile("LMT");
+    }
+
+    @Test
+    public void first_difference_should_point_at_the_first_edited_command() {
+        CommandProgram commandProgram = CommandProgram.compile(VALID_ROBOTIC_ROVER_COMMAND);
+        assertEquals(CommandProgram.NO_DIFFERENCE, commandProgram.firstDifferenceFrom(CommandProgram.compile(VALID_ROBOTIC_ROVER_COMMAND)));
+        assertEquals(6, commandProgram.firstDifferenceFrom(CommandProgram.compile("LMLMLMMMM")));
+        assertEquals(VALID_ROBOTIC_ROVER_COMMAND.length(), commandProgram.firstDifferenceFrom(CommandProgram.compile(VALID_ROBOTIC_ROVER_COMMAND + "R")));
+        assertEquals(2, CommandProgram.compile("LM(M)x5").firstDifferenceFrom(CommandProgram.compile("LM(M)x6")));
+    }
+}
@@ -0,0 +1,57 @@
+package mars.rover.test;
+
+import custom.exception.ValidationException;
+import mars.rover.entity.RoboticRover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+final class FleetFixtures {
+
+    static final int NO_REPEATED_MOVES = 0;
+
+    private static final String CARDINAL_COMPASS_POINTS = "NESW";
+    private static final String COMMAND_LETTERS = "LRMM";
+    private static final String REPEATED_MOVES = "L(M)x3R";
+    private static final String FAILING_POSITION = "0 0 S";
+    private static final String FAILING_COMMAND = "M";
+
+    private FleetFixtures() {
+    }
+
+    static List<RoboticRover> generateFleet(Random random, int fleetSize, int maxCommands, int minCoordinate, int coordinateRange,
+                                            int repeatedMovesEvery) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int index = 0; index < fleetSize; index++) {
+            StringBuilder command = new StringBuilder();
+            for (int step = 0, steps = 1 + random.nextInt(maxCommands); step < steps; step++) {
+                command.append(COMMAND_LETTERS.charAt(random.nextInt(COMMAND_LETTERS.length())));
+            }
+            if (repeatedMovesEvery != NO_REPEATED_MOVES && index % repeatedMovesEvery == 0)
+                command.append(REPEATED_MOVES);
+            String position = (minCoordinate + random.nextInt(coordinateRange)) + " " + (minCoordinate + random.nextInt(coordinateRange)) + " "
+                    + CARDINAL_COMPASS_POINTS.charAt(random.nextInt(CARDINAL_COMPASS_POINTS.length()));
+            fleet.add(new RoboticRover(position, command.toString()));
+        }
+        return fleet;
+    }
+
+    static List<RoboticRover> failRoboticRovers(List<RoboticRover> fleet, int... roboticRoverIndexes) throws ValidationException {
+        for (int roboticRoverIndex : roboticRoverIndexes) {
+            fleet.set(roboticRoverIndex, new RoboticRover(FAILING_POSITION, FAILING_COMMAND));
+        }
+        return fleet;
+    }
+
+    static void assertSameFleet(List<RoboticRover> expected, List<RoboticRover> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int index = 0; index < expected.size(); index++) {
+            assertEquals(expected.get(index).getCoordinate().getX(), actual.get(index).getCoordinate().getX());
+            assertEquals(expected.get(index).getCoordinate().getY(), actual.get(index).getCoordinate().getY());
+            assertEquals(expected.get(index).getCardinalCompassPoint(), actual.get(index).getCardinalCompassPoint());
+        }
+    }
+}
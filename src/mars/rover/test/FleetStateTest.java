@@ -0,0 +1,96 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.MarsRover;
+import mars.rover.entity.Coordinate;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.plateau.ChunkedCellSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class FleetStateTest {
+
+    private static final int FIVE = 5;
+
+    @Test
+    public void robotic_rovers_should_move_on_plateau_grids_beyond_the_int_range() throws ValidationException {
+        long maxCoordinate = Coordinate.MAX_COORDINATE;
+        RoboticRover roboticRover = new RoboticRover((maxCoordinate - 2) + " " + (maxCoordinate - 1) + " E", "MMLM");
+        MarsRover marsRover = new MarsRover(maxCoordinate + " " + maxCoordinate, Arrays.asList(roboticRover));
+        marsRover.executeReceivedCommandsForEachRoboticRover();
+        assertEquals(maxCoordinate, roboticRover.getCoordinate().getX());
+        assertEquals(maxCoordinate, roboticRover.getCoordinate().getY());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void should_throw_exception_if_the_plateau_grid_exceeds_the_maximum_size() throws ValidationException {
+        new MarsRover((Coordinate.MAX_COORDINATE + 1) + " 5", Arrays.asList(new RoboticRover("1 2 N", "M")));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void should_throw_exception_if_the_plateau_grid_has_twenty_digits() throws ValidationException {
+        new MarsRover("99999999999999999999 5", Arrays.asList(new RoboticRover("1 2 N", "M")));
+    }
+
+    @Test(expected = ValidationException.class)
+    public void should_throw_exception_if_the_position_has_twenty_digits() throws ValidationException {
+        new RoboticRover("99999999999999999999 2 N", "M");
+    }
+
+    @Test
+    public void chunked_cell_set_should_only_allocate_touched_tiles() {
+        ChunkedCellSet chunkedCellSet = new ChunkedCellSet();
+        for (long step = 0; step < 1_000; step++) {
+            assertTrue(chunkedCellSet.add(step * 1_000_000_007L, Coordinate.MAX_COORDINATE - step));
+        }
+        assertFalse(chunkedCellSet.add(0, Coordinate.MAX_COORDINATE));
+        assertEquals(1_000, chunkedCellSet.tileCount());
+        assertTrue(chunkedCellSet.remove(0, Coordinate.MAX_COORDINATE));
+        assertFalse(chunkedCellSet.contains(0, Coordinate.MAX_COORDINATE));
+        assertTrue(chunkedCellSet.contains(999 * 1_000_000_007L, Coordinate.MAX_COORDINATE - 999));
+        assertEquals(999, chunkedCellSet.cellCount());
+    }
+
+    @Test
+    public void fleet_state_should_execute_without_touching_robotic_rovers_until_written_back() throws ValidationException {
+        RoboticRover roboticRover = new RoboticRover("1 2 N", "LMLMLMLMM");
+        FleetState fleetState = FleetState.of(Arrays.asList(roboticRover));
+        new RoboticRoverCommandExecutor(FIVE, FIVE).execute(fleetState, 0);
+
+        assertEquals(2, roboticRover.getCoordinate().getY());
+        assertEquals(3, fleetState.getY(0));
+
+        fleetState.writeTo(0, roboticRover);
+        assertEquals(1, roboticRover.getCoordinate().getX());
+        assertEquals(3, roboticRover.getCoordinate().getY());
+        assertEquals(CardinalCompassPointEnum.NORTH, roboticRover.getCardinalCompassPoint());
+    }
+
+    @Test
+    public void failed_bounds_check_should_leave_the_last_valid_pose() throws ValidationException {
+        FleetState fleetState = FleetState.of(Arrays.asList(new RoboticRover("5 5 E", "LM")));
+        try {
+            new RoboticRoverCommandExecutor(FIVE, FIVE).execute(fleetState, 0);
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(FIVE, fleetState.getX(0));
+            assertEquals(FIVE, fleetState.getY(0));
+            assertEquals(CardinalCompassPointEnum.NORTH.ordinal(), fleetState.getHeading(0));
+        }
+    }
+
+    @Test
+    public void moving_a_coordinate_should_not_mutate_it() {
+        Coordinate coordinate = new Coordinate(1, 1);
+        Coordinate moved = CardinalCompassPointEnum.NORTH.move(coordinate);
+        assertEquals(1, coordinate.getY());
+        assertEquals(2, moved.getY());
+    }
+}
@@ -0,0 +1,47 @@
+package mars.rover.test;
+
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.HeadingTable;
+import mars.rover.entity.Coordinate;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HeadingTableTest {
+
+    @Test
+    public void turn_tables_should_rotate_through_the_compass() {
+        assertEquals(CardinalCompassPointEnum.WEST, CardinalCompassPointEnum.NORTH.turnLeft());
+        assertEquals(CardinalCompassPointEnum.EAST, CardinalCompassPointEnum.NORTH.turnRight());
+        for (int heading = 0; heading < 4; heading++) {
+            assertEquals(heading, HeadingTable.turnRight(HeadingTable.turnLeft(heading)));
+            assertEquals((heading + 1) & 3, HeadingTable.turnRight(heading));
+            assertEquals((heading + 3) & 3, HeadingTable.turnLeft(heading));
+        }
+    }
+
+    @Test
+    public void letters_should_map_directly_to_headings() {
+        for (CardinalCompassPointEnum cardinalCompassPoint : CardinalCompassPointEnum.values()) {
+            char letter = cardinalCompassPoint.getHeading().charAt(0);
+            assertEquals(cardinalCompassPoint.ordinal(), HeadingTable.headingOf(letter));
+            assertEquals(letter, HeadingTable.letterOf(cardinalCompassPoint.ordinal()));
+            assertSame(cardinalCompassPoint, CardinalCompassPointEnum.get(cardinalCompassPoint.getHeading()));
+        }
+        assertEquals(HeadingTable.INVALID, HeadingTable.headingOf('n'));
+        assertEquals(HeadingTable.INVALID, HeadingTable.headingOf('É'));
+        assertEquals(HeadingTable.INVALID, HeadingTable.headingOf((byte) -78));
+        assertNull(CardinalCompassPointEnum.get("NE"));
+        assertNull(CardinalCompassPointEnum.get(""));
+        assertFalse(CardinalCompassPointEnum.isValidCardinalCompassPoint(null));
+    }
+
+    @Test
+    public void move_should_apply_the_heading_deltas() {
+        Coordinate coordinate = new Coordinate(5, 5);
+        assertEquals(6, CardinalCompassPointEnum.NORTH.move(coordinate).getY());
+        assertEquals(6, CardinalCompassPointEnum.EAST.move(coordinate).getX());
+        assertEquals(4, CardinalCompassPointEnum.SOUTH.move(coordinate).getY());
+        assertEquals(4, CardinalCompassPointEnum.WEST.move(coordinate).getX());
+    }
+}
@@ -0,0 +1,155 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.IncrementalMissionExecutor;
+import mars.rover.metrics.StripedMissionMetrics;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static mars.rover.test.FleetFixtures.assertSameFleet;
+import static org.junit.Assert.*;
+
+public class IncrementalMissionExecutorTest {
+
+    private static final int FLEET_SIZE = 200;
+    private static final int COMMANDS_PER_ROBOTIC_ROVER = 2_000;
+    private static final int COMMANDS_PER_SNAPSHOT = 64;
+    private static final int EDITED_ROBOTIC_ROVER_INDEX = 117;
+    private static final String PLATEAU_GRID = "100000 100000";
+    private static final String CARDINAL_COMPASS_POINTS = "NESW";
+
+    @Test
+    public void rerun_should_only_resimulate_the_edited_suffix() throws ValidationException {
+        List<String> commands = generateCommands(new Random(3));
+        IncrementalMissionExecutor incrementalMissionExecutor = new IncrementalMissionExecutor(COMMANDS_PER_SNAPSHOT);
+        new MarsRover(PLATEAU_GRID, createFleet(commands)).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+        assertEquals(FLEET_SIZE, incrementalMissionExecutor.getResimulatedRoboticRovers());
+
+        String editedCommand = commands.get(EDITED_ROBOTIC_ROVER_INDEX);
+        commands.set(EDITED_ROBOTIC_ROVER_INDEX, editedCommand.substring(0, editedCommand.length() - 10) + "RMMMLMMMMM");
+        List<RoboticRover> incrementalFleet = createFleet(commands);
+        List<RoboticRover> fullFleet = createFleet(commands);
+        new MarsRover(PLATEAU_GRID, incrementalFleet).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+        new MarsRover(PLATEAU_GRID, fullFleet).executeReceivedCommandsForEachRoboticRover();
+
+        assertSameFleet(fullFleet, incrementalFleet);
+        assertEquals(FLEET_SIZE - 1, incrementalMissionExecutor.getSkippedRoboticRovers());
+        assertEquals(1, incrementalMissionExecutor.getResimulatedRoboticRovers());
+        assertTrue(incrementalMissionExecutor.getResimulatedCommands() <= COMMANDS_PER_SNAPSHOT + 10);
+    }
+
+    @Test
+    public void rerun_should_resume_an_appended_tape_from_its_final_pose() throws ValidationException {
+        List<String> commands = generateCommands(new Random(5));
+        IncrementalMissionExecutor incrementalMissionExecutor = new IncrementalMissionExecutor(COMMANDS_PER_SNAPSHOT);
+        new MarsRover(PLATEAU_GRID, createFleet(commands)).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+
+        commands.set(EDITED_ROBOTIC_ROVER_INDEX, commands.get(EDITED_ROBOTIC_ROVER_INDEX) + "LRRMMM");
+        List<RoboticRover> incrementalFleet = createFleet(commands);
+        List<RoboticRover> fullFleet = createFleet(commands);
+        new MarsRover(PLATEAU_GRID, incrementalFleet).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+        new MarsRover(PLATEAU_GRID, fullFleet).executeReceivedCommandsForEachRoboticRover();
+
+        assertSameFleet(fullFleet, incrementalFleet);
+        assertTrue(incrementalMissionExecutor.getResimulatedCommands() <= COMMANDS_PER_SNAPSHOT + 6);
+    }
+
+    @Test
+    public void rerun_should_start_over_when_the_initial_pose_changes() throws ValidationException {
+        List<String> commands = generateCommands(new Random(9));
+        IncrementalMissionExecutor incrementalMissionExecutor = new IncrementalMissionExecutor(COMMANDS_PER_SNAPSHOT);
+        new MarsRover(PLATEAU_GRID, createFleet(commands)).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+
+        List<RoboticRover> incrementalFleet = createFleet(commands);
+        List<RoboticRover> fullFleet = createFleet(commands);
+        incrementalFleet.set(0, new RoboticRover("60000 60000 E", commands.get(0)));
+        fullFleet.set(0, new RoboticRover("60000 60000 E", commands.get(0)));
+        new MarsRover(PLATEAU_GRID, incrementalFleet).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+        new MarsRover(PLATEAU_GRID, fullFleet).executeReceivedCommandsForEachRoboticRover();
+
+        assertSameFleet(fullFleet, incrementalFleet);
+        assertEquals(1, incrementalMissionExecutor.getResimulatedRoboticRovers());
+        assertEquals(COMMANDS_PER_ROBOTIC_ROVER, incrementalMissionExecutor.getResimulatedCommands());
+    }
+
+    @Test
+    public void metrics_should_record_every_robotic_rover_on_every_run() throws ValidationException {
+        List<String> commands = generateCommands(new Random(15));
+        IncrementalMissionExecutor incrementalMissionExecutor = new IncrementalMissionExecutor(COMMANDS_PER_SNAPSHOT);
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        for (int run = 1; run <= 2; run++) {
+            MarsRover marsRover = new MarsRover(PLATEAU_GRID, createFleet(commands));
+            marsRover.setMetrics(metrics);
+            marsRover.executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+
+            assertEquals((long) run * FLEET_SIZE, metrics.getRoboticRoversExecuted());
+            assertEquals((long) run * COMMANDS_PER_ROBOTIC_ROVER, metrics.getRoboticRoverCommands(EDITED_ROBOTIC_ROVER_INDEX));
+        }
+    }
+
+    @Test
+    public void rerun_should_report_an_unchanged_failure_and_recover_once_the_tape_is_fixed() throws ValidationException {
+        List<String> commands = generateCommands(new Random(13));
+        commands.set(EDITED_ROBOTIC_ROVER_INDEX, commands.get(EDITED_ROBOTIC_ROVER_INDEX) + "(M)x100000");
+        IncrementalMissionExecutor incrementalMissionExecutor = new IncrementalMissionExecutor(COMMANDS_PER_SNAPSHOT);
+
+        PlateauGridExceededException firstFailure = null;
+        try {
+            new MarsRover(PLATEAU_GRID, createFleet(commands)).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            firstFailure = exception;
+        }
+        List<RoboticRover> failedFleet = createFleet(commands);
+        List<RoboticRover> fullFailedFleet = createFleet(commands);
+        try {
+            new MarsRover(PLATEAU_GRID, failedFleet).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(firstFailure.getCommandIndex(), exception.getCommandIndex());
+            assertEquals(FLEET_SIZE, incrementalMissionExecutor.getSkippedRoboticRovers());
+        }
+        try {
+            new MarsRover(PLATEAU_GRID, fullFailedFleet).executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertSameFleet(fullFailedFleet, failedFleet);
+        }
+
+        commands.set(EDITED_ROBOTIC_ROVER_INDEX, commands.get(EDITED_ROBOTIC_ROVER_INDEX).replace("(M)x100000", "(M)x10"));
+        List<RoboticRover> incrementalFleet = createFleet(commands);
+        List<RoboticRover> fullFleet = createFleet(commands);
+        new MarsRover(PLATEAU_GRID, incrementalFleet).executeReceivedCommandsForEachRoboticRover(incrementalMissionExecutor);
+        new MarsRover(PLATEAU_GRID, fullFleet).executeReceivedCommandsForEachRoboticRover();
+
+        assertSameFleet(fullFleet, incrementalFleet);
+        assertEquals(FLEET_SIZE - 1, incrementalMissionExecutor.getSkippedRoboticRovers());
+    }
+
+    private List<String> generateCommands(Random random) {
+        List<String> commands = new ArrayList<>();
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            StringBuilder command = new StringBuilder();
+            for (int commandIndex = 0; commandIndex < COMMANDS_PER_ROBOTIC_ROVER; commandIndex++) {
+                command.append("LRMM".charAt(random.nextInt(4)));
+            }
+            commands.add(command.toString());
+        }
+        return commands;
+    }
+
+    private List<RoboticRover> createFleet(List<String> commands) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int index = 0; index < commands.size(); index++) {
+            String position = (40000 + index * 100) + " " + (40000 + index * 100) + " " + CARDINAL_COMPASS_POINTS.charAt(index % 4);
+            fleet.add(new RoboticRover(position, commands.get(index)));
+        }
+        return fleet;
+    }
+}
@@ -0,0 +1,127 @@
+package mars.rover.test;
+
+import custom.exception.RoboticRoverCollisionException;
+import custom.exception.ValidationException;
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.LockStepMissionExecutor;
+import mars.rover.metrics.StripedMissionMetrics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LockStepMissionExecutorTest {
+
+    private static final String CARDINAL_COMPASS_POINTS = "NESW";
+    private static final String COMMAND_LETTERS = "LRMM";
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void moves_into_cells_occupied_at_tick_start_should_be_skipped() throws ValidationException {
+        List<RoboticRover> roboticRovers = Arrays.asList(new RoboticRover("1 1 E", "M"), new RoboticRover("2 1 W", "M"),
+                new RoboticRover("1 3 E", "M"), new RoboticRover("0 3 E", "M"));
+        new MarsRover("5 5", roboticRovers).executeReceivedCommandsForEachRoboticRover(new LockStepMissionExecutor(1));
+
+        assertPosition("1 1 E", roboticRovers.get(0));
+        assertPosition("2 1 W", roboticRovers.get(1));
+        assertPosition("2 3 E", roboticRovers.get(2));
+        assertPosition("0 3 E", roboticRovers.get(3));
+    }
+
+    @Test
+    public void lowest_index_should_win_a_contested_cell() throws ValidationException {
+        List<RoboticRover> roboticRovers = Arrays.asList(new RoboticRover("2 1 W", "MM"), new RoboticRover("1 2 S", "MM"), new RoboticRover("0 1 E", "M"));
+        new MarsRover("5 5", roboticRovers).executeReceivedCommandsForEachRoboticRover(new LockStepMissionExecutor(1));
+
+        assertPosition("1 1 W", roboticRovers.get(0));
+        assertPosition("1 2 S", roboticRovers.get(1));
+        assertPosition("0 1 E", roboticRovers.get(2));
+    }
+
+    @Test
+    public void exhausted_robotic_rovers_should_be_skipped() throws ValidationException {
+        List<RoboticRover> roboticRovers = Arrays.asList(new RoboticRover("1 2 N", "LMLMLMLMM"), new RoboticRover("3 3 E", "MMRMMRMRRM"));
+        LockStepMissionExecutor lockStepMissionExecutor = new LockStepMissionExecutor(2);
+        new MarsRover("5 5", roboticRovers).executeReceivedCommandsForEachRoboticRover(lockStepMissionExecutor);
+
+        assertPosition("1 3 N", roboticRovers.get(0));
+        assertPosition("5 1 E", roboticRovers.get(1));
+        assertEquals(10, lockStepMissionExecutor.getTicks());
+        assertEquals(19, lockStepMissionExecutor.getRoboticRoverSteps());
+    }
+
+    @Test
+    public void failing_collision_policy_should_report_the_lowest_index() throws ValidationException {
+        List<RoboticRover> roboticRovers = Arrays.asList(new RoboticRover("0 0 N", "MMMM"), new RoboticRover("3 3 S", "M"), new RoboticRover("3 1 N", "M"),
+                new RoboticRover("5 5 N", "RRMM"));
+        MarsRover marsRover = new MarsRover("5 5", roboticRovers);
+        marsRover.setCollisionPolicy(CollisionPolicyEnum.FAIL);
+        try {
+            marsRover.executeReceivedCommandsForEachRoboticRover(new LockStepMissionExecutor(3));
+            fail();
+        } catch (RoboticRoverCollisionException exception) {
+            assertEquals(0, exception.getCommandIndex());
+        }
+        assertPosition("0 1 N", roboticRovers.get(0));
+        assertPosition("3 2 S", roboticRovers.get(1));
+        assertPosition("3 1 N", roboticRovers.get(2));
+        assertPosition("5 5 E", roboticRovers.get(3));
+    }
+
+    @Test
+    public void parallel_ticks_should_match_sequential_ticks() throws ValidationException {
+        List<RoboticRover> sequentialFleet = generateFleet(new Random(5));
+        List<RoboticRover> parallelFleet = generateFleet(new Random(5));
+        LockStepMissionExecutor sequentialExecutor = new LockStepMissionExecutor(1);
+        LockStepMissionExecutor parallelExecutor = new LockStepMissionExecutor(4);
+
+        new MarsRover("299 299", sequentialFleet).executeReceivedCommandsForEachRoboticRover(sequentialExecutor);
+        new MarsRover("299 299", parallelFleet).executeReceivedCommandsForEachRoboticRover(parallelExecutor);
+
+        for (int index = 0; index < sequentialFleet.size(); index++) {
+            assertEquals(sequentialFleet.get(index).getCoordinate().getX(), parallelFleet.get(index).getCoordinate().getX());
+            assertEquals(sequentialFleet.get(index).getCoordinate().getY(), parallelFleet.get(index).getCoordinate().getY());
+            assertEquals(sequentialFleet.get(index).getCardinalCompassPoint(), parallelFleet.get(index).getCardinalCompassPoint());
+        }
+        assertEquals(sequentialExecutor.getTicks(), parallelExecutor.getTicks());
+        assertEquals(sequentialExecutor.getRoboticRoverSteps(), parallelExecutor.getRoboticRoverSteps());
+    }
+
+    private List<RoboticRover> generateFleet(Random random) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int y = 100; y < 200; y++) {
+            for (int x = 100; x < 200; x += 1 + random.nextInt(2)) {
+                StringBuilder command = new StringBuilder();
+                for (int step = 0, steps = 1 + random.nextInt(60); step < steps; step++) {
+                    command.append(COMMAND_LETTERS.charAt(random.nextInt(COMMAND_LETTERS.length())));
+                }
+                fleet.add(new RoboticRover(x + " " + y + " " + CARDINAL_COMPASS_POINTS.charAt(random.nextInt(4)), command.toString()));
+            }
+        }
+        return fleet;
+    }
+
+    @Test
+    public void per_robotic_rover_metrics_should_be_rejected() throws ValidationException {
+        MarsRover marsRover = new MarsRover("5 5", Arrays.asList(new RoboticRover("1 1 E", "M")));
+        marsRover.setMetrics(new StripedMissionMetrics());
+
+        expectedException.expect(IllegalArgumentException.class);
+        marsRover.executeReceivedCommandsForEachRoboticRover(new LockStepMissionExecutor(1));
+    }
+
+    private void assertPosition(String expectedPosition, RoboticRover roboticRover) {
+        assertEquals(expectedPosition, roboticRover.getCoordinate().getX() + " " + roboticRover.getCoordinate().getY() + " "
+                + roboticRover.getCardinalCompassPoint().getHeading());
+    }
+}
@@ -0,0 +1,114 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.entity.RoboticRover;
+import mars.rover.io.MissionFileReader;
+import mars.rover.io.MissionHandler;
+import mars.rover.io.StreamingMissionExecutor;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MissionFileReaderTest {
+
+    private static final int SMALL_BUFFER_SIZE = 3;
+    private static final String VALID_MISSION = "5 5\n1 2 N\nLMLMLMLMM\r\n3 3 E\nMMRMMRMRRM\n";
+    private static final String INVALID_COMMAND_MISSION = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMRMT\n";
+    private static final String MISSING_COMMAND_MISSION = "5 5\n1 2 N\n";
+    private static final String INVALID_PLATEAU_GRID_MISSION = "u 5\n1 2 N\nM\n";
+    private static final String SECOND_ROBOTIC_ROVER_EXCEEDS_THE_PLATEAU_GRID_MISSION = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMMMM\n";
+    private static final String TWENTY_DIGIT_POSITION_MISSION = "5 5\n99999999999999999999 2 N\nM\n";
+    private static final String INVALID_ROBOTIC_ROVER_COMMAND_EXCEPTION = "Please provide a valid robotic rover command. Line 5.";
+    private static final String PROVIDE_ROBOTIC_ROVER_COMMAND_EXCEPTION = "Please provide robotic rover command. Line 3.";
+    private static final String POSITION_EXCEEDS_THE_MAXIMUM_COORDINATE_EXCEPTION = "Please make sure the robotic rover position does not exceed 4611686018427387904. Line 2.";
+    private static final String FIRST_CHARACTER_IS_NOT_A_DIGIT_EXCEPTION = "Please make sure the first character in the plateau grid is a digit.";
+
+    @org.junit.Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void should_stream_and_execute_each_robotic_rover() throws IOException, ValidationException {
+        CollectingMissionHandler results = new CollectingMissionHandler();
+        long roboticRovers = new MissionFileReader(SMALL_BUFFER_SIZE).read(channel(VALID_MISSION), new StreamingMissionExecutor(results));
+
+        assertEquals(2, roboticRovers);
+        assertEquals(5, results.maxPlateauXCoordinate);
+        assertEquals(1, results.roboticRovers.get(0).getCoordinate().getX());
+        assertEquals(3, results.roboticRovers.get(0).getCoordinate().getY());
+        assertEquals(CardinalCompassPointEnum.NORTH, results.roboticRovers.get(0).getCardinalCompassPoint());
+        assertEquals(5, results.roboticRovers.get(1).getCoordinate().getX());
+        assertEquals(1, results.roboticRovers.get(1).getCoordinate().getY());
+        assertEquals(CardinalCompassPointEnum.EAST, results.roboticRovers.get(1).getCardinalCompassPoint());
+    }
+
+    @Test
+    public void should_report_the_line_of_an_invalid_command() throws IOException, ValidationException {
+        expectedException.expect(ValidationException.class);
+        expectedException.expectMessage(INVALID_ROBOTIC_ROVER_COMMAND_EXCEPTION);
+        new MissionFileReader().read(channel(INVALID_COMMAND_MISSION), new CollectingMissionHandler());
+    }
+
+    @Test
+    public void should_throw_exception_if_the_last_robotic_rover_has_no_command() throws IOException, ValidationException {
+        expectedException.expect(ValidationException.class);
+        expectedException.expectMessage(PROVIDE_ROBOTIC_ROVER_COMMAND_EXCEPTION);
+        new MissionFileReader().read(channel(MISSING_COMMAND_MISSION), new CollectingMissionHandler());
+    }
+
+    @Test
+    public void should_throw_exception_if_the_plateau_grid_is_invalid() throws IOException, ValidationException {
+        expectedException.expect(ValidationException.class);
+        expectedException.expectMessage(FIRST_CHARACTER_IS_NOT_A_DIGIT_EXCEPTION);
+        new MissionFileReader().read(channel(INVALID_PLATEAU_GRID_MISSION), new CollectingMissionHandler());
+    }
+
+    @Test
+    public void should_throw_exception_if_a_coordinate_has_twenty_digits() throws IOException, ValidationException {
+        expectedException.expect(ValidationException.class);
+        expectedException.expectMessage(POSITION_EXCEEDS_THE_MAXIMUM_COORDINATE_EXCEPTION);
+        new MissionFileReader().read(channel(TWENTY_DIGIT_POSITION_MISSION), new CollectingMissionHandler());
+    }
+
+    @Test
+    public void streamed_failures_should_name_the_failing_robotic_rover() throws IOException, ValidationException {
+        try {
+            new MissionFileReader().read(channel(SECOND_ROBOTIC_ROVER_EXCEEDS_THE_PLATEAU_GRID_MISSION), new StreamingMissionExecutor(new CollectingMissionHandler()));
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(1, exception.getRoboticRoverIndex());
+            assertEquals(2, exception.getCommandIndex());
+            assertTrue(exception.getDetailedMessage().contains("Robotic rover: 1, failing command: 2, pose: 5 3 E."));
+        }
+    }
+
+    private static ReadableByteChannel channel(String mission) {
+        return Channels.newChannel(new ByteArrayInputStream(mission.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static class CollectingMissionHandler implements MissionHandler {
+
+        private long maxPlateauXCoordinate;
+        private final List<RoboticRover> roboticRovers = new ArrayList<>();
+
+        @Override
+        public void plateauGrid(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+            this.maxPlateauXCoordinate = maxPlateauXCoordinate;
+        }
+
+        @Override
+        public void roboticRover(long roboticRoverIndex, RoboticRover roboticRover) {
+            roboticRovers.add(roboticRover);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package mars.rover.test;
+
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.io.MissionFileReader;
+import mars.rover.io.MissionHandler;
+import mars.rover.io.StreamingMissionExecutor;
+import mars.rover.metrics.LatencyHistogram;
+import mars.rover.metrics.MissionMetrics;
+import mars.rover.metrics.MissionPhaseEnum;
+import mars.rover.metrics.MissionRejectionEnum;
+import mars.rover.metrics.StripedMissionMetrics;
+import mars.rover.validation.BatchValidator;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MissionMetricsTest {
+
+    @Test
+    public void parallel_mission_should_count_every_command_move_and_turn() throws ValidationException {
+        List<RoboticRover> roboticRovers = new ArrayList<>();
+        for (int index = 0; index < 2000; index++) {
+            roboticRovers.add(new RoboticRover((1 + index % 4) + " " + (1 + index % 3) + " N", "LMLMLMLMM"));
+        }
+        MarsRover marsRover = new MarsRover("5 5", roboticRovers);
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        marsRover.setMetrics(metrics);
+        marsRover.executeReceivedCommandsForEachRoboticRover(4);
+
+        assertEquals(2000, metrics.getRoboticRoversExecuted());
+        assertEquals(2000 * 9, metrics.getCommandsExecuted());
+        assertEquals(2000 * 5, metrics.getMoves());
+        assertEquals(2000 * 4, metrics.getTurns());
+        assertEquals(9, metrics.getRoboticRoverCommands(1999));
+        assertEquals(5, metrics.getRoboticRoverMoves(1024));
+        assertEquals(4, metrics.getRoboticRoverTurns(0));
+        assertEquals(0, metrics.getRoboticRoverCommands(2000));
+        assertEquals(1, metrics.getMissionsCompleted());
+        assertEquals(1, metrics.getPhaseLatency(MissionPhaseEnum.EXECUTE).getCount());
+        assertTrue(metrics.getCommandsPerSecond() > 0);
+    }
+
+    @Test
+    public void rejected_robotic_rover_should_count_commands_up_to_the_failing_one() throws ValidationException {
+        MarsRover marsRover = new MarsRover("5 5", Arrays.asList(new RoboticRover("1 2 N", "MLLRRMMRLM")));
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        marsRover.setMetrics(metrics);
+        try {
+            marsRover.executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (ValidationException exception) {
+            assertEquals(1, metrics.getRejections(MissionRejectionEnum.PLATEAU_GRID));
+            assertEquals(9, metrics.getCommandsExecuted());
+            assertEquals(3, metrics.getMoves());
+            assertEquals(1, metrics.getMissionsFailed());
+            assertEquals(MissionRejectionEnum.PLATEAU_GRID, metrics.getRoboticRoverRejection(0));
+            assertEquals(9, metrics.getRoboticRoverCommands(0));
+        }
+    }
+
+    @Test
+    public void streaming_and_validation_phases_should_be_timed() throws Exception {
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        String mission = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\n(LR)x3M\n";
+        MissionHandler ignored = new MissionHandler() {
+            @Override
+            public void plateauGrid(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+            }
+
+            @Override
+            public void roboticRover(long roboticRoverIndex, RoboticRover roboticRover) {
+            }
+        };
+        new MissionFileReader(64, metrics).read(Channels.newChannel(new ByteArrayInputStream(mission.getBytes(StandardCharsets.US_ASCII))),
+                new StreamingMissionExecutor(ignored, metrics));
+        new BatchValidator(1, 16, metrics).validate(Arrays.asList("1 2 N"), Arrays.asList("M"));
+
+        assertEquals(1, metrics.getPhaseLatency(MissionPhaseEnum.PARSE).getCount());
+        assertEquals(1, metrics.getPhaseLatency(MissionPhaseEnum.VALIDATE).getCount());
+        assertEquals(2, metrics.getRoboticRoversExecuted());
+        assertEquals(9 + 7, metrics.getCommandsExecuted());
+        assertEquals(9, metrics.getRoboticRoverCommands(0));
+        assertEquals(7, metrics.getRoboticRoverCommands(1));
+        assertEquals(1, metrics.getRoboticRoverMoves(1));
+        assertEquals(0, metrics.getMissionsCompleted() + metrics.getMissionsFailed());
+    }
+
+    @Test
+    public void streamed_rejection_should_be_recorded_against_the_failing_robotic_rover() throws Exception {
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        String mission = "5 5\n1 2 N\nLMLMLMLMM\n3 3 E\nMMMM\n";
+        MissionHandler ignored = new MissionHandler() {
+            @Override
+            public void plateauGrid(long maxPlateauXCoordinate, long maxPlateauYCoordinate) {
+            }
+
+            @Override
+            public void roboticRover(long roboticRoverIndex, RoboticRover roboticRover) {
+            }
+        };
+        try {
+            new MissionFileReader(64, metrics).read(Channels.newChannel(new ByteArrayInputStream(mission.getBytes(StandardCharsets.US_ASCII))),
+                    new StreamingMissionExecutor(ignored, metrics));
+            fail();
+        } catch (ValidationException exception) {
+            assertNull(metrics.getRoboticRoverRejection(0));
+            assertEquals(MissionRejectionEnum.PLATEAU_GRID, metrics.getRoboticRoverRejection(1));
+            assertEquals(2, metrics.getRoboticRoverCommands(1));
+            assertEquals(9, metrics.getRoboticRoverCommands(0));
+        }
+    }
+
+    @Test
+    public void parallel_mission_should_not_keep_metrics_of_rolled_back_robotic_rovers() throws ValidationException {
+        List<RoboticRover> roboticRovers = new ArrayList<>();
+        for (int index = 0; index < 2000; index++) {
+            roboticRovers.add(new RoboticRover(index == 1000 ? "0 0 S" : "1 1 N", "MRM"));
+        }
+        MarsRover marsRover = new MarsRover("5 5", roboticRovers);
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        marsRover.setMetrics(metrics);
+        try {
+            marsRover.executeReceivedCommandsForEachRoboticRover(4);
+            fail();
+        } catch (ValidationException exception) {
+            assertEquals(1001, metrics.getRoboticRoversExecuted());
+            assertEquals(1000 * 3, metrics.getCommandsExecuted());
+            assertEquals(3, metrics.getRoboticRoverCommands(999));
+            assertEquals(MissionRejectionEnum.PLATEAU_GRID, metrics.getRoboticRoverRejection(1000));
+            assertEquals(0, metrics.getRoboticRoverCommands(1001));
+            assertEquals(0, metrics.getRoboticRoverCommands(1999));
+            assertEquals(1, metrics.getMissionsFailed());
+        }
+    }
+
+    @Test
+    public void metrics_should_be_readable_through_jmx() throws Exception {
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        metrics.roboticRoverExecuted(0, 10, 6, 4);
+        ObjectName objectName = metrics.register("jmx-test");
+        try {
+            assertEquals(10L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "CommandsExecuted"));
+            assertEquals(6L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Moves"));
+        } finally {
+            StripedMissionMetrics.unregister(objectName);
+        }
+    }
+
+    @Test
+    public void histogram_percentiles_should_bound_the_recorded_latencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int sample = 1; sample <= 100; sample++) {
+            histogram.record(sample * 1000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000, histogram.getMaximumNanos());
+        assertEquals(50_500, histogram.getMeanNanos(), 0.001);
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 50_000 && median < 100_000);
+        assertEquals(100_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void default_metrics_should_be_disabled() throws ValidationException {
+        assertFalse(MissionMetrics.noOp().isEnabled());
+        assertFalse(new MarsRover("5 5", Arrays.asList(new RoboticRover("1 2 N", "M"))).getMetrics().isEnabled());
+    }
+}
@@ -0,0 +1,114 @@
+package mars.rover.test;
+
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.server.MissionServer;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MissionServerTest {
+
+    private static final String CONNECTION_THREAD_PREFIX = "mission-server-connection-";
+
+    @Test
+    public void loopback_client_should_stream_command_batches_to_existing_robotic_rovers() throws Exception {
+        List<RoboticRover> roboticRovers = new ArrayList<>(Arrays.asList(new RoboticRover("1 2 N", "M"), new RoboticRover("3 3 E", "M")));
+        MarsRover marsRover = new MarsRover("5 5", roboticRovers);
+        try (MissionServer missionServer = MissionServer.start(marsRover, 0);
+             Socket socket = new Socket(InetAddress.getLoopbackAddress(), missionServer.getPort());
+             PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            writer.println("0 LMLMLMLMM");
+            assertEquals("OK 0 1 3 N", reader.readLine());
+            writer.println("1 MMRMMRMRRM");
+            assertEquals("OK 1 5 1 E", reader.readLine());
+            writer.println("1 M");
+            assertEquals("ERROR 1 Please note that the robotic rover cannot leave the plateau grid.", reader.readLine());
+            writer.println("0 LMX");
+            assertEquals("ERROR 0 Please provide a valid robotic rover command.", reader.readLine());
+            writer.println("7 M");
+            assertEquals("ERROR 7 Please provide the index of an existing robotic rover.", reader.readLine());
+            writer.println("hello");
+            assertEquals("ERROR -1 Please send a robotic rover index followed by one space and a command.", reader.readLine());
+            writer.println("POSE 0");
+            assertEquals("OK 0 1 3 N", reader.readLine());
+        }
+        assertEquals(1, roboticRovers.get(0).getCoordinate().getX());
+        assertEquals(3, roboticRovers.get(0).getCoordinate().getY());
+        assertEquals(CardinalCompassPointEnum.EAST, roboticRovers.get(1).getCardinalCompassPoint());
+    }
+
+    @Test
+    public void bounded_queues_should_apply_backpressure_without_reordering_responses() throws Exception {
+        MarsRover marsRover = new MarsRover("100 100", new ArrayList<>(Arrays.asList(new RoboticRover("50 50 N", "M"))));
+        int batches = 5000;
+        try (MissionServer missionServer = MissionServer.start(marsRover, 0, 1);
+             Socket socket = new Socket(InetAddress.getLoopbackAddress(), missionServer.getPort());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            Thread sender = new Thread(() -> {
+                try {
+                    PrintWriter writer = new PrintWriter(socket.getOutputStream(), false);
+                    for (int batch = 0; batch < batches; batch++) {
+                        writer.println(batch % 2 == 0 ? "0 RM" : "0 LLMR");
+                    }
+                    writer.flush();
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+            });
+            sender.start();
+            for (int batch = 0; batch < batches; batch++) {
+                String expected = batch % 2 == 0 ? "OK 0 51 50 E" : "OK 0 50 50 N";
+                assertEquals(expected, reader.readLine());
+            }
+            sender.join();
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void closing_should_stop_connection_readers_blocked_on_a_full_queue() throws Exception {
+        MarsRover marsRover = new MarsRover("100 100", new ArrayList<>(Arrays.asList(new RoboticRover("50 50 N", "M"))));
+        MissionServer missionServer = MissionServer.start(marsRover, 0, 1);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), missionServer.getPort())) {
+            Thread sender = new Thread(() -> {
+                try {
+                    PrintWriter writer = new PrintWriter(socket.getOutputStream(), false);
+                    do {
+                        for (int batch = 0; batch < 1000; batch++) {
+                            writer.println("0 LR");
+                        }
+                    } while (!writer.checkError());
+                } catch (Exception ignored) {
+                }
+            });
+            sender.setDaemon(true);
+            sender.start();
+            while (!isAnyConnectionReaderIn(Thread.State.WAITING)) {
+                Thread.sleep(10);
+            }
+            missionServer.close();
+        }
+        assertFalse(isAnyConnectionReaderIn(Thread.State.WAITING));
+        assertFalse(isAnyConnectionReaderIn(Thread.State.RUNNABLE));
+    }
+
+    private static boolean isAnyConnectionReaderIn(Thread.State state) {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(CONNECTION_THREAD_PREFIX) && thread.getState() == state)
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package mars.rover.test;
+
+import custom.exception.ObstacleEncounteredException;
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.plateau.ObstacleMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ObstacleMapTest {
+
+    private static final int GRID_SIZE = 50;
+    private static final String ROBOTIC_ROVER_ENCOUNTERS_AN_OBSTACLE_EXCEPTION = "Please note that the robotic rover cannot move onto an obstacle.";
+    private static final String ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION = "Please note that the robotic rover cannot leave the plateau grid.";
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void free_moves_should_match_a_cell_by_cell_scan() {
+        ObstacleMap obstacleMap = ObstacleMap.generate(GRID_SIZE, GRID_SIZE, 300, 17);
+        Random random = new Random(23);
+        for (int query = 0; query < 5_000; query++) {
+            long x = random.nextInt(GRID_SIZE);
+            long y = random.nextInt(GRID_SIZE);
+            CardinalCompassPointEnum cardinalCompassPoint = CardinalCompassPointEnum.values()[random.nextInt(4)];
+            int moves = random.nextInt(GRID_SIZE);
+            int expected = 0;
+            while (expected < moves && !obstacleMap.isObstacle(x + (long) cardinalCompassPoint.getDeltaX() * (expected + 1),
+                    y + (long) cardinalCompassPoint.getDeltaY() * (expected + 1))) {
+                expected++;
+            }
+            assertEquals(expected, obstacleMap.countFreeMoves(x, y, cardinalCompassPoint, moves));
+        }
+    }
+
+    @Test
+    public void obstacle_map_should_survive_a_file_round_trip() throws IOException {
+        ObstacleMap obstacleMap = ObstacleMap.of(new long[]{3, 1, 3}, new long[]{4, 2, 4});
+        Path obstacleFile = temporaryFolder.newFile().toPath();
+        obstacleMap.write(obstacleFile);
+        ObstacleMap read = ObstacleMap.read(obstacleFile);
+        assertEquals(2, read.size());
+        assertTrue(read.isObstacle(1, 2));
+        assertTrue(read.isObstacle(3, 4));
+        assertFalse(read.isObstacle(4, 3));
+    }
+
+    @Test
+    public void should_report_the_exact_command_that_hits_an_obstacle() throws ValidationException {
+        RoboticRover roboticRover = new RoboticRover("1 1 N", "MMRLMMM");
+        MarsRover marsRover = new MarsRover("5 5", new ArrayList<>(Arrays.asList(roboticRover)));
+        marsRover.setObstacleMap(ObstacleMap.of(new long[]{1}, new long[]{4}));
+        try {
+            marsRover.executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (ObstacleEncounteredException exception) {
+            assertEquals(ROBOTIC_ROVER_ENCOUNTERS_AN_OBSTACLE_EXCEPTION, exception.getMessage());
+            assertEquals(4, exception.getCommandIndex());
+            assertEquals(3, roboticRover.getCoordinate().getY());
+        }
+    }
+
+    @Test
+    public void should_throw_exception_if_robotic_rover_moves_below_zero() throws ValidationException {
+        expectedException.expect(PlateauGridExceededException.class);
+        expectedException.expectMessage(ROBOTIC_ROVER_EXCEEDS_PLATEAU_GRID_EXCEPTION);
+        List<RoboticRover> roboticRovers = new ArrayList<>();
+        roboticRovers.add(new RoboticRover("0 1 S", "MM"));
+        new MarsRover("5 5", roboticRovers).executeReceivedCommandsForEachRoboticRover();
+    }
+}
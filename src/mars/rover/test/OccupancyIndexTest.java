@@ -0,0 +1,93 @@
+package mars.rover.test;
+
+import custom.exception.RoboticRoverCollisionException;
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.plateau.DenseOccupancyIndex;
+import mars.rover.plateau.OccupancyIndex;
+import mars.rover.plateau.SparseOccupancyIndex;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class OccupancyIndexTest {
+
+    private static final String PLATEAU_GRID = "5 5";
+    private static final String ROBOTIC_ROVER_COLLISION_EXCEPTION = "Please note that the robotic rover cannot move onto a cell occupied by another robotic rover.";
+    private static final String ROBOTIC_ROVERS_SHARE_A_STARTING_CELL_EXCEPTION = "Please make sure no two robotic rovers start on the same cell.";
+
+    @org.junit.Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void dense_and_sparse_indexes_should_agree() {
+        OccupancyIndex dense = new DenseOccupancyIndex(63, 63);
+        SparseOccupancyIndex sparse = new SparseOccupancyIndex(4);
+        Random random = new Random(3);
+        for (int operation = 0; operation < 20_000; operation++) {
+            int x = random.nextInt(64);
+            int y = random.nextInt(64);
+            if (random.nextBoolean()) {
+                assertEquals(dense.occupy(x, y), sparse.occupy(x, y));
+            } else {
+                dense.vacate(x, y);
+                sparse.vacate(x, y);
+            }
+            int probeX = random.nextInt(64);
+            int probeY = random.nextInt(64);
+            assertEquals(dense.isOccupied(probeX, probeY), sparse.isOccupied(probeX, probeY));
+        }
+    }
+
+    @Test
+    public void should_fail_when_a_robotic_rover_moves_onto_an_occupied_cell() throws ValidationException {
+        expectedException.expect(RoboticRoverCollisionException.class);
+        expectedException.expectMessage(ROBOTIC_ROVER_COLLISION_EXCEPTION);
+        execute(CollisionPolicyEnum.FAIL);
+    }
+
+    @Test
+    public void should_skip_moves_onto_an_occupied_cell() throws ValidationException {
+        List<RoboticRover> roboticRovers = execute(CollisionPolicyEnum.SKIP_MOVE);
+        assertEquals(2, roboticRovers.get(1).getCoordinate().getX());
+        assertEquals(2, roboticRovers.get(1).getCoordinate().getY());
+    }
+
+    @Test
+    public void should_stop_the_robotic_rover_before_an_occupied_cell() throws ValidationException {
+        List<RoboticRover> roboticRovers = execute(CollisionPolicyEnum.STOP_ROBOTIC_ROVER);
+        assertEquals(1, roboticRovers.get(1).getCoordinate().getX());
+        assertEquals(2, roboticRovers.get(1).getCoordinate().getY());
+        assertEquals(CardinalCompassPointEnum.NORTH, roboticRovers.get(1).getCardinalCompassPoint());
+    }
+
+    @Test
+    public void should_throw_exception_if_two_robotic_rovers_start_on_the_same_cell() throws ValidationException {
+        expectedException.expect(ValidationException.class);
+        expectedException.expectMessage(ROBOTIC_ROVERS_SHARE_A_STARTING_CELL_EXCEPTION);
+        List<RoboticRover> roboticRovers = new ArrayList<>();
+        roboticRovers.add(new RoboticRover("1 1 N", "M"));
+        roboticRovers.add(new RoboticRover("1 1 E", "M"));
+        MarsRover marsRover = new MarsRover(PLATEAU_GRID, roboticRovers);
+        marsRover.setCollisionPolicy(CollisionPolicyEnum.FAIL);
+        marsRover.executeReceivedCommandsForEachRoboticRover();
+    }
+
+    private List<RoboticRover> execute(CollisionPolicyEnum collisionPolicy) throws ValidationException {
+        List<RoboticRover> roboticRovers = new ArrayList<>();
+        roboticRovers.add(new RoboticRover("0 3 E", "M"));
+        roboticRovers.add(new RoboticRover("1 1 N", "MMMRM"));
+        MarsRover marsRover = new MarsRover(PLATEAU_GRID, roboticRovers);
+        marsRover.setCollisionPolicy(collisionPolicy);
+        marsRover.executeReceivedCommandsForEachRoboticRover();
+        return roboticRovers;
+    }
+}
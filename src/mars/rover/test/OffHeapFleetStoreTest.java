@@ -0,0 +1,242 @@
+package mars.rover.test;
+
+import custom.exception.ObstacleEncounteredException;
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.MarsRover;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.OffHeapMissionExecutor;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.fleet.OffHeapFleetStore;
+import mars.rover.metrics.StripedMissionMetrics;
+import mars.rover.plateau.ObstacleMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static mars.rover.test.FleetFixtures.assertSameFleet;
+import static org.junit.Assert.*;
+
+public class OffHeapFleetStoreTest {
+
+    private static final int FLEET_SIZE = 2_001;
+    private static final int FAILING_ROBOTIC_ROVER_INDEX = 1_357;
+    private static final int SMALL_CHUNK_BYTES = 1 << 12;
+    private static final String PLATEAU_GRID = "500 500";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void off_heap_execution_should_match_on_heap_execution() throws ValidationException, IOException {
+        List<RoboticRover> onHeapFleet = generateFleet(new Random(31), false);
+        List<RoboticRover> offHeapFleet = generateFleet(new Random(31), false);
+        ObstacleMap obstacleMap = ObstacleMap.of(new long[]{0, 500}, new long[]{0, 500});
+
+        MarsRover onHeapMarsRover = new MarsRover(PLATEAU_GRID, onHeapFleet);
+        onHeapMarsRover.setObstacleMap(obstacleMap);
+        onHeapMarsRover.executeReceivedCommandsForEachRoboticRover();
+        MarsRover offHeapMarsRover = new MarsRover(PLATEAU_GRID, offHeapFleet);
+        offHeapMarsRover.setObstacleMap(obstacleMap);
+        try (OffHeapMissionExecutor offHeapMissionExecutor = new OffHeapMissionExecutor(4, 256)) {
+            offHeapMarsRover.executeReceivedCommandsForEachRoboticRover(offHeapMissionExecutor);
+            offHeapMarsRover.executeReceivedCommandsForEachRoboticRover(offHeapMissionExecutor);
+        }
+        onHeapMarsRover.executeReceivedCommandsForEachRoboticRover();
+
+        assertSameFleet(onHeapFleet, offHeapFleet);
+    }
+
+    @Test
+    public void off_heap_execution_should_fail_like_on_heap_execution() throws ValidationException, IOException {
+        List<RoboticRover> onHeapFleet = generateFleet(new Random(37), true);
+        List<RoboticRover> offHeapFleet = generateFleet(new Random(37), true);
+
+        PlateauGridExceededException onHeapFailure = null;
+        try {
+            new MarsRover(PLATEAU_GRID, onHeapFleet).executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            onHeapFailure = exception;
+        }
+        try (OffHeapMissionExecutor offHeapMissionExecutor = new OffHeapMissionExecutor(4, 512)) {
+            new MarsRover(PLATEAU_GRID, offHeapFleet).executeReceivedCommandsForEachRoboticRover(offHeapMissionExecutor);
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(onHeapFailure.getMessage(), exception.getMessage());
+            assertEquals(onHeapFailure.getCommandIndex(), exception.getCommandIndex());
+        }
+        assertSameFleet(onHeapFleet, offHeapFleet);
+    }
+
+    @Test
+    public void file_backed_store_should_page_records_and_commands_across_chunks() throws ValidationException, IOException {
+        List<RoboticRover> onHeapFleet = generateFleet(new Random(41), false);
+        FleetState fleetState = FleetState.of(onHeapFleet);
+        RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(500, 500);
+
+        try (OffHeapFleetStore offHeapFleetStore = OffHeapFleetStore.map(temporaryFolder.getRoot().toPath(), SMALL_CHUNK_BYTES)) {
+            for (RoboticRover roboticRover : onHeapFleet) {
+                offHeapFleetStore.add(roboticRover);
+            }
+            for (int index = 0; index < fleetState.size(); index++) {
+                commandExecutor.execute(fleetState, index);
+            }
+            new OffHeapMissionExecutor(1).execute(commandExecutor, offHeapFleetStore);
+            offHeapFleetStore.force();
+
+            assertTrue(offHeapFleetStore.isMapped());
+            assertEquals(FLEET_SIZE, offHeapFleetStore.size());
+            assertTrue(offHeapFleetStore.getCommandArenaBytes() > SMALL_CHUNK_BYTES);
+            for (int index = 0; index < fleetState.size(); index++) {
+                assertEquals(fleetState.getX(index), offHeapFleetStore.getX(index));
+                assertEquals(fleetState.getY(index), offHeapFleetStore.getY(index));
+                assertEquals(fleetState.getHeading(index), offHeapFleetStore.getHeading(index));
+            }
+        }
+        assertTrue(Files.size(temporaryFolder.getRoot().toPath().resolve("fleet.records")) >= (long) FLEET_SIZE * OffHeapFleetStore.RECORD_BYTES);
+    }
+
+    @Test
+    public void robotic_rover_views_should_round_trip_through_the_store() throws ValidationException, IOException {
+        RoboticRover roboticRover = new RoboticRover("3 4 W", "LL(RM)x3M");
+
+        try (OffHeapFleetStore offHeapFleetStore = OffHeapFleetStore.allocateDirect(SMALL_CHUNK_BYTES)) {
+            long index = offHeapFleetStore.add(roboticRover);
+            RoboticRover view = offHeapFleetStore.toRoboticRover(index);
+
+            assertEquals(3, view.getCoordinate().getX());
+            assertEquals(4, view.getCoordinate().getY());
+            assertEquals(roboticRover.getCardinalCompassPoint(), view.getCardinalCompassPoint());
+            assertEquals(roboticRover.getCommandProgram().length(), view.getCommandProgram().length());
+            for (int command = 0; command < view.getCommandProgram().length(); command++) {
+                assertEquals(roboticRover.getCommandProgram().commandAt(command), view.getCommandProgram().commandAt(command));
+            }
+
+            offHeapFleetStore.setPose(index, 7, 8, 0);
+            offHeapFleetStore.writeTo(index, roboticRover);
+            assertEquals(7, roboticRover.getCoordinate().getX());
+            assertEquals(8, roboticRover.getCoordinate().getY());
+        }
+    }
+
+    @Test
+    public void off_heap_execution_should_stop_at_obstacles() throws ValidationException, IOException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        fleet.add(new RoboticRover("1 1 N", "MMM"));
+        MarsRover marsRover = new MarsRover("5 5", fleet);
+        marsRover.setObstacleMap(ObstacleMap.of(new long[]{1}, new long[]{3}));
+
+        expectedException.expect(ObstacleEncounteredException.class);
+        marsRover.executeReceivedCommandsForEachRoboticRover(new OffHeapMissionExecutor(1));
+    }
+
+    @Test
+    public void off_heap_execution_should_reject_robotic_rovers_starting_on_obstacles() throws ValidationException, IOException {
+        MarsRover marsRover = new MarsRover("5 5", Arrays.asList(new RoboticRover("1 1 N", "M"), new RoboticRover("1 3 N", "M")));
+        marsRover.setObstacleMap(ObstacleMap.of(new long[]{1}, new long[]{3}));
+
+        expectedException.expect(ValidationException.class);
+        expectedException.expectMessage("Please make sure no robotic rover starts on an obstacle.");
+        marsRover.executeReceivedCommandsForEachRoboticRover(new OffHeapMissionExecutor(1));
+    }
+
+    @Test
+    public void collision_detection_should_be_rejected() throws ValidationException, IOException {
+        MarsRover marsRover = new MarsRover("5 5", Arrays.asList(new RoboticRover("1 1 E", "M")));
+        marsRover.setCollisionPolicy(CollisionPolicyEnum.SKIP_MOVE);
+
+        expectedException.expect(IllegalArgumentException.class);
+        marsRover.executeReceivedCommandsForEachRoboticRover(new OffHeapMissionExecutor(1));
+    }
+
+    @Test
+    public void per_robotic_rover_metrics_should_be_rejected() throws ValidationException, IOException {
+        MarsRover marsRover = new MarsRover("5 5", Arrays.asList(new RoboticRover("1 1 E", "M")));
+        marsRover.setMetrics(new StripedMissionMetrics());
+
+        expectedException.expect(IllegalArgumentException.class);
+        marsRover.executeReceivedCommandsForEachRoboticRover(new OffHeapMissionExecutor(1));
+    }
+
+    @Test
+    public void tapes_longer_than_a_chunk_should_span_chunks() throws ValidationException, IOException {
+        List<RoboticRover> onHeapFleet = new ArrayList<>();
+        onHeapFleet.add(new RoboticRover("10 10 N", "MR"));
+        onHeapFleet.add(new RoboticRover("250 250 E", "(MLMLMLML)x1000L(M)x100"));
+        onHeapFleet.add(new RoboticRover("0 0 N", "(M)x400"));
+        FleetState fleetState = FleetState.of(onHeapFleet);
+        RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(500, 500);
+
+        try (OffHeapFleetStore offHeapFleetStore = OffHeapFleetStore.allocateDirect(SMALL_CHUNK_BYTES);
+             OffHeapMissionExecutor offHeapMissionExecutor = new OffHeapMissionExecutor(1)) {
+            for (RoboticRover roboticRover : onHeapFleet) {
+                offHeapFleetStore.add(roboticRover);
+            }
+            for (int index = 0; index < fleetState.size(); index++) {
+                commandExecutor.execute(fleetState, index);
+            }
+            offHeapMissionExecutor.execute(commandExecutor, offHeapFleetStore);
+
+            CommandProgram spanningCommandProgram = offHeapFleetStore.getCommandProgram(1);
+            assertEquals(fleetState.getCommandProgram(1).length(), spanningCommandProgram.length());
+            for (int command = 0; command < spanningCommandProgram.length(); command++) {
+                assertEquals(fleetState.getCommandProgram(1).commandAt(command), spanningCommandProgram.commandAt(command));
+            }
+            for (int index = 0; index < fleetState.size(); index++) {
+                assertEquals(fleetState.getX(index), offHeapFleetStore.getX(index));
+                assertEquals(fleetState.getY(index), offHeapFleetStore.getY(index));
+                assertEquals(fleetState.getHeading(index), offHeapFleetStore.getHeading(index));
+            }
+        }
+    }
+
+    @Test
+    public void tapes_longer_than_the_default_direct_chunk_should_execute() throws ValidationException, IOException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        fleet.add(new RoboticRover("0 0 N", "(M)x20000000"));
+        new MarsRover("100 30000000", fleet).executeReceivedCommandsForEachRoboticRover(new OffHeapMissionExecutor(1));
+
+        assertEquals(20_000_000, fleet.get(0).getCoordinate().getY());
+    }
+
+    @Test
+    public void temporary_mapped_store_should_delete_its_files_on_close() throws ValidationException, IOException {
+        long temporaryFiles = countTemporaryFleetFiles();
+        try (OffHeapFleetStore offHeapFleetStore = OffHeapFleetStore.mapTemporary(SMALL_CHUNK_BYTES)) {
+            offHeapFleetStore.add(new RoboticRover("1 2 N", "LMLMLMLMM"));
+
+            assertTrue(offHeapFleetStore.isMapped());
+            assertEquals("LMLMLMLMM", offHeapFleetStore.getCommandProgram(0).toString());
+        }
+        assertEquals(temporaryFiles, countTemporaryFleetFiles());
+    }
+
+    private long countTemporaryFleetFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("mars-rover-")).count();
+        }
+    }
+
+    private List<RoboticRover> generateFleet(Random random, boolean withFailingRoboticRover) throws ValidationException {
+        List<RoboticRover> fleet = FleetFixtures.generateFleet(random, FLEET_SIZE, 400, 100, 300, 89);
+        return withFailingRoboticRover ? FleetFixtures.failRoboticRovers(fleet, FAILING_ROBOTIC_ROVER_INDEX, FAILING_ROBOTIC_ROVER_INDEX + 3) : fleet;
+    }
+}
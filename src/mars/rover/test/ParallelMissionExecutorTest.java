@@ -0,0 +1,93 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.ParallelMissionExecutor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static mars.rover.test.FleetFixtures.assertSameFleet;
+import static org.junit.Assert.*;
+
+public class ParallelMissionExecutorTest {
+
+    private static final int FLEET_SIZE = 5_000;
+    private static final int PARALLELISM = 4;
+    private static final int FAILING_ROBOTIC_ROVER_INDEX = 3_217;
+    private static final String PLATEAU_GRID = "100 100";
+    private static final String CARDINAL_COMPASS_POINTS = "NESW";
+    private static final String COMMAND_LETTERS = "LRM";
+
+    @Test
+    public void parallel_execution_should_match_sequential_execution() throws ValidationException {
+        List<RoboticRover> sequentialFleet = generateFleet(new Random(7), false);
+        List<RoboticRover> parallelFleet = generateFleet(new Random(7), false);
+
+        new MarsRover(PLATEAU_GRID, sequentialFleet).executeReceivedCommandsForEachRoboticRover();
+        new MarsRover(PLATEAU_GRID, parallelFleet).executeReceivedCommandsForEachRoboticRover(PARALLELISM);
+
+        assertSameFleet(sequentialFleet, parallelFleet);
+    }
+
+    @Test
+    public void parallel_execution_should_fail_like_sequential_execution() throws ValidationException {
+        List<RoboticRover> sequentialFleet = generateFleet(new Random(11), true);
+        List<RoboticRover> parallelFleet = generateFleet(new Random(11), true);
+
+        PlateauGridExceededException sequentialFailure = executeExpectingFailure(sequentialFleet, 1);
+        PlateauGridExceededException parallelFailure = executeExpectingFailure(parallelFleet, PARALLELISM);
+
+        assertEquals(sequentialFailure.getMessage(), parallelFailure.getMessage());
+        assertEquals(sequentialFailure.getCommandIndex(), parallelFailure.getCommandIndex());
+        assertSameFleet(sequentialFleet, parallelFleet);
+    }
+
+    @Test
+    public void parallel_executor_should_be_reusable_across_missions() throws ValidationException {
+        List<RoboticRover> sequentialFleet = generateFleet(new Random(13), false);
+        List<RoboticRover> firstFleet = generateFleet(new Random(13), false);
+        List<RoboticRover> secondFleet = generateFleet(new Random(13), false);
+
+        new MarsRover(PLATEAU_GRID, sequentialFleet).executeReceivedCommandsForEachRoboticRover();
+        try (ParallelMissionExecutor parallelMissionExecutor = new ParallelMissionExecutor(PARALLELISM)) {
+            new MarsRover(PLATEAU_GRID, firstFleet).executeReceivedCommandsForEachRoboticRover(parallelMissionExecutor);
+            new MarsRover(PLATEAU_GRID, secondFleet).executeReceivedCommandsForEachRoboticRover(parallelMissionExecutor);
+        }
+
+        assertSameFleet(sequentialFleet, firstFleet);
+        assertSameFleet(sequentialFleet, secondFleet);
+    }
+
+    private PlateauGridExceededException executeExpectingFailure(List<RoboticRover> fleet, int parallelism) throws ValidationException {
+        try {
+            new MarsRover(PLATEAU_GRID, fleet).executeReceivedCommandsForEachRoboticRover(parallelism);
+        } catch (PlateauGridExceededException exception) {
+            return exception;
+        }
+        fail();
+        return null;
+    }
+
+    private List<RoboticRover> generateFleet(Random random, boolean withFailingRoboticRover) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            StringBuilder command = new StringBuilder();
+            for (int step = 0; step < 40; step++) {
+                command.append(COMMAND_LETTERS.charAt(random.nextInt(COMMAND_LETTERS.length())));
+            }
+            String position = (40 + random.nextInt(20)) + " " + (40 + random.nextInt(20)) + " "
+                    + CARDINAL_COMPASS_POINTS.charAt(random.nextInt(CARDINAL_COMPASS_POINTS.length()));
+            if (withFailingRoboticRover && index == FAILING_ROBOTIC_ROVER_INDEX) {
+                position = "100 100 N";
+                command.insert(0, "MM");
+            }
+            fleet.add(new RoboticRover(position, command.toString()));
+        }
+        return fleet;
+    }
+}
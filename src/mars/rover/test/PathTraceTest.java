@@ -0,0 +1,98 @@
+package mars.rover.test;
+
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.trace.CoverageHeatmap;
+import mars.rover.trace.PathTraceReader;
+import mars.rover.trace.PathTraceWriter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class PathTraceTest {
+
+    @Test
+    public void coverage_heatmap_should_count_every_visited_cell() throws ValidationException {
+        MarsRover marsRover = new MarsRover("5 5", Arrays.asList(new RoboticRover("1 2 N", "LMLMLMLMM"), new RoboticRover("3 3 E", "MMRMMRMRRM")));
+        CoverageHeatmap coverageHeatmap = new CoverageHeatmap();
+        marsRover.setPathTracer(coverageHeatmap);
+        marsRover.executeReceivedCommandsForEachRoboticRover(4);
+
+        assertEquals(2, coverageHeatmap.getVisitCount(1, 2));
+        assertEquals(1, coverageHeatmap.getVisitCount(1, 3));
+        assertEquals(1, coverageHeatmap.getVisitCount(0, 2));
+        assertEquals(2, coverageHeatmap.getVisitCount(5, 1));
+        assertEquals(1, coverageHeatmap.getVisitCount(5, 3));
+        assertEquals(0, coverageHeatmap.getVisitCount(0, 0));
+        assertEquals(11, coverageHeatmap.getVisitedCellCount());
+        assertEquals(1, coverageHeatmap.getTileCount());
+    }
+
+    @Test
+    public void repeated_command_should_be_traced_step_by_step() throws ValidationException {
+        MarsRover marsRover = new MarsRover("9 9", Arrays.asList(new RoboticRover("4 4 N", "(MRMRMRMR)x1000"), new RoboticRover("0 0 E", "(MMM)x3")));
+        CoverageHeatmap coverageHeatmap = new CoverageHeatmap();
+        marsRover.setPathTracer(coverageHeatmap);
+        marsRover.executeReceivedCommandsForEachRoboticRover();
+
+        assertEquals(1001, coverageHeatmap.getVisitCount(4, 4));
+        assertEquals(1000, coverageHeatmap.getVisitCount(4, 5));
+        assertEquals(1000, coverageHeatmap.getVisitCount(5, 5));
+        assertEquals(1000, coverageHeatmap.getVisitCount(5, 4));
+        assertEquals(1, coverageHeatmap.getVisitCount(9, 0));
+        assertEquals(14, coverageHeatmap.getVisitedCellCount());
+    }
+
+    @Test
+    public void path_trace_should_merge_runs_and_replay_into_the_same_heatmap() throws ValidationException, IOException {
+        Path traceFile = Files.createTempFile("path", ".trace");
+        try {
+            MarsRover marsRover = new MarsRover("99999 99999", Arrays.asList(new RoboticRover("0 0 N", "(M)x50000RMMLLRR(MLR)x20000"), new RoboticRover("7 7 E", "MMRMMRMRRM")));
+            try (PathTraceWriter pathTraceWriter = new PathTraceWriter(traceFile)) {
+                marsRover.setPathTracer(pathTraceWriter);
+                marsRover.executeReceivedCommandsForEachRoboticRover();
+                assertEquals(6, pathTraceWriter.getSegmentCount());
+            }
+            CoverageHeatmap replayedHeatmap = new CoverageHeatmap();
+
+            assertEquals(6, PathTraceReader.replay(traceFile, replayedHeatmap));
+            assertTrue(Files.size(traceFile) < 64);
+            assertEquals(70003 + 6, replayedHeatmap.getVisitedCellCount());
+            assertEquals(1, replayedHeatmap.getVisitCount(20002, 50000));
+            assertEquals(1, replayedHeatmap.getVisitCount(0, 49999));
+            assertEquals(2, replayedHeatmap.getVisitCount(9, 5));
+            assertEquals(0, replayedHeatmap.getVisitCount(20003, 50000));
+        } finally {
+            Files.deleteIfExists(traceFile);
+        }
+    }
+
+    @Test
+    public void streaming_heatmap_should_spill_tiles_and_merge_them_on_read() throws ValidationException, IOException {
+        Path heatmapFile = Files.createTempFile("coverage", ".heatmap");
+        try {
+            MarsRover marsRover = new MarsRover("99 99", Arrays.asList(new RoboticRover("0 0 E", "(M)x99L(M)x99L(M)x99")));
+            try (CoverageHeatmap coverageHeatmap = CoverageHeatmap.streaming(heatmapFile, 2)) {
+                marsRover.setPathTracer(coverageHeatmap);
+                marsRover.executeReceivedCommandsForEachRoboticRover();
+                assertTrue(coverageHeatmap.getTileCount() <= 2);
+                assertTrue(coverageHeatmap.getSpilledTileCount() > 0);
+            }
+            CoverageHeatmap coverageHeatmap = CoverageHeatmap.read(heatmapFile);
+
+            assertEquals(298, coverageHeatmap.getVisitedCellCount());
+            assertEquals(1, coverageHeatmap.getVisitCount(0, 0));
+            assertEquals(1, coverageHeatmap.getVisitCount(99, 50));
+            assertEquals(1, coverageHeatmap.getVisitCount(0, 99));
+            assertEquals(0, coverageHeatmap.getVisitCount(50, 50));
+        } finally {
+            Files.deleteIfExists(heatmapFile);
+        }
+    }
+}
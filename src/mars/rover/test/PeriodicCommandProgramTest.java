@@ -0,0 +1,166 @@
+package mars.rover.test;
+
+import custom.exception.CommandExecutionException;
+import custom.exception.ValidationException;
+import mars.rover.CollisionPolicyEnum;
+import mars.rover.command.CommandProgram;
+import mars.rover.command.OptimizedCommandProgram;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.CommandExecutionOptions;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.plateau.ObstacleMap;
+import mars.rover.plateau.OccupancyIndex;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PeriodicCommandProgramTest {
+
+    private static final String INVALID_ROBOTIC_ROVER_COMMAND_EXCEPTION = "Please provide a valid robotic rover command.";
+    private static final String ROBOTIC_ROVER_COMMAND_EXCEEDS_THE_MAXIMUM_LENGTH_EXCEPTION = "Please make sure the robotic rover command does not expand to more than 2147483647 commands.";
+
+    @Test
+    public void repeat_form_should_compile_to_one_repeat_operation() {
+        CommandProgram commandProgram = CommandProgram.compile("M(LMMRM)x100000R");
+        assertEquals(1 + 5 * 100000 + 1, commandProgram.length());
+        assertEquals(CommandProgram.LEFT, commandProgram.commandAt(6));
+        assertEquals(CommandProgram.RIGHT, commandProgram.commandAt(commandProgram.length() - 1));
+        assertEquals("M(LMMRM)x100000R", commandProgram.toString());
+
+        OptimizedCommandProgram optimized = commandProgram.optimize();
+        assertEquals(3, optimized.size());
+        assertEquals(OptimizedCommandProgram.REPEAT, optimized.operationAt(1));
+        assertEquals(100000, optimized.operandAt(1));
+        assertEquals(1, optimized.firstCommandIndexAt(1));
+        assertEquals(0, optimized.periodAt(1).getQuarterTurns());
+    }
+
+    @Test
+    public void malformed_repeat_forms_should_be_rejected() {
+        for (String command : new String[]{"(LM)", "(LM)x", "(LM)x0", "()x3", "((M)x2)x2", "(LM)y3", "LM)x3", "(LQ)x3"}) {
+            assertEquals(command, CommandProgram.INVALID_COMMAND, CommandProgram.measure(command));
+            assertValidationMessage(command, INVALID_ROBOTIC_ROVER_COMMAND_EXCEPTION);
+        }
+        assertEquals(CommandProgram.COMMAND_TOO_LONG, CommandProgram.measure("(MM)x1073741824"));
+        assertValidationMessage("(MM)x1073741824", ROBOTIC_ROVER_COMMAND_EXCEEDS_THE_MAXIMUM_LENGTH_EXCEPTION);
+    }
+
+    @Test
+    public void long_sweep_should_execute_in_closed_form() throws ValidationException {
+        RoboticRover roboticRover = new RoboticRover("0 0 N", "(MMRMLM)x200000000");
+        new RoboticRoverCommandExecutor(1L << 40, 1L << 40).execute(roboticRover);
+        assertEquals(200000000L, roboticRover.getCoordinate().getX());
+        assertEquals(600000000L, roboticRover.getCoordinate().getY());
+    }
+
+    @Test
+    public void closed_form_execution_should_match_unrolled_execution() {
+        Random random = new Random(19);
+        for (int mission = 0; mission < 3000; mission++) {
+            String period = randomCommand(random, 1 + random.nextInt(8));
+            int repetitions = 1 + random.nextInt(40);
+            String prefix = randomCommand(random, random.nextInt(3));
+            String suffix = randomCommand(random, random.nextInt(3));
+            String command = prefix + "(" + period + ")x" + repetitions + suffix;
+            long maxX = random.nextInt(30);
+            long maxY = random.nextInt(30);
+            long x = random.nextInt((int) maxX + 1);
+            long y = random.nextInt((int) maxY + 1);
+            int heading = random.nextInt(4);
+            ObstacleMap obstacleMap = random.nextInt(3) == 0 ? ObstacleMap.generate(maxX, maxY, 5, random.nextLong()) : ObstacleMap.empty();
+            if (obstacleMap.isObstacle(x, y))
+                continue;
+
+            FleetState periodic = fleetOf(CommandProgram.compile(command), x, y, heading);
+            FleetState unrolled = fleetOf(CommandProgram.compile(expand(prefix, period, repetitions, suffix)), x, y, heading);
+            assertEquals(command, unrolled.getCommandProgram(0).length(), periodic.getCommandProgram(0).length());
+            RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(maxX, maxY, new CommandExecutionOptions().withObstacleMap(obstacleMap));
+            assertSameOutcome(command, commandExecutor, periodic, unrolled);
+        }
+    }
+
+    @Test
+    public void collision_aware_execution_should_fall_back_to_unrolled_repetitions() {
+        Random random = new Random(23);
+        for (int mission = 0; mission < 500; mission++) {
+            String period = randomCommand(random, 1 + random.nextInt(6));
+            int repetitions = 1 + random.nextInt(20);
+            String command = "(" + period + ")x" + repetitions;
+            CollisionPolicyEnum collisionPolicy = CollisionPolicyEnum.values()[random.nextInt(3)];
+
+            FleetState periodic = fleetOf(CommandProgram.compile(command), 10, 10, random.nextInt(4));
+            FleetState unrolled = fleetOf(CommandProgram.compile(expand("", period, repetitions, "")), 10, 10, periodic.getHeading(0));
+            OccupancyIndex periodicIndex = OccupancyIndex.create(20, 20, 2);
+            OccupancyIndex unrolledIndex = OccupancyIndex.create(20, 20, 2);
+            for (OccupancyIndex occupancyIndex : new OccupancyIndex[]{periodicIndex, unrolledIndex}) {
+                occupancyIndex.occupy(10, 10);
+                occupancyIndex.occupy(11, 11);
+            }
+            assertSameOutcome(command, new RoboticRoverCommandExecutor(20, 20, new CommandExecutionOptions().withCollisionDetection(periodicIndex, collisionPolicy)),
+                    periodic, new RoboticRoverCommandExecutor(20, 20, new CommandExecutionOptions().withCollisionDetection(unrolledIndex, collisionPolicy)), unrolled);
+        }
+    }
+
+    private void assertSameOutcome(String command, RoboticRoverCommandExecutor commandExecutor, FleetState periodic, FleetState unrolled) {
+        assertSameOutcome(command, commandExecutor, periodic, commandExecutor, unrolled);
+    }
+
+    private void assertSameOutcome(String command, RoboticRoverCommandExecutor periodicExecutor, FleetState periodic,
+                                   RoboticRoverCommandExecutor unrolledExecutor, FleetState unrolled) {
+        String periodicFailure = execute(periodicExecutor, periodic);
+        String unrolledFailure = execute(unrolledExecutor, unrolled);
+        assertEquals(command, unrolledFailure, periodicFailure);
+        assertEquals(command, unrolled.getX(0), periodic.getX(0));
+        assertEquals(command, unrolled.getY(0), periodic.getY(0));
+        assertEquals(command, unrolled.getHeading(0), periodic.getHeading(0));
+    }
+
+    private String execute(RoboticRoverCommandExecutor commandExecutor, FleetState fleetState) {
+        try {
+            commandExecutor.execute(fleetState, 0);
+            return null;
+        } catch (CommandExecutionException exception) {
+            return exception.getClass().getSimpleName() + "@" + exception.getCommandIndex();
+        } catch (ValidationException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    private FleetState fleetOf(CommandProgram commandProgram, long x, long y, int heading) {
+        FleetState fleetState = new FleetState(1);
+        fleetState.setPose(0, x, y, heading);
+        fleetState.setCommandProgram(0, commandProgram);
+        return fleetState;
+    }
+
+    private String expand(String prefix, String period, int repetitions, String suffix) {
+        StringBuilder builder = new StringBuilder(prefix);
+        for (int repetition = 0; repetition < repetitions; repetition++) {
+            builder.append(period);
+        }
+        builder.append(suffix);
+        return builder.toString();
+    }
+
+    private String randomCommand(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            int command = random.nextInt(10);
+            builder.append(command < 2 ? 'L' : command < 4 ? 'R' : 'M');
+        }
+        return builder.toString();
+    }
+
+    private void assertValidationMessage(String command, String message) {
+        try {
+            new RoboticRover("1 1 N", command);
+            fail(command);
+        } catch (ValidationException exception) {
+            assertEquals(command, message, exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.HeadingTable;
+import mars.rover.MarsRover;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.metrics.MissionPhaseEnum;
+import mars.rover.metrics.MissionRejectionEnum;
+import mars.rover.metrics.StripedMissionMetrics;
+import mars.rover.replay.ReplayCursor;
+import mars.rover.replay.ReplayLog;
+import mars.rover.replay.ReplayLoggingMissionExecutor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ReplayLogTest {
+
+    private static final int COMMANDS_PER_KEYFRAME = 1_024;
+    private static final int FLEET_SIZE = 300;
+    private static final int FAILING_ROBOTIC_ROVER_INDEX = 217;
+    private static final int LONG_MISSION_STEP = 9_000_000;
+    private static final String PLATEAU_GRID = "1000 1000";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void seeking_deep_into_a_long_mission_should_stream_less_than_one_keyframe_interval() throws ValidationException, IOException {
+        Path replayLogFile = temporaryFolder.newFile().toPath();
+        List<RoboticRover> fleet = new ArrayList<>();
+        fleet.add(new RoboticRover("4000000 100 N", "(LMRM)x2500000"));
+        MarsRover marsRover = new MarsRover("5000000 5000000", fleet);
+        marsRover.executeReceivedCommandsForEachRoboticRover(new ReplayLoggingMissionExecutor(replayLogFile, COMMANDS_PER_KEYFRAME));
+
+        try (ReplayLog replayLog = ReplayLog.open(replayLogFile)) {
+            ReplayCursor replayCursor = replayLog.seek(0, LONG_MISSION_STEP);
+
+            assertEquals(LONG_MISSION_STEP, replayCursor.getStep());
+            assertEquals(4000000 - LONG_MISSION_STEP / 4, replayCursor.getX());
+            assertEquals(100 + LONG_MISSION_STEP / 4, replayCursor.getY());
+            assertEquals(HeadingTable.NORTH, replayCursor.getHeading());
+            assertTrue(replayCursor.getStreamedCommands() < COMMANDS_PER_KEYFRAME);
+            assertTrue(replayLog.getKeyframeReads() <= 64 - Long.numberOfLeadingZeros(replayLog.getKeyframeCount()) + 1);
+            assertEquals(10_000_000, replayLog.getExecutedCommands(0));
+        }
+        assertTrue(Files.size(replayLogFile) < 10_000_000 / 4 + 10_000_000 / COMMANDS_PER_KEYFRAME * 32);
+    }
+
+    @Test
+    public void replayed_states_should_match_command_by_command_execution() throws ValidationException, IOException {
+        Path replayLogFile = temporaryFolder.newFile().toPath();
+        RoboticRoverCommandExecutor commandExecutor = new RoboticRoverCommandExecutor(1_000, 1_000);
+        new ReplayLoggingMissionExecutor(replayLogFile, COMMANDS_PER_KEYFRAME).execute(commandExecutor, generateFleet(new Random(43), false));
+        FleetState expected = generateFleet(new Random(43), false);
+
+        try (ReplayLog replayLog = ReplayLog.open(replayLogFile)) {
+            assertEquals(FLEET_SIZE, replayLog.size());
+            for (int index = 0; index < FLEET_SIZE; index += 37) {
+                CommandProgram commandProgram = expected.getCommandProgram(index);
+                byte[] commands = new byte[commandProgram.length()];
+                for (int command = 0; command < commands.length; command++) {
+                    commands[command] = commandProgram.commandAt(command);
+                }
+                ReplayCursor streamed = replayLog.seek(index, 0);
+                FleetState stepped = expected.copy();
+                for (int step = 0; step <= commands.length; step += 1 + step / 3) {
+                    while (streamed.getStep() < step) {
+                        streamed.next();
+                    }
+                    stepped.setCommandProgram(index, CommandProgram.of(Arrays.copyOf(commands, step)));
+                    stepped.copyPose(expected, index);
+                    commandExecutor.execute(stepped, index);
+                    ReplayCursor sought = replayLog.seek(index, step);
+                    assertPose(stepped, index, sought);
+                    assertPose(stepped, index, streamed);
+                }
+                assertNull(replayLog.getRejection(index));
+            }
+        }
+    }
+
+    @Test
+    public void failures_should_name_the_robotic_rover_step_and_pose_recorded_in_the_replay_log() throws ValidationException, IOException {
+        Path replayLogFile = temporaryFolder.newFile().toPath();
+        List<RoboticRover> fleet = generateRoboticRovers(new Random(47), true);
+        MarsRover marsRover = new MarsRover(PLATEAU_GRID, fleet);
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        marsRover.setMetrics(metrics);
+
+        try {
+            marsRover.executeReceivedCommandsForEachRoboticRover(new ReplayLoggingMissionExecutor(replayLogFile, COMMANDS_PER_KEYFRAME));
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(FAILING_ROBOTIC_ROVER_INDEX, exception.getRoboticRoverIndex());
+            assertEquals(MissionRejectionEnum.PLATEAU_GRID, metrics.getRoboticRoverRejection(FAILING_ROBOTIC_ROVER_INDEX));
+            assertEquals(1, metrics.getMissionsFailed());
+            assertEquals(1, metrics.getPhaseLatency(MissionPhaseEnum.EXECUTE).getCount());
+            assertTrue(exception.getDetailedMessage().contains("Robotic rover: " + FAILING_ROBOTIC_ROVER_INDEX));
+            try (ReplayLog replayLog = ReplayLog.open(replayLogFile)) {
+                assertEquals(FAILING_ROBOTIC_ROVER_INDEX + 1, replayLog.size());
+                assertEquals(MissionRejectionEnum.PLATEAU_GRID, replayLog.getRejection(FAILING_ROBOTIC_ROVER_INDEX));
+                assertEquals(exception.getCommandIndex(), replayLog.getExecutedCommands(FAILING_ROBOTIC_ROVER_INDEX));
+                ReplayCursor replayCursor = replayLog.seek(FAILING_ROBOTIC_ROVER_INDEX, exception.getCommandIndex());
+                assertEquals(exception.getX(), replayCursor.getX());
+                assertEquals(exception.getY(), replayCursor.getY());
+                assertEquals(exception.getHeading(), HeadingTable.letterOf(replayCursor.getHeading()));
+                assertFalse(replayCursor.hasNext());
+                assertEquals(6, exception.getCommandIndex());
+                assertEquals(0, replayCursor.getX());
+                assertEquals(4, replayCursor.getY());
+                assertEquals(HeadingTable.WEST, replayCursor.getHeading());
+            }
+        }
+    }
+
+    @Test
+    public void truncated_replay_logs_should_be_rejected() throws ValidationException, IOException {
+        Path replayLogFile = temporaryFolder.newFile().toPath();
+        new ReplayLoggingMissionExecutor(replayLogFile, COMMANDS_PER_KEYFRAME)
+                .execute(new RoboticRoverCommandExecutor(1_000, 1_000), generateFleet(new Random(53), false));
+        try (RandomAccessFile file = new RandomAccessFile(replayLogFile.toFile(), "rw")) {
+            file.setLength(file.length() - 1);
+        }
+
+        expectedException.expect(IOException.class);
+        ReplayLog.open(replayLogFile);
+    }
+
+    private void assertPose(FleetState expected, int index, ReplayCursor actual) {
+        assertEquals(expected.getX(index), actual.getX());
+        assertEquals(expected.getY(index), actual.getY());
+        assertEquals(expected.getHeading(index), actual.getHeading());
+    }
+
+    private FleetState generateFleet(Random random, boolean withFailingRoboticRover) throws ValidationException {
+        return FleetState.of(generateRoboticRovers(random, withFailingRoboticRover));
+    }
+
+    private List<RoboticRover> generateRoboticRovers(Random random, boolean withFailingRoboticRover) throws ValidationException {
+        List<RoboticRover> fleet = FleetFixtures.generateFleet(random, FLEET_SIZE, 3_000, 400, 200, FleetFixtures.NO_REPEATED_MOVES);
+        if (withFailingRoboticRover)
+            fleet.set(FAILING_ROBOTIC_ROVER_INDEX, new RoboticRover("0 3 N", "MRMLLMM"));
+        return fleet;
+    }
+}
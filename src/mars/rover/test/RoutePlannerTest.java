@@ -0,0 +1,116 @@
+package mars.rover.test;
+
+import custom.exception.ValidationException;
+import mars.rover.CardinalCompassPointEnum;
+import mars.rover.MarsRover;
+import mars.rover.entity.Coordinate;
+import mars.rover.entity.RoboticRover;
+import mars.rover.planning.BatchRoutePlanner;
+import mars.rover.planning.RoutePlanner;
+import mars.rover.planning.RouteRequest;
+import mars.rover.plateau.ObstacleMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RoutePlannerTest {
+
+    @Test
+    public void planner_should_emit_the_shortest_command_on_an_open_plateau() throws ValidationException {
+        RoutePlanner routePlanner = new RoutePlanner(5, 5, ObstacleMap.empty());
+
+        assertEquals("", routePlanner.plan(new Coordinate(1, 2), CardinalCompassPointEnum.NORTH, new Coordinate(1, 2), CardinalCompassPointEnum.NORTH));
+        assertEquals("M", routePlanner.plan(new Coordinate(1, 2), CardinalCompassPointEnum.NORTH, new Coordinate(1, 3), CardinalCompassPointEnum.NORTH));
+        assertEquals(2, routePlanner.plan(new Coordinate(0, 0), CardinalCompassPointEnum.NORTH, new Coordinate(0, 0), CardinalCompassPointEnum.SOUTH).length());
+        String command = routePlanner.plan(new Coordinate(0, 0), CardinalCompassPointEnum.NORTH, new Coordinate(3, 2), CardinalCompassPointEnum.EAST);
+        assertEquals(6, command.length());
+        assertFinalPosition("5 5", ObstacleMap.empty(), "0 0 N", command, "3 2 E");
+    }
+
+    @Test
+    public void planner_should_route_around_obstacles() throws ValidationException {
+        ObstacleMap obstacleMap = ObstacleMap.of(new long[]{2, 2, 2, 2, 2}, new long[]{0, 1, 2, 3, 4});
+        RoutePlanner routePlanner = new RoutePlanner(5, 5, obstacleMap);
+        String command = routePlanner.plan(new Coordinate(0, 0), CardinalCompassPointEnum.NORTH, new Coordinate(4, 0), CardinalCompassPointEnum.SOUTH);
+
+        assertEquals("MMMMMRMMMMRMMMMM", command);
+        assertFinalPosition("5 5", obstacleMap, "0 0 N", command, "4 0 S");
+    }
+
+    @Test
+    public void planner_should_reject_unreachable_goals() {
+        ObstacleMap obstacleMap = ObstacleMap.of(new long[]{3, 4, 5, 4}, new long[]{4, 5, 4, 3});
+        RoutePlanner routePlanner = new RoutePlanner(9, 9, obstacleMap);
+        try {
+            routePlanner.plan(new Coordinate(0, 0), CardinalCompassPointEnum.NORTH, new Coordinate(4, 4), CardinalCompassPointEnum.NORTH);
+            fail();
+        } catch (ValidationException exception) {
+            assertEquals("Please note that the goal cannot be reached from the robotic rover position.", exception.getMessage());
+        }
+        try {
+            routePlanner.plan(new Coordinate(0, 0), CardinalCompassPointEnum.NORTH, new Coordinate(3, 4), CardinalCompassPointEnum.NORTH);
+            fail();
+        } catch (ValidationException exception) {
+            assertEquals("Please make sure the goal is not an obstacle.", exception.getMessage());
+        }
+        try {
+            routePlanner.plan(new Coordinate(0, 0), CardinalCompassPointEnum.NORTH, new Coordinate(10, 4), CardinalCompassPointEnum.NORTH);
+            fail();
+        } catch (ValidationException exception) {
+            assertEquals("Please make sure the goal lies within the plateau grid.", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void batch_planner_should_match_single_route_plans() throws ValidationException {
+        ObstacleMap obstacleMap = ObstacleMap.generate(49, 49, 500, 7);
+        RoutePlanner routePlanner = new RoutePlanner(49, 49, obstacleMap);
+        Random random = new Random(11);
+        List<RouteRequest> routeRequests = new ArrayList<>();
+        for (int index = 0; index < 2000; index++) {
+            routeRequests.add(new RouteRequest(new Coordinate(random.nextInt(50), random.nextInt(50)), CardinalCompassPointEnum.get(random.nextInt(4)),
+                    new Coordinate(random.nextInt(50), random.nextInt(50)), CardinalCompassPointEnum.get(random.nextInt(4))));
+        }
+        String[] commands;
+        try (BatchRoutePlanner batchRoutePlanner = new BatchRoutePlanner(4, 16)) {
+            commands = batchRoutePlanner.plan(routePlanner, routeRequests);
+            assertArrayEquals(commands, batchRoutePlanner.plan(routePlanner, routeRequests));
+        }
+
+        int planned = 0;
+        for (int index = 0; index < routeRequests.size(); index++) {
+            String expected;
+            try {
+                expected = routePlanner.plan(routeRequests.get(index));
+            } catch (ValidationException exception) {
+                expected = null;
+            }
+            assertEquals(expected, commands[index]);
+            if (expected != null && !expected.isEmpty()) {
+                RouteRequest routeRequest = routeRequests.get(index);
+                assertFinalPosition("49 49", obstacleMap, positionOf(routeRequest.getStart(), routeRequest.getStartCardinalCompassPoint()), expected,
+                        positionOf(routeRequest.getGoal(), routeRequest.getGoalCardinalCompassPoint()));
+                planned++;
+            }
+        }
+        assertTrue(planned > 1000);
+    }
+
+    private static String positionOf(Coordinate coordinate, CardinalCompassPointEnum cardinalCompassPoint) {
+        return coordinate.getX() + " " + coordinate.getY() + " " + cardinalCompassPoint.getHeading();
+    }
+
+    private static void assertFinalPosition(String plateauGrid, ObstacleMap obstacleMap, String position, String command, String expectedPosition)
+            throws ValidationException {
+        RoboticRover roboticRover = new RoboticRover(position, command);
+        MarsRover marsRover = new MarsRover(plateauGrid, Arrays.asList(roboticRover));
+        marsRover.setObstacleMap(obstacleMap);
+        marsRover.executeReceivedCommandsForEachRoboticRover();
+        assertEquals(expectedPosition, positionOf(roboticRover.getCoordinate(), roboticRover.getCardinalCompassPoint()));
+    }
+}
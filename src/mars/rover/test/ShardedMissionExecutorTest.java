@@ -0,0 +1,109 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.RoboticRoverCommandExecutor;
+import mars.rover.execution.ShardedMissionExecutor;
+import mars.rover.fleet.FleetState;
+import mars.rover.metrics.StripedMissionMetrics;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static mars.rover.test.FleetFixtures.assertSameFleet;
+import static org.junit.Assert.*;
+
+public class ShardedMissionExecutorTest {
+
+    private static final int FLEET_SIZE = 5_000;
+    private static final int SHARDS = 8;
+    private static final int FAILING_ROBOTIC_ROVER_INDEX = 3_217;
+    private static final String PLATEAU_GRID = "1000 1000";
+    private static final String CARDINAL_COMPASS_POINTS = "NESW";
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void sharded_execution_should_match_single_instance_execution() throws ValidationException {
+        List<RoboticRover> singleInstanceFleet = generateFleet(new Random(7), false);
+        List<RoboticRover> shardedFleet = generateFleet(new Random(7), false);
+        ShardedMissionExecutor shardedMissionExecutor = new ShardedMissionExecutor(SHARDS);
+
+        new MarsRover(PLATEAU_GRID, singleInstanceFleet).executeReceivedCommandsForEachRoboticRover();
+        new MarsRover(PLATEAU_GRID, shardedFleet).executeReceivedCommandsForEachRoboticRover(shardedMissionExecutor);
+
+        assertSameFleet(singleInstanceFleet, shardedFleet);
+        assertTrue(shardedMissionExecutor.getHandoffCount() > 0);
+    }
+
+    @Test
+    public void sharded_execution_should_fail_like_single_instance_execution() throws ValidationException {
+        List<RoboticRover> singleInstanceFleet = generateFleet(new Random(11), true);
+        List<RoboticRover> shardedFleet = generateFleet(new Random(11), true);
+
+        PlateauGridExceededException singleInstanceFailure = null;
+        try {
+            new MarsRover(PLATEAU_GRID, singleInstanceFleet).executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            singleInstanceFailure = exception;
+        }
+        try {
+            new MarsRover(PLATEAU_GRID, shardedFleet).executeReceivedCommandsForEachRoboticRover(new ShardedMissionExecutor(SHARDS));
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(singleInstanceFailure.getMessage(), exception.getMessage());
+            assertEquals(singleInstanceFailure.getCommandIndex(), exception.getCommandIndex());
+        }
+        assertSameFleet(singleInstanceFleet, shardedFleet);
+    }
+
+    @Test
+    public void sharded_execution_should_record_metrics_of_every_robotic_rover() throws ValidationException {
+        List<RoboticRover> shardedFleet = generateFleet(new Random(17), false);
+        ShardedMissionExecutor shardedMissionExecutor = new ShardedMissionExecutor(SHARDS);
+        StripedMissionMetrics metrics = new StripedMissionMetrics();
+        MarsRover marsRover = new MarsRover(PLATEAU_GRID, shardedFleet);
+        marsRover.setMetrics(metrics);
+
+        marsRover.executeReceivedCommandsForEachRoboticRover(shardedMissionExecutor);
+
+        assertEquals(FLEET_SIZE, metrics.getRoboticRoversExecuted());
+        assertEquals(shardedFleet.get(FLEET_SIZE - 1).getCommandProgram().length(), metrics.getRoboticRoverCommands(FLEET_SIZE - 1));
+        assertEquals(1, metrics.getMissionsCompleted());
+    }
+
+    @Test(timeout = 10_000)
+    public void unexpected_failures_should_reach_the_caller_instead_of_hanging() throws ValidationException {
+        FleetState fleetState = FleetState.of(generateFleet(new Random(13), false));
+        fleetState.setCommandProgram(FAILING_ROBOTIC_ROVER_INDEX, null);
+
+        expectedException.expect(NullPointerException.class);
+        new ShardedMissionExecutor(SHARDS).execute(new RoboticRoverCommandExecutor(1000, 1000), fleetState);
+    }
+
+    private List<RoboticRover> generateFleet(Random random, boolean withFailingRoboticRover) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            StringBuilder command = new StringBuilder();
+            for (int leg = 0; leg < 5; leg++) {
+                command.append(random.nextBoolean() ? 'L' : 'R').append("(M)x").append(1 + random.nextInt(60)).append(random.nextBoolean() ? "M" : "RL");
+            }
+            String position = (300 + random.nextInt(400)) + " " + (300 + random.nextInt(400)) + " "
+                    + CARDINAL_COMPASS_POINTS.charAt(random.nextInt(CARDINAL_COMPASS_POINTS.length()));
+            if (withFailingRoboticRover && index == FAILING_ROBOTIC_ROVER_INDEX) {
+                position = "1000 1000 N";
+                command.insert(0, "MM");
+            }
+            fleet.add(new RoboticRover(position, command.toString()));
+        }
+        return fleet;
+    }
+}
@@ -0,0 +1,111 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.HeadingTable;
+import mars.rover.MarsRover;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.TapeSummary;
+import mars.rover.execution.TapeSummaryCache;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static mars.rover.test.FleetFixtures.assertSameFleet;
+import static org.junit.Assert.*;
+
+public class TapeSummaryCacheTest {
+
+    private static final int FLEET_SIZE = 2_000;
+    private static final String PLATEAU_GRID = "1000 1000";
+    private static final String CARDINAL_COMPASS_POINTS = "NESW";
+    private static final String[] MISSION_TEMPLATES = {"LMLMLMLMM", "MMRMMRMRRM", "(MMR)x7LM", "R(M)x25L(ML)x6"};
+
+    @Test
+    public void cached_fleet_should_match_uncached_fleet() throws ValidationException {
+        List<RoboticRover> uncachedFleet = generateFleet(new Random(17));
+        List<RoboticRover> cachedFleet = generateFleet(new Random(17));
+        TapeSummaryCache tapeSummaryCache = new TapeSummaryCache(64);
+
+        new MarsRover(PLATEAU_GRID, uncachedFleet).executeReceivedCommandsForEachRoboticRover();
+        MarsRover marsRover = new MarsRover(PLATEAU_GRID, cachedFleet);
+        marsRover.setTapeSummaryCache(tapeSummaryCache);
+        marsRover.executeReceivedCommandsForEachRoboticRover();
+
+        assertSameFleet(uncachedFleet, cachedFleet);
+        assertEquals(FLEET_SIZE, tapeSummaryCache.getHits() + tapeSummaryCache.getMisses());
+        assertTrue(tapeSummaryCache.getMisses() <= MISSION_TEMPLATES.length * CARDINAL_COMPASS_POINTS.length());
+        assertTrue(tapeSummaryCache.getHitRate() > 0.99);
+    }
+
+    @Test
+    public void cached_tape_leaving_the_plateau_grid_should_still_fail_at_the_same_command() throws ValidationException {
+        TapeSummaryCache tapeSummaryCache = new TapeSummaryCache(8);
+        List<RoboticRover> fleet = new ArrayList<>();
+        fleet.add(new RoboticRover("10 10 N", "(M)x20"));
+        fleet.add(new RoboticRover("10 990 N", "(M)x20"));
+        MarsRover marsRover = new MarsRover(PLATEAU_GRID, fleet);
+        marsRover.setTapeSummaryCache(tapeSummaryCache);
+        try {
+            marsRover.executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(10, exception.getCommandIndex());
+        }
+        assertEquals(10, fleet.get(0).getCoordinate().getX());
+        assertEquals(30, fleet.get(0).getCoordinate().getY());
+        assertEquals(1, tapeSummaryCache.getHits());
+    }
+
+    @Test
+    public void summary_of_a_repeated_tape_should_match_its_expansion() {
+        String repeated = "R(MML)x1001M(MRMM)x33";
+        StringBuilder expanded = new StringBuilder("R");
+        for (int repetition = 0; repetition < 1001; repetition++) {
+            expanded.append("MML");
+        }
+        expanded.append('M');
+        for (int repetition = 0; repetition < 33; repetition++) {
+            expanded.append("MRMM");
+        }
+        for (int heading = 0; heading < CARDINAL_COMPASS_POINTS.length(); heading++) {
+            TapeSummary expected = TapeSummary.summarize(CommandProgram.compile(expanded), heading);
+            TapeSummary actual = TapeSummary.summarize(CommandProgram.compile(repeated), heading);
+            assertEquals(expected.getDeltaX(), actual.getDeltaX());
+            assertEquals(expected.getDeltaY(), actual.getDeltaY());
+            assertEquals(expected.getFinalHeading(), actual.getFinalHeading());
+            assertEquals(expected.getMinimumX(), actual.getMinimumX());
+            assertEquals(expected.getMaximumX(), actual.getMaximumX());
+            assertEquals(expected.getMinimumY(), actual.getMinimumY());
+            assertEquals(expected.getMaximumY(), actual.getMaximumY());
+        }
+    }
+
+    @Test
+    public void cache_should_evict_least_recently_used_summaries_beyond_its_maximum_entries() {
+        TapeSummaryCache tapeSummaryCache = new TapeSummaryCache(4, 1);
+        for (int moves = 1; moves <= 6; moves++) {
+            tapeSummaryCache.summarize(CommandProgram.compile("(M)x" + moves), HeadingTable.NORTH);
+        }
+        tapeSummaryCache.summarize(CommandProgram.compile("(M)x6"), HeadingTable.NORTH);
+        tapeSummaryCache.summarize(CommandProgram.compile("(M)x1"), HeadingTable.NORTH);
+
+        assertEquals(4, tapeSummaryCache.size());
+        assertEquals(3, tapeSummaryCache.getEvictions());
+        assertEquals(1, tapeSummaryCache.getHits());
+        assertEquals(7, tapeSummaryCache.getMisses());
+    }
+
+    private List<RoboticRover> generateFleet(Random random) throws ValidationException {
+        List<RoboticRover> fleet = new ArrayList<>();
+        for (int index = 0; index < FLEET_SIZE; index++) {
+            String position = (100 + random.nextInt(800)) + " " + (100 + random.nextInt(800)) + " "
+                    + CARDINAL_COMPASS_POINTS.charAt(random.nextInt(CARDINAL_COMPASS_POINTS.length()));
+            fleet.add(new RoboticRover(position, MISSION_TEMPLATES[random.nextInt(MISSION_TEMPLATES.length)]));
+        }
+        return fleet;
+    }
+}
@@ -0,0 +1,82 @@
+package mars.rover.test;
+
+import custom.exception.PlateauGridExceededException;
+import custom.exception.ValidationException;
+import mars.rover.MarsRover;
+import mars.rover.entity.RoboticRover;
+import mars.rover.execution.VectorizedMissionExecutor;
+import mars.rover.plateau.ObstacleMap;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static mars.rover.test.FleetFixtures.assertSameFleet;
+import static org.junit.Assert.*;
+
+public class VectorizedMissionExecutorTest {
+
+    private static final int FLEET_SIZE = 3_001;
+    private static final int FAILING_ROBOTIC_ROVER_INDEX = 1_234;
+    private static final String PLATEAU_GRID = "500 500";
+
+    @Test
+    public void vectorized_execution_should_match_scalar_execution() throws ValidationException {
+        List<RoboticRover> scalarFleet = generateFleet(new Random(19), false);
+        List<RoboticRover> vectorizedFleet = generateFleet(new Random(19), false);
+        VectorizedMissionExecutor vectorizedMissionExecutor = new VectorizedMissionExecutor();
+
+        new MarsRover(PLATEAU_GRID, scalarFleet).executeReceivedCommandsForEachRoboticRover();
+        new MarsRover(PLATEAU_GRID, vectorizedFleet).executeReceivedCommandsForEachRoboticRover(vectorizedMissionExecutor);
+
+        assertSameFleet(scalarFleet, vectorizedFleet);
+        assertEquals(FLEET_SIZE, vectorizedMissionExecutor.getVectorizedRoboticRovers() + vectorizedMissionExecutor.getScalarRoboticRovers());
+        if (VectorizedMissionExecutor.isVectorApiAvailable())
+            assertTrue(vectorizedMissionExecutor.getVectorizedRoboticRovers() > vectorizedMissionExecutor.getScalarRoboticRovers());
+    }
+
+    @Test
+    public void vectorized_execution_should_fail_like_scalar_execution() throws ValidationException {
+        List<RoboticRover> scalarFleet = generateFleet(new Random(23), true);
+        List<RoboticRover> vectorizedFleet = generateFleet(new Random(23), true);
+
+        PlateauGridExceededException scalarFailure = null;
+        try {
+            new MarsRover(PLATEAU_GRID, scalarFleet).executeReceivedCommandsForEachRoboticRover();
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            scalarFailure = exception;
+        }
+        try {
+            new MarsRover(PLATEAU_GRID, vectorizedFleet).executeReceivedCommandsForEachRoboticRover(new VectorizedMissionExecutor());
+            fail();
+        } catch (PlateauGridExceededException exception) {
+            assertEquals(scalarFailure.getMessage(), exception.getMessage());
+            assertEquals(scalarFailure.getCommandIndex(), exception.getCommandIndex());
+        }
+        assertSameFleet(scalarFleet, vectorizedFleet);
+    }
+
+    @Test
+    public void missions_with_obstacles_should_fall_back_to_scalar_execution() throws ValidationException {
+        List<RoboticRover> scalarFleet = generateFleet(new Random(29), false);
+        List<RoboticRover> vectorizedFleet = generateFleet(new Random(29), false);
+        ObstacleMap obstacleMap = ObstacleMap.of(new long[]{0, 500}, new long[]{0, 500});
+        VectorizedMissionExecutor vectorizedMissionExecutor = new VectorizedMissionExecutor();
+
+        MarsRover scalarMarsRover = new MarsRover(PLATEAU_GRID, scalarFleet);
+        scalarMarsRover.setObstacleMap(obstacleMap);
+        scalarMarsRover.executeReceivedCommandsForEachRoboticRover();
+        MarsRover vectorizedMarsRover = new MarsRover(PLATEAU_GRID, vectorizedFleet);
+        vectorizedMarsRover.setObstacleMap(obstacleMap);
+        vectorizedMarsRover.executeReceivedCommandsForEachRoboticRover(vectorizedMissionExecutor);
+
+        assertSameFleet(scalarFleet, vectorizedFleet);
+        assertEquals(0, vectorizedMissionExecutor.getVectorizedRoboticRovers());
+    }
+
+    private List<RoboticRover> generateFleet(Random random, boolean withFailingRoboticRover) throws ValidationException {
+        List<RoboticRover> fleet = FleetFixtures.generateFleet(random, FLEET_SIZE, 600, 100, 300, 97);
+        return withFailingRoboticRover ? FleetFixtures.failRoboticRovers(fleet, FAILING_ROBOTIC_ROVER_INDEX, FAILING_ROBOTIC_ROVER_INDEX + 5) : fleet;
+    }
+}
@@ -0,0 +1,228 @@
+package mars.rover.trace;
+
+import mars.rover.HeadingTable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+public class CoverageHeatmap implements PathTracer, Closeable {
+
+    private final int maximumTiles;
+    private final TraceOutput spillOutput;
+    private long[] tileXs;
+    private long[] tileYs;
+    private int[][] tileCounts;
+    private int mask;
+    private int shift;
+    private int tiles;
+    private long visitedCells;
+    private long spilledTiles;
+
+    private static final int TILE_SIZE_BITS = 4;
+    private static final int TILE_SIZE = 1 << TILE_SIZE_BITS;
+    private static final int TILE_SIZE_MASK = TILE_SIZE - 1;
+    private static final int TILE_CELLS = TILE_SIZE * TILE_SIZE;
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long SECOND_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+    private static final String UNKNOWN_HEATMAP_RECORD_EXCEPTION = "Please note that the heatmap file contains an unknown record.";
+
+    public CoverageHeatmap() {
+        this(null, Integer.MAX_VALUE);
+    }
+
+    private CoverageHeatmap(TraceOutput spillOutput, int maximumTiles) {
+        if (maximumTiles < 1)
+            throw new IllegalArgumentException("Maximum tiles must be at least 1 but was " + maximumTiles);
+        this.spillOutput = spillOutput;
+        this.maximumTiles = maximumTiles;
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    public static CoverageHeatmap streaming(Path heatmapFile, int maximumTiles) throws IOException {
+        return new CoverageHeatmap(new TraceOutput(heatmapFile, TraceFormat.COVERAGE_HEATMAP_MAGIC), maximumTiles);
+    }
+
+    public static CoverageHeatmap read(Path heatmapFile) throws IOException {
+        CoverageHeatmap coverageHeatmap = new CoverageHeatmap();
+        try (TraceInput input = new TraceInput(heatmapFile, TraceFormat.COVERAGE_HEATMAP_MAGIC)) {
+            for (int tag = input.readTag(); tag != TraceInput.END_OF_TRACE; tag = input.readTag()) {
+                if (tag != TraceFormat.TILE)
+                    throw new IOException(UNKNOWN_HEATMAP_RECORD_EXCEPTION);
+                int[] counts = coverageHeatmap.tileAt(input.readSignedVarLong(), input.readSignedVarLong());
+                for (int cell = 0; cell < TILE_CELLS; cell++) {
+                    coverageHeatmap.add(counts, cell, input.readVarLong());
+                }
+            }
+        }
+        return coverageHeatmap;
+    }
+
+    @Override
+    public void roboticRoverStarted(int roboticRoverIndex, long x, long y, int heading) {
+        visit(tileAt(x >> TILE_SIZE_BITS, y >> TILE_SIZE_BITS), cellOf(x, y), 1, 0);
+    }
+
+    @Override
+    public void roboticRoverMoved(int roboticRoverIndex, long fromX, long fromY, int heading, int moves) {
+        int deltaX = HeadingTable.deltaX(heading);
+        int deltaY = HeadingTable.deltaY(heading);
+        int cellStep = deltaY * TILE_SIZE + deltaX;
+        long x = fromX + deltaX;
+        long y = fromY + deltaY;
+        while (moves > 0) {
+            int span = Math.min(moves, cellsToTileEdge(x, y, heading));
+            visit(tileAt(x >> TILE_SIZE_BITS, y >> TILE_SIZE_BITS), cellOf(x, y), span, cellStep);
+            x += (long) deltaX * span;
+            y += (long) deltaY * span;
+            moves -= span;
+        }
+    }
+
+    @Override
+    public void roboticRoverFinished(int roboticRoverIndex, long x, long y, int heading) {
+    }
+
+    public int getVisitCount(long x, long y) {
+        int slot = find(x >> TILE_SIZE_BITS, y >> TILE_SIZE_BITS);
+        return tileCounts[slot] == null ? 0 : tileCounts[slot][cellOf(x, y)];
+    }
+
+    public long getVisitedCellCount() {
+        return visitedCells;
+    }
+
+    public int getTileCount() {
+        return tiles;
+    }
+
+    public long getSpilledTileCount() {
+        return spilledTiles;
+    }
+
+    public void writeTo(Path heatmapFile) throws IOException {
+        try (TraceOutput output = new TraceOutput(heatmapFile, TraceFormat.COVERAGE_HEATMAP_MAGIC)) {
+            writeTiles(output);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (spillOutput == null)
+            return;
+        try {
+            spill();
+        } finally {
+            spillOutput.close();
+        }
+    }
+
+    private void visit(int[] counts, int cell, int cells, int cellStep) {
+        for (int visit = 0; visit < cells; visit++, cell += cellStep) {
+            add(counts, cell, 1);
+        }
+    }
+
+    private void add(int[] counts, int cell, long visits) {
+        if (visits == 0)
+            return;
+        if (counts[cell] == 0)
+            visitedCells++;
+        counts[cell] = (int) Math.min(Integer.MAX_VALUE, counts[cell] + visits);
+    }
+
+    private int[] tileAt(long tileX, long tileY) {
+        int slot = find(tileX, tileY);
+        if (tileCounts[slot] != null)
+            return tileCounts[slot];
+        if (tiles == maximumTiles) {
+            spill();
+            slot = find(tileX, tileY);
+        }
+        tileXs[slot] = tileX;
+        tileYs[slot] = tileY;
+        tileCounts[slot] = new int[TILE_CELLS];
+        int[] counts = tileCounts[slot];
+        if (++tiles * 2 > tileCounts.length)
+            rehash(tileCounts.length * 2);
+        return counts;
+    }
+
+    private void spill() {
+        if (spillOutput == null)
+            return;
+        try {
+            writeTiles(spillOutput);
+            spillOutput.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        spilledTiles += tiles;
+        tiles = 0;
+        visitedCells = 0;
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    private void writeTiles(TraceOutput output) throws IOException {
+        for (int slot = 0; slot < tileCounts.length; slot++) {
+            int[] counts = tileCounts[slot];
+            if (counts == null)
+                continue;
+            output.writeByte(TraceFormat.TILE).writeSignedVarLong(tileXs[slot]).writeSignedVarLong(tileYs[slot]);
+            for (int cell = 0; cell < TILE_CELLS; cell++) {
+                output.writeVarLong(counts[cell]);
+            }
+        }
+    }
+
+    private int find(long tileX, long tileY) {
+        int slot = slot(tileX, tileY);
+        while (tileCounts[slot] != null && (tileXs[slot] != tileX || tileYs[slot] != tileY)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldTileXs = tileXs;
+        long[] oldTileYs = tileYs;
+        int[][] oldTileCounts = tileCounts;
+        allocate(capacity);
+        for (int index = 0; index < oldTileCounts.length; index++) {
+            if (oldTileCounts[index] == null)
+                continue;
+            int slot = find(oldTileXs[index], oldTileYs[index]);
+            tileXs[slot] = oldTileXs[index];
+            tileYs[slot] = oldTileYs[index];
+            tileCounts[slot] = oldTileCounts[index];
+        }
+    }
+
+    private void allocate(int capacity) {
+        tileXs = new long[capacity];
+        tileYs = new long[capacity];
+        tileCounts = new int[capacity][];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    private int slot(long tileX, long tileY) {
+        return (int) ((tileX * GOLDEN_RATIO + tileY * SECOND_MULTIPLIER) * GOLDEN_RATIO >>> shift) & mask;
+    }
+
+    private static int cellOf(long x, long y) {
+        return (((int) y & TILE_SIZE_MASK) << TILE_SIZE_BITS) | ((int) x & TILE_SIZE_MASK);
+    }
+
+    private static int cellsToTileEdge(long x, long y, int heading) {
+        if (heading == HeadingTable.EAST)
+            return TILE_SIZE - ((int) x & TILE_SIZE_MASK);
+        if (heading == HeadingTable.WEST)
+            return ((int) x & TILE_SIZE_MASK) + 1;
+        if (heading == HeadingTable.NORTH)
+            return TILE_SIZE - ((int) y & TILE_SIZE_MASK);
+        return ((int) y & TILE_SIZE_MASK) + 1;
+    }
+}
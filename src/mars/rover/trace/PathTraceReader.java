@@ -0,0 +1,44 @@
+package mars.rover.trace;
+
+import mars.rover.HeadingTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public final class PathTraceReader {
+
+    private static final String UNKNOWN_TRACE_RECORD_EXCEPTION = "Please note that the trace file contains an unknown record.";
+
+    private PathTraceReader() {
+    }
+
+    public static long replay(Path traceFile, PathTracer pathTracer) throws IOException {
+        long segments = 0;
+        try (TraceInput input = new TraceInput(traceFile, TraceFormat.PATH_TRACE_MAGIC)) {
+            int roboticRoverIndex = 0;
+            long x = 0;
+            long y = 0;
+            for (int tag = input.readTag(); tag != TraceInput.END_OF_TRACE; tag = input.readTag()) {
+                if (tag == TraceFormat.STARTED) {
+                    roboticRoverIndex = (int) input.readVarLong();
+                    x = input.readSignedVarLong();
+                    y = input.readSignedVarLong();
+                    pathTracer.roboticRoverStarted(roboticRoverIndex, x, y, input.readByte());
+                } else if (tag == TraceFormat.MOVED) {
+                    long run = input.readVarLong();
+                    int heading = TraceFormat.headingOf(run);
+                    int moves = TraceFormat.movesOf(run);
+                    pathTracer.roboticRoverMoved(roboticRoverIndex, x, y, heading, moves);
+                    x += (long) HeadingTable.deltaX(heading) * moves;
+                    y += (long) HeadingTable.deltaY(heading) * moves;
+                    segments++;
+                } else if (tag == TraceFormat.FINISHED) {
+                    pathTracer.roboticRoverFinished(roboticRoverIndex, x, y, input.readByte());
+                } else {
+                    throw new IOException(UNKNOWN_TRACE_RECORD_EXCEPTION);
+                }
+            }
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,70 @@
+package mars.rover.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+public class PathTraceWriter implements PathTracer, Closeable {
+
+    private final TraceOutput output;
+    private int pendingHeading;
+    private int pendingMoves;
+    private long segments;
+
+    public PathTraceWriter(Path traceFile) throws IOException {
+        this.output = new TraceOutput(traceFile, TraceFormat.PATH_TRACE_MAGIC);
+    }
+
+    @Override
+    public void roboticRoverStarted(int roboticRoverIndex, long x, long y, int heading) {
+        try {
+            output.writeByte(TraceFormat.STARTED).writeVarLong(roboticRoverIndex).writeSignedVarLong(x).writeSignedVarLong(y).writeByte(heading);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        pendingMoves = 0;
+    }
+
+    @Override
+    public void roboticRoverMoved(int roboticRoverIndex, long fromX, long fromY, int heading, int moves) {
+        if (pendingMoves > 0 && (heading != pendingHeading || pendingMoves > Integer.MAX_VALUE - moves))
+            writePendingSegment();
+        pendingHeading = heading;
+        pendingMoves += moves;
+    }
+
+    @Override
+    public void roboticRoverFinished(int roboticRoverIndex, long x, long y, int heading) {
+        if (pendingMoves > 0)
+            writePendingSegment();
+        try {
+            output.writeByte(TraceFormat.FINISHED).writeByte(heading);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writePendingSegment() {
+        try {
+            output.writeByte(TraceFormat.MOVED).writeVarLong(TraceFormat.encodeRun(pendingHeading, pendingMoves));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        pendingMoves = 0;
+        segments++;
+    }
+
+    public long getSegmentCount() {
+        return segments;
+    }
+
+    public void flush() throws IOException {
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
@@ -0,0 +1,10 @@
+package mars.rover.trace;
+
+public interface PathTracer {
+
+    void roboticRoverStarted(int roboticRoverIndex, long x, long y, int heading);
+
+    void roboticRoverMoved(int roboticRoverIndex, long fromX, long fromY, int heading, int moves);
+
+    void roboticRoverFinished(int roboticRoverIndex, long x, long y, int heading);
+}
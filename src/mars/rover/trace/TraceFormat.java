@@ -0,0 +1,42 @@
+package mars.rover.trace;
+
+final class TraceFormat {
+
+    static final int PATH_TRACE_MAGIC = 0x4D525054;
+    static final int COVERAGE_HEATMAP_MAGIC = 0x4D52484D;
+    static final byte VERSION = 1;
+
+    static final byte STARTED = 1;
+    static final byte MOVED = 2;
+    static final byte FINISHED = 3;
+    static final byte TILE = 4;
+
+    static final int MAXIMUM_RECORD_BYTES = 32;
+    static final int BUFFER_BYTES = 1 << 16;
+
+    private static final int HEADING_BITS = 2;
+    private static final int HEADING_MASK = (1 << HEADING_BITS) - 1;
+
+    private TraceFormat() {
+    }
+
+    static long encodeRun(int heading, int moves) {
+        return ((long) moves << HEADING_BITS) | heading;
+    }
+
+    static int headingOf(long run) {
+        return (int) (run & HEADING_MASK);
+    }
+
+    static int movesOf(long run) {
+        return (int) (run >>> HEADING_BITS);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,75 @@
+package mars.rover.trace;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class TraceInput implements Closeable {
+
+    static final int END_OF_TRACE = -1;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TraceFormat.BUFFER_BYTES);
+    private boolean endOfFile;
+
+    private static final String NOT_A_TRACE_FILE_EXCEPTION = "Please provide a trace file written by this version of the mission.";
+    private static final String TRUNCATED_TRACE_FILE_EXCEPTION = "Please note that the trace file ends in the middle of a record.";
+
+    TraceInput(Path file, int magic) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        buffer.limit(0);
+        fill();
+        if (buffer.remaining() < Integer.BYTES + Byte.BYTES || buffer.getInt() != magic || buffer.get() != TraceFormat.VERSION) {
+            channel.close();
+            throw new IOException(NOT_A_TRACE_FILE_EXCEPTION);
+        }
+    }
+
+    int readTag() throws IOException {
+        fill();
+        return buffer.hasRemaining() ? buffer.get() : END_OF_TRACE;
+    }
+
+    int readByte() throws IOException {
+        if (!buffer.hasRemaining())
+            throw new EOFException(TRUNCATED_TRACE_FILE_EXCEPTION);
+        return buffer.get();
+    }
+
+    long readVarLong() throws IOException {
+        fill();
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int next = readByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0)
+                return value;
+        }
+    }
+
+    long readSignedVarLong() throws IOException {
+        return TraceFormat.unZigZag(readVarLong());
+    }
+
+    private void fill() throws IOException {
+        if (endOfFile || buffer.remaining() >= TraceFormat.MAXIMUM_RECORD_BYTES)
+            return;
+        buffer.compact();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,61 @@
+package mars.rover.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class TraceOutput implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(TraceFormat.BUFFER_BYTES);
+
+    TraceOutput(Path file, int magic) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(magic).put(TraceFormat.VERSION);
+    }
+
+    TraceOutput writeByte(int value) throws IOException {
+        reserve();
+        buffer.put((byte) value);
+        return this;
+    }
+
+    TraceOutput writeVarLong(long value) throws IOException {
+        reserve();
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+        return this;
+    }
+
+    TraceOutput writeSignedVarLong(long value) throws IOException {
+        return writeVarLong(TraceFormat.zigZag(value));
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void reserve() throws IOException {
+        if (buffer.remaining() < TraceFormat.MAXIMUM_RECORD_BYTES)
+            flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package mars.rover.validation;
+
+import mars.rover.metrics.MissionMetrics;
+import mars.rover.metrics.MissionPhaseEnum;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class BatchValidator implements AutoCloseable {
+
+    private final int parallelism;
+    private final int roboticRoversPerTask;
+    private final MissionMetrics metrics;
+    private final ForkJoinPool forkJoinPool;
+
+    private static final int DEFAULT_ROBOTIC_ROVERS_PER_TASK = 4096;
+    private static final int PLATEAU_GRID_INDEX = -1;
+
+    public BatchValidator(int parallelism) {
+        this(parallelism, DEFAULT_ROBOTIC_ROVERS_PER_TASK);
+    }
+
+    public BatchValidator(int parallelism, int roboticRoversPerTask) {
+        this(parallelism, roboticRoversPerTask, MissionMetrics.noOp());
+    }
+
+    public BatchValidator(int parallelism, int roboticRoversPerTask, MissionMetrics metrics) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+        if (roboticRoversPerTask < 1)
+            throw new IllegalArgumentException("Robotic rovers per task must be at least 1 but was " + roboticRoversPerTask);
+        this.parallelism = parallelism;
+        this.roboticRoversPerTask = roboticRoversPerTask;
+        this.metrics = metrics;
+        this.forkJoinPool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+    }
+
+    public ValidationReport validate(String plateauGrid, List<String> positions, List<String> commands) {
+        if (positions.size() != commands.size())
+            throw new IllegalArgumentException("Expected one command per robotic rover position but got "
+                    + positions.size() + " positions and " + commands.size() + " commands");
+
+        ValidationErrors plateauGridErrors = new ValidationErrors(1);
+        plateauGridErrors.add(PLATEAU_GRID_INDEX, MissionValidationRules.validatePlateauGrid(plateauGrid));
+        ValidationErrors roboticRoverErrors = validateRoboticRovers(positions, commands);
+        plateauGridErrors.addAll(roboticRoverErrors);
+        return plateauGridErrors.toReport(positions.size());
+    }
+
+    public ValidationReport validate(List<String> positions, List<String> commands) {
+        if (positions.size() != commands.size())
+            throw new IllegalArgumentException("Expected one command per robotic rover position but got "
+                    + positions.size() + " positions and " + commands.size() + " commands");
+        return validateRoboticRovers(positions, commands).toReport(positions.size());
+    }
+
+    private ValidationErrors validateRoboticRovers(List<String> positions, List<String> commands) {
+        long startNanos = System.nanoTime();
+        try {
+            return validateRoboticRoversInParallel(positions, commands);
+        } finally {
+            metrics.phaseCompleted(MissionPhaseEnum.VALIDATE, System.nanoTime() - startNanos);
+        }
+    }
+
+    private ValidationErrors validateRoboticRoversInParallel(List<String> positions, List<String> commands) {
+        if (parallelism == 1 || positions.size() <= roboticRoversPerTask)
+            return validateRange(positions, commands, 0, positions.size());
+
+        return forkJoinPool.invoke(new ValidateRoboticRoversTask(positions, commands, 0, positions.size()));
+    }
+
+    private static ValidationErrors validateRange(List<String> positions, List<String> commands, int from, int to) {
+        ValidationErrors errors = new ValidationErrors(0);
+        for (int index = from; index < to; index++) {
+            errors.add(index, MissionValidationRules.validatePosition(positions.get(index)));
+            errors.add(index, MissionValidationRules.validateCommand(commands.get(index)));
+        }
+        return errors;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void close() {
+        if (forkJoinPool != null)
+            forkJoinPool.shutdown();
+    }
+
+    private final class ValidateRoboticRoversTask extends RecursiveTask<ValidationErrors> {
+
+        private final List<String> positions;
+        private final List<String> commands;
+        private final int from;
+        private final int to;
+
+        ValidateRoboticRoversTask(List<String> positions, List<String> commands, int from, int to) {
+            this.positions = positions;
+            this.commands = commands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ValidationErrors compute() {
+            if (to - from <= roboticRoversPerTask)
+                return validateRange(positions, commands, from, to);
+
+            int middle = (from + to) >>> 1;
+            ValidateRoboticRoversTask right = new ValidateRoboticRoversTask(positions, commands, middle, to);
+            right.fork();
+            ValidationErrors errors = new ValidateRoboticRoversTask(positions, commands, from, middle).compute();
+            errors.addAll(right.join());
+            return errors;
+        }
+    }
+
+    private static final class ValidationErrors {
+
+        private int[] roboticRoverIndexes;
+        private byte[] errorCodes;
+        private int count;
+
+        ValidationErrors(int capacity) {
+            this.roboticRoverIndexes = new int[capacity];
+            this.errorCodes = new byte[capacity];
+        }
+
+        void add(int roboticRoverIndex, ValidationErrorEnum error) {
+            if (error == null)
+                return;
+            ensureCapacity(count + 1);
+            roboticRoverIndexes[count] = roboticRoverIndex;
+            errorCodes[count] = (byte) error.ordinal();
+            count++;
+        }
+
+        void addAll(ValidationErrors errors) {
+            if (errors.count == 0)
+                return;
+            ensureCapacity(count + errors.count);
+            System.arraycopy(errors.roboticRoverIndexes, 0, roboticRoverIndexes, count, errors.count);
+            System.arraycopy(errors.errorCodes, 0, errorCodes, count, errors.count);
+            count += errors.count;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= roboticRoverIndexes.length)
+                return;
+            int newCapacity = Math.max(capacity, Math.max(8, roboticRoverIndexes.length << 1));
+            roboticRoverIndexes = Arrays.copyOf(roboticRoverIndexes, newCapacity);
+            errorCodes = Arrays.copyOf(errorCodes, newCapacity);
+        }
+
+        ValidationReport toReport(int roboticRoverCount) {
+            return new ValidationReport(roboticRoverCount, Arrays.copyOf(roboticRoverIndexes, count),
+                    Arrays.copyOf(errorCodes, count), count);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package mars.rover.validation;
+
+import mars.rover.HeadingTable;
+import mars.rover.command.CommandProgram;
+import mars.rover.entity.Coordinate;
+
+public final class MissionValidationRules {
+
+    private static final int TWO = 2;
+    private static final int THREE = 3;
+    private static final char ONE_SPACE = ' ';
+
+    private MissionValidationRules() {
+    }
+
+    public static ValidationErrorEnum validatePlateauGrid(CharSequence plateauGrid) {
+        if (isEmpty(plateauGrid))
+            return ValidationErrorEnum.PROVIDE_PLATEAU_GRID;
+        int length = lengthWithoutTrailingSpaces(plateauGrid);
+        int firstSpace = indexOfSpace(plateauGrid, 0, length);
+        if (firstSpace < 0 || indexOfSpace(plateauGrid, firstSpace + 1, length) >= 0)
+            return ValidationErrorEnum.PLATEAU_GRID_DOES_NOT_CONTAIN_TWO_CHARACTERS_SEPARATED_BY_ONE_SPACE;
+        if (!containsOnlyDigits(plateauGrid, 0, firstSpace))
+            return ValidationErrorEnum.FIRST_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT;
+        if (!containsOnlyDigits(plateauGrid, firstSpace + 1, length))
+            return ValidationErrorEnum.SECOND_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT;
+        if (!Coordinate.isWithinTheMaximumCoordinate(plateauGrid, 0, firstSpace)
+                || !Coordinate.isWithinTheMaximumCoordinate(plateauGrid, firstSpace + 1, length))
+            return ValidationErrorEnum.PLATEAU_GRID_EXCEEDS_THE_MAXIMUM_SIZE;
+        return null;
+    }
+
+    public static ValidationErrorEnum validatePosition(CharSequence position) {
+        if (isEmpty(position))
+            return ValidationErrorEnum.PROVIDE_ROBOTIC_ROVER_POSITION;
+        int length = lengthWithoutTrailingSpaces(position);
+        int firstSpace = indexOfSpace(position, 0, length);
+        int secondSpace = firstSpace < 0 ? -1 : indexOfSpace(position, firstSpace + 1, length);
+        if (secondSpace < 0 || indexOfSpace(position, secondSpace + 1, length) >= 0)
+            return ValidationErrorEnum.POSITION_DOES_NOT_CONTAIN_THREE_CHARACTERS_SEPARATED_BY_ONE_SPACE;
+        if (!containsOnlyDigits(position, 0, firstSpace))
+            return ValidationErrorEnum.FIRST_CHARACTER_IN_POSITION_IS_NOT_A_DIGIT;
+        if (!containsOnlyDigits(position, firstSpace + 1, secondSpace))
+            return ValidationErrorEnum.SECOND_CHARACTER_IN_POSITION_IS_NOT_A_DIGIT;
+        if (!Coordinate.isWithinTheMaximumCoordinate(position, 0, firstSpace)
+                || !Coordinate.isWithinTheMaximumCoordinate(position, firstSpace + 1, secondSpace))
+            return ValidationErrorEnum.POSITION_EXCEEDS_THE_MAXIMUM_COORDINATE;
+        if (length - secondSpace != TWO || HeadingTable.headingOf(position.charAt(secondSpace + 1)) == HeadingTable.INVALID)
+            return ValidationErrorEnum.THIRD_CHARACTER_IS_NOT_A_VALID_CARDINAL_COMPASS_POINT;
+        return null;
+    }
+
+    public static ValidationErrorEnum validateCommand(CharSequence command) {
+        if (isEmpty(command))
+            return ValidationErrorEnum.PROVIDE_ROBOTIC_ROVER_COMMAND;
+        int length = CommandProgram.measure(command);
+        if (length == CommandProgram.INVALID_COMMAND)
+            return ValidationErrorEnum.INVALID_ROBOTIC_ROVER_COMMAND;
+        if (length == CommandProgram.COMMAND_TOO_LONG)
+            return ValidationErrorEnum.ROBOTIC_ROVER_COMMAND_EXCEEDS_THE_MAXIMUM_LENGTH;
+        return null;
+    }
+
+    private static boolean isEmpty(CharSequence value) {
+        if (value == null)
+            return true;
+        for (int index = 0; index < value.length(); index++) {
+            if (value.charAt(index) > ONE_SPACE)
+                return false;
+        }
+        return true;
+    }
+
+    private static int lengthWithoutTrailingSpaces(CharSequence value) {
+        int length = value.length();
+        while (length > 0 && value.charAt(length - 1) == ONE_SPACE) {
+            length--;
+        }
+        return length;
+    }
+
+    private static int indexOfSpace(CharSequence value, int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (value.charAt(index) == ONE_SPACE)
+                return index;
+        }
+        return -1;
+    }
+
+    private static boolean containsOnlyDigits(CharSequence value, int from, int to) {
+        if (from >= to)
+            return false;
+        for (int index = from; index < to; index++) {
+            char character = value.charAt(index);
+            if (character < '0' || character > '9')
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package mars.rover.validation;
+
+public enum ValidationErrorEnum {
+
+    PROVIDE_PLATEAU_GRID(ValidationFieldEnum.PLATEAU_GRID, "Please provide a plateau grid."),
+    PLATEAU_GRID_DOES_NOT_CONTAIN_TWO_CHARACTERS_SEPARATED_BY_ONE_SPACE(ValidationFieldEnum.PLATEAU_GRID, "Please make sure the plateau grid contains 2 characters separated by one space."),
+    FIRST_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT(ValidationFieldEnum.PLATEAU_GRID, "Please make sure the first character in the plateau grid is a digit."),
+    SECOND_CHARACTER_IN_PLATEAU_GRID_IS_NOT_A_DIGIT(ValidationFieldEnum.PLATEAU_GRID, "Please make sure the second character in the plateau grid is a digit."),
+    PLATEAU_GRID_EXCEEDS_THE_MAXIMUM_SIZE(ValidationFieldEnum.PLATEAU_GRID, "Please make sure the plateau grid does not exceed 4611686018427387904 on either side."),
+    PROVIDE_ROBOTIC_ROVER_POSITION(ValidationFieldEnum.POSITION, "Please provide robotic rover position."),
+    POSITION_DOES_NOT_CONTAIN_THREE_CHARACTERS_SEPARATED_BY_ONE_SPACE(ValidationFieldEnum.POSITION, "Please make sure the robotic rover position contains 3 characters separated by one space."),
+    FIRST_CHARACTER_IN_POSITION_IS_NOT_A_DIGIT(ValidationFieldEnum.POSITION, "Please make sure the first character in the robotic rover position is a digit."),
+    SECOND_CHARACTER_IN_POSITION_IS_NOT_A_DIGIT(ValidationFieldEnum.POSITION, "Please make sure the second character in the robotic rover position is a digit."),
+    POSITION_EXCEEDS_THE_MAXIMUM_COORDINATE(ValidationFieldEnum.POSITION, "Please make sure the robotic rover position does not exceed 4611686018427387904."),
+    THIRD_CHARACTER_IS_NOT_A_VALID_CARDINAL_COMPASS_POINT(ValidationFieldEnum.POSITION, "Please make sure the third character in the robotic rover position is a valid cardinal compass point."),
+    PROVIDE_ROBOTIC_ROVER_COMMAND(ValidationFieldEnum.COMMAND, "Please provide robotic rover command."),
+    INVALID_ROBOTIC_ROVER_COMMAND(ValidationFieldEnum.COMMAND, "Please provide a valid robotic rover command."),
+    ROBOTIC_ROVER_COMMAND_EXCEEDS_THE_MAXIMUM_LENGTH(ValidationFieldEnum.COMMAND, "Please make sure the robotic rover command does not expand to more than 2147483647 commands.");
+
+    private ValidationFieldEnum field;
+    private String message;
+
+    ValidationErrorEnum(ValidationFieldEnum field, String message) {
+        this.field = field;
+        this.message = message;
+    }
+
+    public ValidationFieldEnum getField() {
+        return field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,8 @@
+package mars.rover.validation;
+
+public enum ValidationFieldEnum {
+
+    PLATEAU_GRID,
+    POSITION,
+    COMMAND
+}
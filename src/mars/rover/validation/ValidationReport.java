@@ -0,0 +1,59 @@
+package mars.rover.validation;
+
+public class ValidationReport {
+
+    private static final ValidationErrorEnum[] ERRORS = ValidationErrorEnum.values();
+
+    private final int roboticRoverCount;
+    private final int[] roboticRoverIndexes;
+    private final byte[] errorCodes;
+    private final int errorCount;
+
+    ValidationReport(int roboticRoverCount, int[] roboticRoverIndexes, byte[] errorCodes, int errorCount) {
+        this.roboticRoverCount = roboticRoverCount;
+        this.roboticRoverIndexes = roboticRoverIndexes;
+        this.errorCodes = errorCodes;
+        this.errorCount = errorCount;
+    }
+
+    public boolean isValid() {
+        return errorCount == 0;
+    }
+
+    public int getRoboticRoverCount() {
+        return roboticRoverCount;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public int roboticRoverIndexAt(int errorIndex) {
+        checkErrorIndex(errorIndex);
+        return roboticRoverIndexes[errorIndex];
+    }
+
+    public ValidationErrorEnum errorAt(int errorIndex) {
+        checkErrorIndex(errorIndex);
+        return ERRORS[errorCodes[errorIndex]];
+    }
+
+    public ValidationFieldEnum fieldAt(int errorIndex) {
+        return errorAt(errorIndex).getField();
+    }
+
+    private void checkErrorIndex(int errorIndex) {
+        if (errorIndex < 0 || errorIndex >= errorCount)
+            throw new IndexOutOfBoundsException("Error " + errorIndex + " of " + errorCount);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int errorIndex = 0; errorIndex < errorCount; errorIndex++) {
+            builder.append("Robotic rover ").append(roboticRoverIndexes[errorIndex]).append(": ")
+                    .append(ERRORS[errorCodes[errorIndex]].getMessage()).append('\n');
+        }
+        return builder.toString();
+    }
+}